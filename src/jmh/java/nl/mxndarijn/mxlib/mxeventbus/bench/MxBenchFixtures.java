@@ -0,0 +1,153 @@
+package nl.mxndarijn.mxlib.mxeventbus.bench;
+
+import nl.mxndarijn.mxlib.configfiles.MxConfigFileType;
+import nl.mxndarijn.mxlib.mxeventbus.core.MxCancellationState;
+import nl.mxndarijn.mxlib.mxeventbus.core.MxDefaultCancellation;
+import nl.mxndarijn.mxlib.mxeventbus.core.MxPriority;
+import nl.mxndarijn.mxlib.mxeventbus.game.MxGameEvent;
+import nl.mxndarijn.mxlib.mxeventbus.game.MxHasActor;
+import nl.mxndarijn.mxlib.mxeventbus.game.MxIActorResolver;
+import nl.mxndarijn.mxlib.mxeventbus.game.MxIApplicableTo;
+import nl.mxndarijn.mxlib.mxeventbus.game.MxIGameState;
+import nl.mxndarijn.mxlib.mxeventbus.global.MxGlobalEvent;
+import nl.mxndarijn.mxlib.mxeventbus.global.MxWorldType;
+
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Synthetic events, guard modes and resolvers for the event-bus benchmarks.
+ *
+ * <p>Nothing in here touches a running server: events carry fixed values, the actor resolver
+ * returns a constant role and the config file type is never loaded, so the benchmarks run
+ * offline on a plain JVM.</p>
+ */
+public final class MxBenchFixtures {
+
+    private MxBenchFixtures() {
+    }
+
+    /** Config file type handed to the buses; never read because logged events are not loaded. */
+    public static final MxConfigFileType CONFIG = new MxConfigFileType() {
+        @Override
+        public String fileName() {
+            return "bench.yml";
+        }
+
+        @Override
+        public String path() {
+            return "bench.yml";
+        }
+
+        @Override
+        public boolean autoSave() {
+            return false;
+        }
+    };
+
+    /** Game states used by the synthetic game events. */
+    public enum BenchState implements MxIGameState {
+        LOBBY,
+        PLAYING
+    }
+
+    /** Actor roles returned by {@link BenchActorResolver}. */
+    public enum BenchRole implements MxIApplicableTo {
+        PLAYER,
+        SPECTATOR
+    }
+
+    /**
+     * How handler priorities are assigned.
+     */
+    public enum PriorityMix {
+        /** Every handler runs at {@link MxPriority#NORMAL}. */
+        UNIFORM,
+        /** Handlers cycle through all priorities, including {@link MxPriority#MONITOR}. */
+        MIXED;
+
+        /**
+         * Returns the priority for the handler at the given index.
+         *
+         * @param index the zero-based handler index
+         * @return the priority to register the handler with
+         */
+        public MxPriority priorityOf(int index) {
+            if (this == UNIFORM) return MxPriority.NORMAL;
+            MxPriority[] all = MxPriority.values();
+            return all[index % all.length];
+        }
+    }
+
+    /**
+     * How handler guards are configured.
+     */
+    public enum GuardMode {
+        /** No state, target or world restrictions. */
+        NONE,
+        /** Every handler has a restriction that the benchmark event satisfies. */
+        MATCHING,
+        /** Every other handler has a restriction that the benchmark event fails. */
+        FILTERED;
+
+        /**
+         * Returns the allowed set for the handler at the given index.
+         *
+         * @param <V>      the guarded value type
+         * @param index    the zero-based handler index
+         * @param match    the value the benchmark event carries
+         * @param mismatch a value the benchmark event does not carry
+         * @return the allowed set; empty means unrestricted
+         */
+        public <V extends Enum<V>> Set<V> allowed(int index, V match, V mismatch) {
+            return switch (this) {
+                case NONE -> EnumSet.noneOf(match.getDeclaringClass());
+                case MATCHING -> EnumSet.of(match);
+                case FILTERED -> EnumSet.of(index % 2 == 0 ? match : mismatch);
+            };
+        }
+    }
+
+    /**
+     * Actor resolver that maps every UUID to the same role without any lookup.
+     */
+    public static final class BenchActorResolver implements MxIActorResolver<BenchRole> {
+
+        private final Optional<BenchRole> role = Optional.of(BenchRole.PLAYER);
+
+        @Override
+        public Optional<BenchRole> resolve(UUID uuid) {
+            return role;
+        }
+    }
+
+    /** Game event in the {@link BenchState#PLAYING} state with a fixed actor. */
+    public static class BenchGameEvent extends MxGameEvent<BenchState> implements MxHasActor {
+
+        private static final Optional<UUID> ACTOR = Optional.of(new UUID(0L, 1L));
+
+        public BenchGameEvent() {
+            super(BenchState.PLAYING);
+        }
+
+        @Override
+        public Optional<UUID> getActor() {
+            return ACTOR;
+        }
+    }
+
+    /** {@link BenchGameEvent} that starts out hard-denied, so cancellation-aware handlers are skipped. */
+    @MxDefaultCancellation(MxCancellationState.HARD_DENY)
+    public static class BenchDeniedGameEvent extends BenchGameEvent {
+    }
+
+    /** Global event in the {@link MxWorldType#SPAWN} world type. */
+    public static final class BenchGlobalEvent extends MxGlobalEvent<MxWorldType> {
+
+        public BenchGlobalEvent() {
+            super(MxWorldType.SPAWN);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package nl.mxndarijn.mxlib.mxeventbus.bench;
+
+import nl.mxndarijn.mxlib.logger.MxLogLevel;
+import nl.mxndarijn.mxlib.logger.MxLogger;
+import nl.mxndarijn.mxlib.mxeventbus.bench.MxBenchFixtures.BenchActorResolver;
+import nl.mxndarijn.mxlib.mxeventbus.bench.MxBenchFixtures.BenchDeniedGameEvent;
+import nl.mxndarijn.mxlib.mxeventbus.bench.MxBenchFixtures.BenchGameEvent;
+import nl.mxndarijn.mxlib.mxeventbus.bench.MxBenchFixtures.BenchRole;
+import nl.mxndarijn.mxlib.mxeventbus.bench.MxBenchFixtures.BenchState;
+import nl.mxndarijn.mxlib.mxeventbus.bench.MxBenchFixtures.GuardMode;
+import nl.mxndarijn.mxlib.mxeventbus.bench.MxBenchFixtures.PriorityMix;
+import nl.mxndarijn.mxlib.mxeventbus.core.MxBaseContext;
+import nl.mxndarijn.mxlib.mxeventbus.core.MxCancellationState;
+import nl.mxndarijn.mxlib.mxeventbus.core.MxPriority;
+import nl.mxndarijn.mxlib.mxeventbus.game.MxGameEvent;
+import nl.mxndarijn.mxlib.mxeventbus.game.MxGameEventBus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput and allocation of {@link MxGameEventBus#post(MxGameEvent)}.
+ *
+ * <p>The benchmark event carries an actor, so every post with target restrictions also exercises
+ * actor resolution through {@link BenchActorResolver}. Run with {@code ./gradlew jmh}; results are
+ * written as JSON to {@code build/results/jmh/results.json}.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MxGameEventBusBenchmark {
+
+    /** Number of handlers registered for the benchmark event. */
+    @Param({"1", "8", "32"})
+    public int handlers;
+
+    /** How the handlers are spread over the priorities. */
+    @Param({"UNIFORM", "MIXED"})
+    public PriorityMix priorities;
+
+    /** Which state and target restrictions the handlers carry. */
+    @Param({"NONE", "MATCHING", "FILTERED"})
+    public GuardMode guards;
+
+    /** Whether the event is in the logged-events set, so every post builds a trace. */
+    @Param({"false", "true"})
+    public boolean traced;
+
+    /** Whether the event starts out hard-denied, so cancellation-aware handlers are skipped. */
+    @Param({"false", "true"})
+    public boolean cancelled;
+
+    private MxGameEventBus<BenchState, BenchRole> bus;
+    private BenchGameEvent event;
+    private int sink;
+
+    @Setup
+    public void setup() {
+        // Keep trace output away from the (absent) server console.
+        MxLogger.setLogLevel(MxLogLevel.FATAL);
+        bus = new MxGameEventBus<>(new BenchActorResolver(), MxBenchFixtures.CONFIG) {
+            @Override
+            public void saveLoggedEvents() {
+                // Nothing to persist to outside a server.
+            }
+        };
+        if (cancelled) {
+            event = new BenchDeniedGameEvent();
+            registerHandlers(BenchDeniedGameEvent.class);
+        } else {
+            event = new BenchGameEvent();
+            registerHandlers(BenchGameEvent.class);
+        }
+        if (traced) {
+            bus.addLoggedEvent(event.getClass().getSimpleName());
+        }
+    }
+
+    private <T extends BenchGameEvent> void registerHandlers(Class<T> eventType) {
+        for (int i = 0; i < handlers; i++) {
+            MxPriority priority = priorities.priorityOf(i);
+            boolean submits = priority != MxPriority.MONITOR && i % 4 == 0;
+            bus.register(eventType, "handler-" + i, priority,
+                    guards.allowed(i, BenchState.PLAYING, BenchState.LOBBY),
+                    guards.allowed(i, BenchRole.PLAYER, BenchRole.SPECTATOR),
+                    i % 2 == 1,
+                    submits
+                            ? ctx -> ctx.submitVerdict(MxCancellationState.SOFT_ALLOW)
+                            : ctx -> sink += ctx.isCancelled() ? 1 : 0);
+        }
+    }
+
+    @Benchmark
+    public MxBaseContext<MxGameEvent<BenchState>> post() {
+        return bus.post(event);
+    }
+}
@@ -0,0 +1,96 @@
+package nl.mxndarijn.mxlib.mxeventbus.bench;
+
+import nl.mxndarijn.mxlib.logger.MxLogLevel;
+import nl.mxndarijn.mxlib.logger.MxLogger;
+import nl.mxndarijn.mxlib.mxeventbus.bench.MxBenchFixtures.BenchGlobalEvent;
+import nl.mxndarijn.mxlib.mxeventbus.bench.MxBenchFixtures.GuardMode;
+import nl.mxndarijn.mxlib.mxeventbus.bench.MxBenchFixtures.PriorityMix;
+import nl.mxndarijn.mxlib.mxeventbus.core.MxBaseContext;
+import nl.mxndarijn.mxlib.mxeventbus.core.MxCancellationState;
+import nl.mxndarijn.mxlib.mxeventbus.core.MxPriority;
+import nl.mxndarijn.mxlib.mxeventbus.global.MxGlobalEvent;
+import nl.mxndarijn.mxlib.mxeventbus.global.MxGlobalEventBus;
+import nl.mxndarijn.mxlib.mxeventbus.global.MxWorldType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.EnumSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput and allocation of {@link MxGlobalEventBus#post(MxGlobalEvent)}.
+ *
+ * <p>Run with {@code ./gradlew jmh}; the GC profiler reports bytes allocated per post and the
+ * results are written as JSON to {@code build/results/jmh/results.json}.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MxGlobalEventBusBenchmark {
+
+    /** Number of handlers registered for the benchmark event. */
+    @Param({"1", "8", "32"})
+    public int handlers;
+
+    /** How the handlers are spread over the priorities. */
+    @Param({"UNIFORM", "MIXED"})
+    public PriorityMix priorities;
+
+    /** Which world-type restrictions the handlers carry. */
+    @Param({"NONE", "MATCHING", "FILTERED"})
+    public GuardMode guards;
+
+    /** Whether the event is in the logged-events set, so every post builds a trace. */
+    @Param({"false", "true"})
+    public boolean traced;
+
+    /** Whether a LOWEST handler hard-denies the event, so cancellation-aware MONITOR handlers are skipped. */
+    @Param({"false", "true"})
+    public boolean cancelled;
+
+    private MxGlobalEventBus<MxWorldType> bus;
+    private BenchGlobalEvent event;
+    private int sink;
+
+    @Setup
+    public void setup() {
+        // Keep trace output away from the (absent) server console.
+        MxLogger.setLogLevel(MxLogLevel.FATAL);
+        bus = new MxGlobalEventBus<>(MxWorldType.GAME, MxBenchFixtures.CONFIG) {
+            @Override
+            public void saveLoggedEvents() {
+                // Nothing to persist to outside a server.
+            }
+        };
+        event = new BenchGlobalEvent();
+
+        if (cancelled) {
+            bus.register(BenchGlobalEvent.class, "deny", MxPriority.LOWEST, EnumSet.noneOf(MxWorldType.class), false,
+                    ctx -> ctx.submitVerdict(MxCancellationState.HARD_DENY), null);
+        }
+        for (int i = 0; i < handlers; i++) {
+            MxPriority priority = priorities.priorityOf(i);
+            boolean submits = priority != MxPriority.MONITOR && i % 4 == 0;
+            bus.register(BenchGlobalEvent.class, "handler-" + i, priority,
+                    guards.allowed(i, MxWorldType.SPAWN, MxWorldType.MAP), i % 2 == 1,
+                    submits
+                            ? ctx -> ctx.submitVerdict(MxCancellationState.SOFT_ALLOW)
+                            : ctx -> sink += ctx.isCancelled() ? 1 : 0,
+                    null);
+        }
+        if (traced) {
+            bus.addLoggedEvent(BenchGlobalEvent.class.getSimpleName());
+        }
+    }
+
+    @Benchmark
+    public MxBaseContext<MxGlobalEvent<MxWorldType>> post() {
+        return bus.post(event);
+    }
+}
@@ -0,0 +1,110 @@
+package nl.mxndarijn.mxlib.mxworld.snapshot.bench;
+
+import nl.mxndarijn.mxlib.mxworld.snapshot.MxRegion;
+import nl.mxndarijn.mxlib.mxworld.snapshot.MxRegionProgress;
+import nl.mxndarijn.mxlib.mxworld.snapshot.MxRegionSnapshot;
+import nl.mxndarijn.mxlib.mxworld.snapshot.MxRegionSnapshotEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of {@link MxRegionSnapshotEngine} snapshots, rollbacks and snapshot files against
+ * {@link MxSyntheticRegionWorld}.
+ *
+ * <p>Async work runs on the calling thread and {@link MxRegionSnapshotEngine#tick()} is called until
+ * a rollback finishes, so each invocation measures the full operation including the diff.</p>
+ *
+ * <p>Run with {@code ./gradlew jmh}; results are written as JSON to
+ * {@code build/results/jmh/results.json}.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MxRegionSnapshotBenchmark {
+
+    /** Edge length of the cubic region, in blocks. */
+    @Param({"32", "128"})
+    public int size;
+
+    /** Number of distinct non-air block states in the terrain. */
+    @Param({"8", "200"})
+    public int states;
+
+    /** Percentage of region blocks changed before each rollback. */
+    @Param({"1", "25"})
+    public int changedPercent;
+
+    private MxSyntheticRegionWorld world;
+    private MxRegionSnapshotEngine<Integer> engine;
+    private MxRegion region;
+    private MxRegionSnapshot<Integer> snapshot;
+    private byte[] file;
+    private long[] edits;
+
+    @Setup
+    public void setup() throws IOException {
+        world = new MxSyntheticRegionWorld(states, 42L);
+        engine = new MxRegionSnapshotEngine<>(world, Runnable::run, MxRegionSnapshotEngine.DEFAULT_TICK_BUDGET_NANOS);
+        region = MxRegion.of(0, 0, 0, size - 1, size - 1, size - 1);
+        snapshot = engine.snapshot(region).getFuture().join();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        snapshot.writeTo(out, world::serialize);
+        file = out.toByteArray();
+
+        SplittableRandom random = new SplittableRandom(7L);
+        edits = new long[(int) ((long) region.getVolume() * changedPercent / 100)];
+        for (int i = 0; i < edits.length; i++) {
+            edits[i] = ((long) random.nextInt(size) << 40) | ((long) random.nextInt(size) << 20) | random.nextInt(size);
+        }
+    }
+
+    /** Dirties the region so every rollback has the same amount of work. */
+    @Setup(Level.Invocation)
+    public void grief() {
+        for (long edit : edits) {
+            world.setBlock((int) (edit >>> 40), (int) (edit >>> 20) & 0xFFFFF, (int) edit & 0xFFFFF, -1);
+        }
+    }
+
+    @Benchmark
+    public MxRegionSnapshot<Integer> snapshot() {
+        return engine.snapshot(region).getFuture().join();
+    }
+
+    @Benchmark
+    public int rollback() {
+        MxRegionProgress<Integer> progress = engine.rollback(snapshot);
+        int ticks = 0;
+        while (!progress.isDone()) {
+            engine.tick();
+            ticks++;
+        }
+        return progress.getFuture().join() + ticks;
+    }
+
+    @Benchmark
+    public byte[] write() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(file.length);
+        snapshot.writeTo(out, world::serialize);
+        return out.toByteArray();
+    }
+
+    @Benchmark
+    public MxRegionSnapshot<Integer> read() throws IOException {
+        return MxRegionSnapshot.readFrom(new ByteArrayInputStream(file), world::deserialize);
+    }
+}
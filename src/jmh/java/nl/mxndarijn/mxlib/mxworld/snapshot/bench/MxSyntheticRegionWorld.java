@@ -0,0 +1,99 @@
+package nl.mxndarijn.mxlib.mxworld.snapshot.bench;
+
+import nl.mxndarijn.mxlib.mxworld.snapshot.MxChunkView;
+import nl.mxndarijn.mxlib.mxworld.snapshot.MxRegionWorld;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * In-memory {@link MxRegionWorld} for the region snapshot benchmarks.
+ *
+ * <p>Block states are plain {@link Integer}s: a layered terrain of {@code 0} (air) above a few
+ * "materials", sprinkled with random states so the palette is realistic. Captured chunks are
+ * copies, like a {@code ChunkSnapshot}, so edits made after a capture are not visible to it.</p>
+ */
+public final class MxSyntheticRegionWorld implements MxRegionWorld<Integer> {
+
+    /** Lowest block y of the model. */
+    public static final int MIN_Y = -64;
+    /** Number of block layers in the model. */
+    public static final int HEIGHT = 384;
+
+    private final Map<Long, int[]> chunks = new HashMap<>();
+    private final int distinctStates;
+    private final long seed;
+
+    /**
+     * Creates a world whose terrain uses roughly the given number of block states.
+     *
+     * @param distinctStates the number of non-air states to sprinkle in
+     * @param seed           the terrain seed
+     */
+    public MxSyntheticRegionWorld(int distinctStates, long seed) {
+        this.distinctStates = distinctStates;
+        this.seed = seed;
+    }
+
+    @Override
+    public CompletableFuture<MxChunkView<Integer>> captureChunk(int chunkX, int chunkZ) {
+        int[] copy = chunk(chunkX, chunkZ).clone();
+        return CompletableFuture.completedFuture((localX, y, localZ) -> copy[index(localX, y, localZ)]);
+    }
+
+    @Override
+    public void setBlock(int x, int y, int z, Integer state) {
+        chunk(x >> 4, z >> 4)[index(x & 15, y, z & 15)] = state;
+    }
+
+    /**
+     * Returns the current state of a block.
+     *
+     * @param x the block x coordinate
+     * @param y the block y coordinate
+     * @param z the block z coordinate
+     * @return the state
+     */
+    public int getBlock(int x, int y, int z) {
+        return chunk(x >> 4, z >> 4)[index(x & 15, y, z & 15)];
+    }
+
+    @Override
+    public String serialize(Integer state) {
+        return "state:" + state;
+    }
+
+    @Override
+    public Integer deserialize(String data) {
+        return Integer.parseInt(data.substring("state:".length()));
+    }
+
+    private int[] chunk(int chunkX, int chunkZ) {
+        return chunks.computeIfAbsent(((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL), key -> generate(key));
+    }
+
+    private int[] generate(long key) {
+        SplittableRandom random = new SplittableRandom(seed ^ key * 0x9E3779B97F4A7C15L);
+        int[] blocks = new int[16 * 16 * HEIGHT];
+        for (int y = 0; y < HEIGHT; y++) {
+            for (int i = 0; i < 256; i++) {
+                int state;
+                if (y > 128) {
+                    state = 0;
+                } else if (random.nextInt(16) == 0) {
+                    state = 1 + random.nextInt(distinctStates);
+                } else {
+                    state = 1 + y % 4;
+                }
+                blocks[y * 256 + i] = state;
+            }
+        }
+        return blocks;
+    }
+
+    private static int index(int localX, int y, int localZ) {
+        return (y - MIN_Y) * 256 + localZ * 16 + localX;
+    }
+}
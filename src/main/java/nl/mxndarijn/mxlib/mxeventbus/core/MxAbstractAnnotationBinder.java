@@ -1,8 +1,20 @@
 package nl.mxndarijn.mxlib.mxeventbus.core;
 
+import nl.mxndarijn.mxlib.logger.MxLogLevel;
+import nl.mxndarijn.mxlib.logger.MxLogger;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Shared scanning and validation logic for annotation-driven event-bus binders.
@@ -11,10 +23,33 @@ import java.lang.reflect.Type;
  * guard resolution and handler registration after the common signature checks
  * performed here.</p>
  *
+ * <p><b>Handler invocation</b></p>
+ * <p>{@link #createInvoker(Class, Object, Method)} turns a handler method into an instance of the
+ * bus's functional handler interface. It first spins a direct implementation with
+ * {@link LambdaMetafactory}, which the JIT can inline like a hand-written lambda. If that is not
+ * possible (for example when the listener lives in another plugin's class loader and no
+ * full-privilege lookup can be obtained) it falls back to a bound {@link MethodHandle}, and as a
+ * last resort to reflective {@link Method#invoke}.</p>
+ *
  * @param <B> the concrete bus type this binder targets
  */
 public abstract class MxAbstractAnnotationBinder<B> {
 
+    /**
+     * {@link MxSubscribe}-annotated methods declared by each listener class, scanned once per
+     * class so that binding further instances of the same listener skips the reflection.
+     */
+    private static final ClassValue<Method[]> SUBSCRIBED_METHODS = new ClassValue<>() {
+        @Override
+        protected Method[] computeValue(Class<?> type) {
+            List<Method> subscribed = new ArrayList<>();
+            for (Method method : type.getDeclaredMethods()) {
+                if (method.isAnnotationPresent(MxSubscribe.class)) subscribed.add(method);
+            }
+            return subscribed.toArray(new Method[0]);
+        }
+    };
+
     /**
      * Default constructor for subclasses.
      */
@@ -33,8 +68,7 @@ public abstract class MxAbstractAnnotationBinder<B> {
     public final void doBind(B bus, Object listener) {
         if (bus == null) throw new IllegalArgumentException("bus must not be null");
         if (listener == null) throw new IllegalArgumentException("listener must not be null");
-        for (Method method : listener.getClass().getDeclaredMethods()) {
-            if (!method.isAnnotationPresent(MxSubscribe.class)) continue;
+        for (Method method : SUBSCRIBED_METHODS.get(listener.getClass())) {
             validateSignature(method, listener.getClass().getSimpleName());
             registerHandler(bus, listener, method);
         }
@@ -83,13 +117,143 @@ public abstract class MxAbstractAnnotationBinder<B> {
         }
     }
 
+    /**
+     * Creates an instance of {@code handlerType} that invokes {@code method} on {@code listener}.
+     *
+     * <p>{@code handlerType} must be a functional interface whose single abstract method takes one
+     * context parameter and returns {@code void}. The returned invoker propagates exceptions and
+     * errors thrown by the handler method unchanged; the bus's {@code invokeHandler} catches and
+     * logs all of them.</p>
+     *
+     * @param <F>         the functional handler interface type
+     * @param handlerType the functional handler interface; must not be {@code null}
+     * @param listener    the listener object owning the method; must not be {@code null}
+     * @param method      the validated handler method; must not be {@code null}
+     * @return the invoker; never {@code null}
+     */
+    protected final <F> F createInvoker(Class<F> handlerType, Object listener, Method method) {
+        Method sam = findSingleAbstractMethod(handlerType);
+        MethodHandles.Lookup lookup;
+        MethodHandle target;
+        try {
+            lookup = MethodHandles.privateLookupIn(method.getDeclaringClass(), MethodHandles.lookup());
+            target = lookup.unreflect(method);
+        } catch (IllegalAccessException | SecurityException ex) {
+            MxLogger.logMessage(MxLogLevel.DEBUG, "[MxEventBus] No method handle access to "
+                    + methodRef(method) + ", using reflective invocation: " + ex.getMessage());
+            return reflectiveInvoker(handlerType, sam, listener, method);
+        }
+
+        boolean isStatic = Modifier.isStatic(method.getModifiers());
+        try {
+            MethodType factoryType = isStatic
+                    ? MethodType.methodType(handlerType)
+                    : MethodType.methodType(handlerType, method.getDeclaringClass());
+            CallSite site = LambdaMetafactory.metafactory(
+                    lookup,
+                    sam.getName(),
+                    factoryType,
+                    MethodType.methodType(sam.getReturnType(), sam.getParameterTypes()),
+                    target,
+                    MethodType.methodType(void.class, method.getParameterTypes()[0]));
+            Object invoker = isStatic ? site.getTarget().invoke() : site.getTarget().invoke(listener);
+            return handlerType.cast(invoker);
+        } catch (Throwable ex) {
+            MxLogger.logMessage(MxLogLevel.DEBUG, "[MxEventBus] Could not spin lambda for "
+                    + methodRef(method) + ", using method handle: " + ex.getMessage());
+        }
+
+        MethodHandle bound = (isStatic ? target : target.bindTo(listener))
+                .asType(MethodType.methodType(void.class, Object.class));
+        return proxy(handlerType, sam, ctx -> {
+            try {
+                bound.invokeExact(ctx);
+            } catch (Exception | Error ex) {
+                throw ex;
+            } catch (Throwable t) {
+                throw new RuntimeException(t);
+            }
+        });
+    }
+
+    /**
+     * Builds an invoker that calls {@code method} through {@link Method#invoke}.
+     * Used only when no method handle can be obtained for the handler method.
+     */
+    private <F> F reflectiveInvoker(Class<F> handlerType, Method sam, Object listener, Method method) {
+        method.setAccessible(true);
+        return proxy(handlerType, sam, ctx -> {
+            try {
+                method.invoke(listener, ctx);
+            } catch (InvocationTargetException ite) {
+                Throwable cause = ite.getCause();
+                if (cause instanceof RuntimeException re) throw re;
+                throw new RuntimeException(cause);
+            }
+        });
+    }
+
+    /**
+     * Adapts a {@link ContextConsumer} to {@code handlerType} by spinning a lambda over
+     * {@link ContextConsumer#accept(Object)} in this (MxLib-owned) class, which always has
+     * full-privilege access to itself.
+     */
+    private static <F> F proxy(Class<F> handlerType, Method sam, ContextConsumer consumer) {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            CallSite site = LambdaMetafactory.metafactory(
+                    lookup,
+                    sam.getName(),
+                    MethodType.methodType(handlerType, ContextConsumer.class),
+                    MethodType.methodType(sam.getReturnType(), sam.getParameterTypes()),
+                    lookup.findVirtual(ContextConsumer.class, "accept",
+                            MethodType.methodType(void.class, Object.class)),
+                    MethodType.methodType(sam.getReturnType(), sam.getParameterTypes()));
+            return handlerType.cast(site.getTarget().invoke(consumer));
+        } catch (Throwable ex) {
+            throw new IllegalStateException("Cannot adapt handler to " + handlerType.getName(), ex);
+        }
+    }
+
+    /**
+     * Returns the single abstract method of a functional interface.
+     *
+     * @throws IllegalArgumentException if {@code type} is not a functional interface
+     */
+    private static Method findSingleAbstractMethod(Class<?> type) {
+        Method found = null;
+        for (Method m : type.getMethods()) {
+            if (!Modifier.isAbstract(m.getModifiers())) continue;
+            if (found != null) {
+                throw new IllegalArgumentException(type.getName() + " is not a functional interface");
+            }
+            found = m;
+        }
+        if (found == null || found.getParameterCount() != 1) {
+            throw new IllegalArgumentException(type.getName() + " is not a single-context handler interface");
+        }
+        return found;
+    }
+
+    private static String methodRef(Method method) {
+        return method.getDeclaringClass().getSimpleName() + "#" + method.getName();
+    }
+
+    /**
+     * Erased handler shape used by the method-handle and reflective fallbacks.
+     */
+    @FunctionalInterface
+    private interface ContextConsumer {
+        void accept(Object ctx) throws Exception;
+    }
+
     /**
      * Performs bus-specific context-type validation, guard resolution, and handler registration.
      * Called once per valid {@link MxSubscribe}-annotated method after common signature validation.
      *
      * @param bus      the event bus to register into
      * @param listener the listener object owning the method
-     * @param method   the validated handler method (not yet made accessible)
+     * @param method   the validated handler method; pass it to {@link #createInvoker} to obtain the invoker
      */
     protected abstract void registerHandler(B bus, Object listener, Method method);
 
@@ -6,6 +6,7 @@ import nl.mxndarijn.mxlib.logger.MxLogLevel;
 import nl.mxndarijn.mxlib.logger.MxLogger;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Generic abstract base for annotation-driven event buses.
@@ -14,9 +15,16 @@ import java.util.*;
  * dispatch pipeline (non-MONITOR → resolution → MONITOR) used by both
  * the game pipeline and the global pipeline.</p>
  *
+ * <p><b>Threading</b></p>
+ * <p>{@link #post} may be called from any thread (Paper fires {@code AsyncChatEvent} off the
+ * main thread) and never takes a lock: it only reads the immutable {@link MxDispatchPlan} that is
+ * currently published for the event class. Registration, unregistration and changes to the
+ * logged-events set are serialised on an internal lock and publish a freshly compiled plan, so a
+ * concurrent post sees either the old or the new handler set, never a partially updated one.</p>
+ *
  * <p>Subclasses must implement:</p>
  * <ul>
- *   <li>{@link #createContext(E)} — construct the appropriate context for an event.</li>
+ *   <li>{@link #createContext(MxBaseEvent, boolean)} — construct the appropriate context for an event.</li>
  *   <li>{@link #passesGuards(MxBaseHandlerEntry, MxBaseContext, MxBaseEvent)} — domain-specific
  *       guard evaluation (cancellation + extra guards).</li>
  *   <li>{@link #invokeHandler(MxBaseHandlerEntry, MxBaseContext)} — invoke the handler with
@@ -37,22 +45,44 @@ public abstract class MxAbstractEventBus<E extends MxBaseEvent, C extends MxBase
     protected MxAbstractEventBus() {
     }
 
-    /** Maps event class → ordered list of handler entries. */
+    /** Guards {@link #registry}, {@link #knownEvents} and all writes to {@link #plans}. */
+    private final Object registryLock = new Object();
+
+    /** Maps event class → ordered list of handler entries. Only accessed under {@link #registryLock}. */
     private final Map<Class<? extends E>, List<H>> registry = new HashMap<>();
 
-    /** Simple names of all event classes that have at least one registered handler. */
+    /**
+     * Maps event class → precompiled dispatch plan, rebuilt whenever {@link #registry} changes.
+     * Read lock-free by {@link #post}; written under {@link #registryLock}.
+     */
+    private final Map<Class<? extends E>, MxDispatchPlan<H>> plans = new ConcurrentHashMap<>();
+
+    /** Simple names of all event classes that have at least one registered handler. Guarded by {@link #registryLock}. */
     private final Set<String> knownEvents = new LinkedHashSet<>();
 
     /** Simple names of event classes whose pipeline trace should be printed to console. */
-    private final Set<String> loggedEvents = new HashSet<>();
+    private final Set<String> loggedEvents = ConcurrentHashMap.newKeySet();
+
+    /** Lane that runs {@link MxSubscribe#async() async} MONITOR handlers; {@code null} runs them inline. */
+    private volatile MxAsyncMonitorLane asyncMonitorLane;
+
+    /** Per-handler instrumentation; {@code null} when disabled. */
+    private volatile MxDispatchMetrics metrics;
+
+    /** Whether the normal phase stops once {@link MxBaseContext#isVerdictFinal()} holds. */
+    private volatile boolean earlyResolution;
 
 
     /**
      * Removes all registered handlers from the bus.
      */
     public void clear() {
-        registry.clear();
-        knownEvents.clear();
+        synchronized (registryLock) {
+            registry.forEach((eventType, entries) -> handlersChanged(eventType, Collections.emptyList()));
+            registry.clear();
+            plans.clear();
+            knownEvents.clear();
+        }
     }
 
     /**
@@ -67,9 +97,31 @@ public abstract class MxAbstractEventBus<E extends MxBaseEvent, C extends MxBase
         if (eventType == null) throw new IllegalArgumentException("eventType must not be null");
         if (entry == null)     throw new IllegalArgumentException("entry must not be null");
 
-        registry.computeIfAbsent(eventType, k -> new ArrayList<>()).add(entry);
-        registry.get(eventType).sort(Comparator.comparingInt(e -> e.priority.ordinal()));
-        knownEvents.add(eventType.getSimpleName());
+        synchronized (registryLock) {
+            List<H> entries = registry.computeIfAbsent(eventType, k -> new ArrayList<>());
+            entries.add(insertionIndex(entries, entry.priority), entry);
+            plans.put(eventType, MxDispatchPlan.compile(eventType, entries, isLogged(eventType)));
+            knownEvents.add(MxEventMetadata.of(eventType).getSimpleName());
+            handlersChanged(eventType, Collections.unmodifiableList(entries));
+        }
+    }
+
+    /**
+     * Returns the index after the last entry whose priority is not higher than {@code priority},
+     * so that inserting there keeps the list sorted and preserves registration order.
+     *
+     * @param entries  the priority-sorted bucket
+     * @param priority the priority of the entry being inserted
+     * @return the insertion index
+     */
+    private int insertionIndex(List<H> entries, MxPriority priority) {
+        int low = 0, high = entries.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (entries.get(mid).priority.ordinal() <= priority.ordinal()) low = mid + 1;
+            else high = mid;
+        }
+        return low;
     }
 
     /**
@@ -79,17 +131,118 @@ public abstract class MxAbstractEventBus<E extends MxBaseEvent, C extends MxBase
      */
     public void unregisterListener(Object listener) {
         if (listener == null) return;
-        registry.values().forEach(entries -> entries.removeIf(e -> e.listener == listener));
+        synchronized (registryLock) {
+            registry.forEach((eventType, entries) -> {
+                if (entries.removeIf(e -> e.listener == listener)) {
+                    plans.put(eventType, MxDispatchPlan.compile(eventType, entries, isLogged(eventType)));
+                    handlersChanged(eventType, Collections.unmodifiableList(entries));
+                }
+            });
+        }
+        MxAsyncMonitorLane lane = asyncMonitorLane;
+        if (lane != null) lane.forget(listener);
     }
 
     /**
-     * Returns an unmodifiable view of all event simple names that have at least one
-     * registered handler.
+     * Installs the lane on which {@link MxSubscribe#async() async} MONITOR handlers run.
      *
-     * @return set of simple class names; never {@code null}
+     * <p>Without a lane (the default) async handlers run inline on the posting thread like any
+     * other MONITOR handler. The bus does not own the lane; shut it down separately with
+     * {@link MxAsyncMonitorLane#shutdown(long, java.util.concurrent.TimeUnit)}.</p>
+     *
+     * @param lane the lane to use, or {@code null} to run async handlers inline again
+     */
+    public void setAsyncMonitorLane(MxAsyncMonitorLane lane) {
+        this.asyncMonitorLane = lane;
+    }
+
+    /**
+     * Returns the lane on which async MONITOR handlers run.
+     *
+     * @return the installed lane, or {@code null} if async handlers run inline
+     */
+    public MxAsyncMonitorLane getAsyncMonitorLane() {
+        return asyncMonitorLane;
+    }
+
+    /**
+     * Installs per-handler dispatch metrics. While installed every handler invocation is timed
+     * and counted; pass {@code null} to stop measuring.
+     *
+     * @param metrics the metrics to record into, or {@code null} to disable instrumentation
+     */
+    public void setMetrics(MxDispatchMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Returns the installed dispatch metrics.
+     *
+     * @return the metrics, or {@code null} if instrumentation is disabled
+     */
+    public MxDispatchMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Enables or disables early resolution. When enabled, the normal phase stops as soon as the
+     * submitted verdicts fix the outcome (for example a {@link MxCancellationState#HARD_DENY}
+     * under {@link MxVerdictResolver#HARD_DENY_WINS}); MONITOR handlers still run.
+     *
+     * <p>Disabled by default, because skipped handlers also miss any side effects they perform
+     * besides submitting a verdict.</p>
+     *
+     * @param earlyResolution {@code true} to skip normal handlers once the verdict is final
+     */
+    public void setEarlyResolution(boolean earlyResolution) {
+        this.earlyResolution = earlyResolution;
+    }
+
+    /**
+     * Returns whether early resolution is enabled.
+     *
+     * @return {@code true} if the normal phase stops once the verdict is final
+     * @see #setEarlyResolution(boolean)
+     */
+    public boolean isEarlyResolution() {
+        return earlyResolution;
+    }
+
+    /**
+     * Returns the precompiled dispatch plan for the given event class.
+     *
+     * @param eventType the exact event class; must not be {@code null}
+     * @return the current plan, or an empty plan if no handler is registered; never {@code null}
+     */
+    public MxDispatchPlan<H> getDispatchPlan(Class<? extends E> eventType) {
+        MxDispatchPlan<H> plan = plans.get(eventType);
+        return plan != null ? plan : MxDispatchPlan.empty(eventType, isLogged(eventType));
+    }
+
+    private boolean isLogged(Class<?> eventType) {
+        return loggedEvents.contains(MxEventMetadata.of(eventType).getSimpleName());
+    }
+
+    /**
+     * Re-applies the logged-events set to every compiled plan. Called whenever
+     * {@link #loggedEvents} changes so that {@link #post} never has to consult the set.
+     */
+    private void refreshTracedFlags() {
+        synchronized (registryLock) {
+            plans.replaceAll((eventType, plan) -> plan.withTraced(isLogged(eventType)));
+        }
+    }
+
+    /**
+     * Returns a snapshot of all event simple names that have at least one registered
+     * handler or have been posted at least once.
+     *
+     * @return unmodifiable set of simple class names in first-seen order; never {@code null}
      */
     public Set<String> getKnownEvents() {
-        return Collections.unmodifiableSet(knownEvents);
+        synchronized (registryLock) {
+            return Collections.unmodifiableSet(new LinkedHashSet<>(knownEvents));
+        }
     }
 
 
@@ -98,12 +251,15 @@ public abstract class MxAbstractEventBus<E extends MxBaseEvent, C extends MxBase
      * {@link #loggedEventsConfigFile()}.
      */
     public void loadLoggedEvents() {
-        loggedEvents.clear();
         List<String> list = MxConfigService.getInstance()
             .get(loggedEventsConfigFile())
             .getCfg()
             .getStringList(loggedEventsConfigKey());
-        loggedEvents.addAll(list);
+        synchronized (registryLock) {
+            loggedEvents.clear();
+            loggedEvents.addAll(list);
+            refreshTracedFlags();
+        }
     }
 
     /**
@@ -128,7 +284,10 @@ public abstract class MxAbstractEventBus<E extends MxBaseEvent, C extends MxBase
      */
     public boolean addLoggedEvent(String eventName) {
         boolean added = loggedEvents.add(eventName);
-        if (added) saveLoggedEvents();
+        if (added) {
+            refreshTracedFlags();
+            saveLoggedEvents();
+        }
         return added;
     }
 
@@ -139,7 +298,10 @@ public abstract class MxAbstractEventBus<E extends MxBaseEvent, C extends MxBase
      */
     public void removeLoggedEvent(String eventName) {
         boolean removed = loggedEvents.remove(eventName);
-        if (removed) saveLoggedEvents();
+        if (removed) {
+            refreshTracedFlags();
+            saveLoggedEvents();
+        }
     }
 
     /**
@@ -148,6 +310,7 @@ public abstract class MxAbstractEventBus<E extends MxBaseEvent, C extends MxBase
     public void clearLoggedEvents() {
         if (!loggedEvents.isEmpty()) {
             loggedEvents.clear();
+            refreshTracedFlags();
             saveLoggedEvents();
         }
     }
@@ -165,45 +328,111 @@ public abstract class MxAbstractEventBus<E extends MxBaseEvent, C extends MxBase
     /**
      * Dispatches the given event through the three-phase pipeline.
      *
+     * <p>Whether the post is traced is decided once, from the plan's precomputed
+     * {@link MxDispatchPlan#isTraced() traced} flag. Untraced posts create a context that
+     * discards trace messages, and subclasses guard their trace building with
+     * {@link MxBaseContext#isTracing()}, so no trace strings are built at all.</p>
+     *
+     * <p>MONITOR handlers marked {@link MxSubscribe#async() async} are handed to the installed
+     * {@link MxAsyncMonitorLane} after their guards pass, and may still be running when this
+     * method returns. They must treat the context as read-only.</p>
+     *
      * @param event the event to dispatch; must not be {@code null}
      * @return the context that was passed through the pipeline
      */
-    @SuppressWarnings("unchecked")
     public C post(E event) {
-        if (event == null) throw new IllegalArgumentException("event must not be null");
+        return post(event, null);
+    }
 
-        C ctx = createContext(event);
-        knownEvents.add(event.getClass().getSimpleName());
+    /**
+     * Dispatches the given event through the three-phase pipeline with a verdict that is already
+     * known before any handler runs, e.g. one looked up in a rule table by the caller.
+     *
+     * <p>The initial verdict is submitted to the context ahead of all handlers and resolved
+     * together with theirs. When {@link #setEarlyResolution(boolean) early resolution} is on and
+     * the initial verdict alone is final, the non-MONITOR handlers are skipped.</p>
+     *
+     * @param event          the event to dispatch; must not be {@code null}
+     * @param initialVerdict the verdict to submit before the handlers, or {@code null} for none
+     * @return the context that was passed through the pipeline
+     */
+    @SuppressWarnings("unchecked")
+    public C post(E event, MxCancellationState initialVerdict) {
+        if (event == null) throw new IllegalArgumentException("event must not be null");
 
-        List<H> entries = registry.getOrDefault(
-                (Class<? extends E>) event.getClass(), Collections.emptyList());
+        Class<? extends E> eventType = (Class<? extends E>) event.getClass();
+        MxDispatchPlan<H> plan = plans.get(eventType);
+        if (plan == null) {
+            // First post of an event class without handlers: remember it so it shows up in
+            // getKnownEvents(), and cache the empty plan so later posts skip this branch.
+            synchronized (registryLock) {
+                plan = plans.computeIfAbsent(eventType, k -> MxDispatchPlan.empty(k, isLogged(k)));
+                knownEvents.add(plan.metadata.getSimpleName());
+            }
+        }
 
-        List<H> normal  = new ArrayList<>();
-        List<H> monitor = new ArrayList<>();
-        for (H e : entries) {
-            if (e.priority == MxPriority.MONITOR) monitor.add(e);
-            else normal.add(e);
+        C ctx = createContext(event, plan.traced);
+        MxDispatchMetrics metrics = this.metrics;
+        boolean earlyResolution = this.earlyResolution;
+
+        // Phase 0: verdict known up front
+        H[] normal = plan.normal;
+        int count = normal.length;
+        if (initialVerdict != null) {
+            ctx.submitVerdict(initialVerdict);
+            if (ctx.isTracing()) {
+                ctx.trace("<yellow>[<gray>INITIAL<yellow>] verdict=" + initialVerdict);
+            }
+            if (earlyResolution && count > 0 && ctx.isVerdictFinal()) {
+                if (ctx.isTracing()) {
+                    ctx.trace("<yellow>[<gray>STOP<yellow>] verdict is final, skipping " + count + " handler(s)");
+                }
+                count = 0;
+            }
         }
 
-        // Phase 1: non-MONITOR handlers
-        for (H entry : normal) {
+        // Phase 1: non-MONITOR handlers; static verdicts are submitted from the plan
+        MxCancellationState[] staticVerdicts = plan.staticVerdicts;
+        for (int i = 0; i < count; i++) {
+            H entry = normal[i];
             if (!passesGuards(entry, ctx, event)) continue;
-            invokeHandler(entry, ctx);
+            MxCancellationState staticVerdict = staticVerdicts[i];
+            if (staticVerdict != null) submitStatic(metrics, eventType, entry, staticVerdict, ctx);
+            else if (metrics == null) invokeHandler(entry, ctx);
+            else invokeMeasured(metrics, eventType, entry, ctx);
+            if (earlyResolution && i < count - 1 && ctx.isVerdictFinal()) {
+                if (ctx.isTracing()) {
+                    ctx.trace("<yellow>[<gray>STOP<yellow>] verdict is final, skipping "
+                            + (count - 1 - i) + " handler(s)");
+                }
+                break;
+            }
         }
 
         // Resolution: combine all submitted verdicts into the final state
         ctx.resolveVerdict();
 
-        // Phase 2: MONITOR handlers (see resolved state, read-only by convention)
-        for (H entry : monitor) {
+        // Phase 2: MONITOR handlers (see resolved state, read-only by convention).
+        // Guards are evaluated here so async handlers see the same filtering; traced posts stay
+        // inline so the trace is complete when it is printed below.
+        MxAsyncMonitorLane lane = plan.traced ? null : asyncMonitorLane;
+        for (H entry : plan.monitor) {
             if (!passesGuards(entry, ctx, event)) continue;
-            invokeHandler(entry, ctx);
+            if (entry.async && lane != null) {
+                lane.submit(entry.listener != null ? entry.listener : entry, metrics == null
+                        ? () -> invokeHandler(entry, ctx)
+                        : () -> invokeMeasured(metrics, eventType, entry, ctx));
+            } else if (metrics == null) {
+                invokeHandler(entry, ctx);
+            } else {
+                invokeMeasured(metrics, eventType, entry, ctx);
+            }
         }
 
         // Console logging
-        if (loggedEvents.contains(event.getClass().getSimpleName())) {
+        if (plan.traced) {
             MxLogger.logMessage(MxLogLevel.INFORMATION,
-                "[<aqua>" + busLabel() + "<yellow>] " + event.getClass().getSimpleName()
+                "[<aqua>" + busLabel() + "<yellow>] " + plan.metadata.getSimpleName()
                     + " | verdict=" + ctx.getCancellationState());
             ctx.getTrace().forEach(line ->
                 MxLogger.logMessage(MxLogLevel.INFORMATION, "  " + line));
@@ -216,14 +445,16 @@ public abstract class MxAbstractEventBus<E extends MxBaseEvent, C extends MxBase
     /**
      * Creates a new context wrapping the given event.
      *
-     * @param event the event being dispatched; never {@code null}
+     * @param event   the event being dispatched; never {@code null}
+     * @param tracing whether the context should record trace messages
      * @return a fresh context; never {@code null}
      */
-    protected abstract C createContext(E event);
+    protected abstract C createContext(E event, boolean tracing);
 
     /**
      * Evaluates all guards for the given handler entry.
      * Must check at minimum the {@code ignoreCancelled} flag, then any domain-specific guards.
+     * Skip messages should only be built when {@link MxBaseContext#isTracing()} is {@code true}.
      *
      * @param entry the handler entry to evaluate; never {@code null}
      * @param ctx   the current event context; never {@code null}
@@ -233,12 +464,51 @@ public abstract class MxAbstractEventBus<E extends MxBaseEvent, C extends MxBase
     protected abstract boolean passesGuards(H entry, C ctx, E event);
 
     /**
-     * Invokes the handler with the correct typed context and appends a trace line.
+     * Called under the registry lock whenever the handlers registered for an event class change,
+     * so subclasses can maintain their own precomputed per-class indexes. Does nothing by default.
+     *
+     * @param eventType the event class whose handlers changed
+     * @param entries   the new priority-sorted handler list; read-only and only valid during the call
+     */
+    protected void handlersChanged(Class<? extends E> eventType, List<H> entries) {
+    }
+
+    /**
+     * Invokes the handler with the correct typed context and, when the context is tracing,
+     * appends a trace line. Anything the handler throws, {@link Error}s included, must be caught
+     * and logged here so that the remaining handlers still run.
      *
      * @param entry the handler to invoke; must not be {@code null}
      * @param ctx   the event context to pass to the handler; must not be {@code null}
+     * @return {@code true} if the handler completed normally, {@code false} if it threw
+     */
+    protected abstract boolean invokeHandler(H entry, C ctx);
+
+    /**
+     * Invokes the handler through {@link #invokeHandler} and records its latency, submitted
+     * verdicts and outcome in the given metrics.
      */
-    protected abstract void invokeHandler(H entry, C ctx);
+    private void invokeMeasured(MxDispatchMetrics metrics, Class<? extends E> eventType, H entry, C ctx) {
+        int verdictsBefore = ctx.getVerdicts().size();
+        long start = System.nanoTime();
+        boolean completed = invokeHandler(entry, ctx);
+        long elapsed = System.nanoTime() - start;
+        metrics.record(eventType, entry, elapsed, ctx.getVerdicts().size() - verdictsBefore, !completed);
+    }
+
+    /**
+     * Submits the {@link MxStaticVerdict static verdict} of a handler in place of invoking it,
+     * tracing and counting it like an invocation.
+     */
+    private void submitStatic(MxDispatchMetrics metrics, Class<? extends E> eventType, H entry,
+                              MxCancellationState verdict, C ctx) {
+        ctx.submitVerdict(verdict);
+        if (ctx.isTracing()) {
+            ctx.trace("<yellow>[<aqua>STATIC<yellow>] " + entry.name + " (priority=" + entry.priority
+                    + ") <dark_gray>\u21b3 <yellow>Verdict: " + verdict);
+        }
+        if (metrics != null) metrics.recordStatic(eventType, entry);
+    }
 
     /**
      * Returns the {@link MxConfigFileType} that stores the logged-event names for this bus.
@@ -0,0 +1,321 @@
+package nl.mxndarijn.mxlib.mxeventbus.core;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded, off-thread execution lane for {@link MxPriority#MONITOR} handlers that opted in
+ * with {@link MxSubscribe#async()}.
+ *
+ * <p>Install a lane on a bus with {@link MxAbstractEventBus#setAsyncMonitorLane(MxAsyncMonitorLane)}.
+ * Guards are still evaluated on the posting thread; only the handler invocation is handed to
+ * the lane. Deliveries for the same listener run one at a time and in post order; deliveries
+ * for different listeners may run concurrently.</p>
+ *
+ * <p>At most {@code capacity} deliveries may be queued or running at once. When the lane is full
+ * the configured {@link MxBackpressurePolicy} decides whether a delivery is dropped, waited for,
+ * or run inline. Counters for each outcome are available through the getters.</p>
+ *
+ * <p>Async handlers receive the same context object the synchronous pipeline used. They must
+ * treat it as read-only and must not touch Bukkit state that is only safe on the main thread.</p>
+ */
+public final class MxAsyncMonitorLane {
+
+    private final Executor executor;
+
+    /** The executor created by a factory method, shut down by {@link #shutdown}; {@code null} if external. */
+    private final ExecutorService ownedExecutor;
+
+    private final int capacity;
+    private final MxBackpressurePolicy policy;
+    private final Semaphore permits;
+
+    /** Serial queue per listener, preserving per-listener delivery order. */
+    private final Map<Object, SerialQueue> queues = new ConcurrentHashMap<>();
+
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder delayed = new LongAdder();
+    private final LongAdder inlined = new LongAdder();
+
+    /**
+     * Constructs a lane that runs deliveries on the given executor.
+     * The executor is not shut down by {@link #shutdown(long, TimeUnit)}.
+     *
+     * @param executor the executor that runs deliveries; must not be {@code null}
+     * @param capacity the maximum number of queued or running deliveries; must be positive
+     * @param policy   what to do when the lane is full; must not be {@code null}
+     */
+    public MxAsyncMonitorLane(Executor executor, int capacity, MxBackpressurePolicy policy) {
+        this(executor, null, capacity, policy);
+    }
+
+    private MxAsyncMonitorLane(Executor executor, ExecutorService ownedExecutor,
+                               int capacity, MxBackpressurePolicy policy) {
+        if (executor == null) throw new IllegalArgumentException("executor must not be null");
+        if (capacity <= 0)    throw new IllegalArgumentException("capacity must be positive");
+        if (policy == null)   throw new IllegalArgumentException("policy must not be null");
+        this.executor = executor;
+        this.ownedExecutor = ownedExecutor;
+        this.capacity = capacity;
+        this.policy = policy;
+        this.permits = new Semaphore(capacity);
+    }
+
+    /**
+     * Creates a lane that runs each listener's deliveries on virtual threads.
+     *
+     * @param capacity the maximum number of queued or running deliveries; must be positive
+     * @param policy   what to do when the lane is full; must not be {@code null}
+     * @return a new lane; never {@code null}
+     */
+    public static MxAsyncMonitorLane virtualThreads(int capacity, MxBackpressurePolicy policy) {
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        return new MxAsyncMonitorLane(executor, executor, capacity, policy);
+    }
+
+    /**
+     * Creates a lane backed by a single dedicated daemon thread.
+     *
+     * @param threadName the name of the worker thread; must not be {@code null}
+     * @param capacity   the maximum number of queued or running deliveries; must be positive
+     * @param policy     what to do when the lane is full; must not be {@code null}
+     * @return a new lane; never {@code null}
+     */
+    public static MxAsyncMonitorLane dedicatedThread(String threadName, int capacity, MxBackpressurePolicy policy) {
+        if (threadName == null) throw new IllegalArgumentException("threadName must not be null");
+        ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, threadName);
+            t.setDaemon(true);
+            return t;
+        });
+        return new MxAsyncMonitorLane(executor, executor, capacity, policy);
+    }
+
+    /**
+     * Queues a delivery for the given listener, applying the backpressure policy when full.
+     *
+     * @param listener the ordering key; deliveries with the same key never overlap
+     * @param delivery the handler invocation to run
+     */
+    void submit(Object listener, Runnable delivery) {
+        if (!permits.tryAcquire()) {
+            switch (policy) {
+                case DROP -> {
+                    dropped.increment();
+                    return;
+                }
+                case RUN_INLINE -> {
+                    inlined.increment();
+                    run(delivery);
+                    return;
+                }
+                case BLOCK -> {
+                    delayed.increment();
+                    permits.acquireUninterruptibly();
+                }
+            }
+        }
+        submitted.increment();
+        SerialQueue queue = queues.computeIfAbsent(listener, SerialQueue::new);
+        // the listener was registered again before its old queue drained
+        if (queue.forgotten) queue.forgotten = false;
+        queue.enqueue(delivery);
+    }
+
+    /**
+     * Forgets the serial queue of a listener that has been unregistered.
+     * Deliveries that are already queued still run; the queue is removed as soon as it is
+     * empty, either here or by the task that drains it.
+     *
+     * @param listener the listener key
+     */
+    void forget(Object listener) {
+        SerialQueue queue = queues.get(listener);
+        if (queue == null) return;
+        queue.forgotten = true;
+        queue.removeIfDrained();
+    }
+
+    private void run(Runnable delivery) {
+        try {
+            delivery.run();
+            completed.increment();
+        } catch (Throwable t) {
+            failed.increment();
+        }
+    }
+
+    /**
+     * Shuts down the executor created by {@link #virtualThreads} or {@link #dedicatedThread}
+     * and waits for queued deliveries to finish. Has no effect on an externally supplied executor.
+     *
+     * @param timeout the maximum time to wait
+     * @param unit    the unit of {@code timeout}; must not be {@code null}
+     * @return {@code true} if all deliveries finished before the timeout
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public boolean shutdown(long timeout, TimeUnit unit) throws InterruptedException {
+        if (ownedExecutor == null) return true;
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        // Serial queues re-submit themselves while they have work, so wait for the
+        // lane to drain before refusing new executor tasks.
+        while (getQueueDepth() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        ownedExecutor.shutdown();
+        return ownedExecutor.awaitTermination(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Returns the maximum number of deliveries that may be queued or running at once.
+     *
+     * @return the lane capacity
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the backpressure policy applied when the lane is full.
+     *
+     * @return the policy; never {@code null}
+     */
+    public MxBackpressurePolicy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * Returns the number of deliveries currently queued or running.
+     *
+     * @return the current queue depth
+     */
+    public int getQueueDepth() {
+        return capacity - permits.availablePermits();
+    }
+
+    /**
+     * Returns the number of deliveries accepted into the queue, including delayed ones.
+     *
+     * @return the submitted count
+     */
+    public long getSubmittedCount() {
+        return submitted.sum();
+    }
+
+    /**
+     * Returns the number of deliveries that ran to completion, queued or inlined.
+     *
+     * @return the completed count
+     */
+    public long getCompletedCount() {
+        return completed.sum();
+    }
+
+    /**
+     * Returns the number of deliveries whose handler threw past the bus's own error handling.
+     *
+     * @return the failed count
+     */
+    public long getFailedCount() {
+        return failed.sum();
+    }
+
+    /**
+     * Returns the number of deliveries discarded under {@link MxBackpressurePolicy#DROP}
+     * or because the executor refused them after shutdown.
+     *
+     * @return the dropped count
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * Returns the number of deliveries for which the posting thread had to wait
+     * under {@link MxBackpressurePolicy#BLOCK}.
+     *
+     * @return the delayed count
+     */
+    public long getDelayedCount() {
+        return delayed.sum();
+    }
+
+    /**
+     * Returns the number of deliveries run on the posting thread
+     * under {@link MxBackpressurePolicy#RUN_INLINE}.
+     *
+     * @return the inlined count
+     */
+    public long getInlinedCount() {
+        return inlined.sum();
+    }
+
+    /**
+     * Per-listener FIFO that is drained by at most one executor task at a time.
+     */
+    private final class SerialQueue implements Runnable {
+
+        private final Object listener;
+        private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        /** Set once the listener is unregistered; the queue then leaves {@link #queues} when empty. */
+        private volatile boolean forgotten;
+
+        SerialQueue(Object listener) {
+            this.listener = listener;
+        }
+
+        void enqueue(Runnable delivery) {
+            tasks.add(delivery);
+            schedule();
+        }
+
+        private void schedule() {
+            if (!scheduled.compareAndSet(false, true)) return;
+            try {
+                executor.execute(this);
+            } catch (RejectedExecutionException ex) {
+                Runnable delivery;
+                while ((delivery = tasks.poll()) != null) {
+                    dropped.increment();
+                    permits.release();
+                }
+                scheduled.set(false);
+            }
+        }
+
+        @Override
+        public void run() {
+            Runnable delivery;
+            while ((delivery = tasks.poll()) != null) {
+                try {
+                    MxAsyncMonitorLane.this.run(delivery);
+                } finally {
+                    permits.release();
+                }
+            }
+            scheduled.set(false);
+            // A delivery may have been enqueued after the last poll but before the flag was cleared.
+            if (!tasks.isEmpty()) schedule();
+            else removeIfDrained();
+        }
+
+        void removeIfDrained() {
+            if (forgotten && tasks.isEmpty()) queues.remove(listener, this);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package nl.mxndarijn.mxlib.mxeventbus.core;
+
+/**
+ * What an {@link MxAsyncMonitorLane} does with a MONITOR delivery when its queue is full.
+ */
+public enum MxBackpressurePolicy {
+
+    /**
+     * Discard the delivery and count it as dropped. The posting thread never waits.
+     * Suitable for statistics and analytics that tolerate gaps.
+     */
+    DROP,
+
+    /**
+     * Block the posting thread until a queue slot frees up and count the delivery as delayed.
+     * Guarantees delivery but can stall the main thread if the lane falls behind.
+     */
+    BLOCK,
+
+    /**
+     * Run the handler synchronously on the posting thread and count it as inlined.
+     * Guarantees delivery without waiting, but an inlined delivery may overtake
+     * deliveries for the same listener that are still queued.
+     */
+    RUN_INLINE
+}
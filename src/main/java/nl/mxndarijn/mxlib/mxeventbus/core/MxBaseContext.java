@@ -1,6 +1,7 @@
 package nl.mxndarijn.mxlib.mxeventbus.core;
 
 import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * Common interface for event pipeline contexts used by {@link MxAbstractEventBus}.
@@ -35,11 +36,28 @@ public interface MxBaseContext<E extends MxBaseEvent> {
 
     /**
      * Returns an unmodifiable view of all verdicts submitted so far.
+     * Kept for callers that need the full history; prefer {@link #getVerdicts()}.
      *
      * @return ordered list of submitted verdicts; never {@code null}
      */
     List<MxCancellationState> getSubmittedVerdicts();
 
+    /**
+     * Returns the verdicts submitted so far. Read-only by convention; submit verdicts
+     * through {@link #submitVerdict(MxCancellationState)}.
+     *
+     * @return the verdict accumulator of this dispatch; never {@code null}
+     */
+    MxVerdictSet getVerdicts();
+
+    /**
+     * Returns whether the verdicts submitted so far already fix the resolved state, so that
+     * handlers still to run in the normal phase cannot change the outcome.
+     *
+     * @return {@code true} if the outcome of {@link #resolveVerdict()} can no longer change
+     */
+    boolean isVerdictFinal();
+
     /**
      * Resolves all submitted verdicts into the final {@link MxCancellationState}.
      * Called by the bus before MONITOR-priority handlers run.
@@ -53,17 +71,36 @@ public interface MxBaseContext<E extends MxBaseEvent> {
      */
     MxCancellationState getCancellationState();
 
+    /**
+     * Returns whether this context records trace messages. Only contexts of events in the
+     * bus's logged-events set trace; for all others {@link #trace(String)} is a no-op.
+     *
+     * @return {@code true} if trace messages are recorded
+     */
+    boolean isTracing();
+
     /**
      * Appends a trace message describing a pipeline step.
+     * Ignored when {@link #isTracing()} is {@code false}.
      *
      * @param message the message to record; must not be {@code null}
      */
     void trace(String message);
 
+    /**
+     * Appends a lazily built trace message. The supplier is only called when
+     * {@link #isTracing()} is {@code true}, so untraced posts pay no string-building cost.
+     *
+     * @param message supplies the message to record; must not be {@code null}
+     */
+    default void trace(Supplier<String> message) {
+        if (isTracing()) trace(message.get());
+    }
+
     /**
      * Returns an unmodifiable view of all trace messages recorded during dispatch.
      *
-     * @return ordered list of trace messages; never {@code null}
+     * @return ordered list of trace messages; empty when not tracing; never {@code null}
      */
     List<String> getTrace();
 }
@@ -20,6 +20,18 @@ public abstract class MxBaseHandlerEntry<E extends MxBaseEvent, H> {
     /** When {@code true}, this handler is skipped if the event is cancelled. */
     public final boolean ignoreCancelled;
 
+    /**
+     * When {@code true}, this MONITOR handler is invoked on the bus's
+     * {@link MxAsyncMonitorLane} instead of the posting thread, if one is installed.
+     */
+    public final boolean async;
+
+    /**
+     * The verdict this handler always submits, or {@code null} if the handler is invoked.
+     * When set, the bus submits it instead of calling {@link #handler}; see {@link MxStaticVerdict}.
+     */
+    public final MxCancellationState staticVerdict;
+
     /** The actual handler logic invoked by the bus. */
     public final H handler;
 
@@ -44,9 +56,60 @@ public abstract class MxBaseHandlerEntry<E extends MxBaseEvent, H> {
                                 boolean ignoreCancelled,
                                 H handler,
                                 Object listener) {
+        this(name, priority, ignoreCancelled, false, handler, listener);
+    }
+
+    /**
+     * Constructs a new {@code MxBaseHandlerEntry}.
+     *
+     * @param name            human-readable name for trace output; must not be {@code null}
+     * @param priority        execution priority; must not be {@code null}
+     * @param ignoreCancelled when {@code true}, skip this handler if the event is cancelled
+     * @param async           when {@code true}, run this MONITOR handler on the async lane
+     * @param handler         the handler logic; must not be {@code null}
+     * @param listener        the object that owns this handler; may be {@code null}
+     * @throws IllegalArgumentException if {@code async} is set on a non-MONITOR handler
+     */
+    protected MxBaseHandlerEntry(String name,
+                                MxPriority priority,
+                                boolean ignoreCancelled,
+                                boolean async,
+                                H handler,
+                                Object listener) {
+        this(name, priority, ignoreCancelled, async, null, handler, listener);
+    }
+
+    /**
+     * Constructs a new {@code MxBaseHandlerEntry}.
+     *
+     * @param name            human-readable name for trace output; must not be {@code null}
+     * @param priority        execution priority; must not be {@code null}
+     * @param ignoreCancelled when {@code true}, skip this handler if the event is cancelled
+     * @param async           when {@code true}, run this MONITOR handler on the async lane
+     * @param staticVerdict   the verdict to submit instead of invoking the handler, or {@code null}
+     * @param handler         the handler logic; must not be {@code null}
+     * @param listener        the object that owns this handler; may be {@code null}
+     * @throws IllegalArgumentException if {@code async} is set on a non-MONITOR handler, or
+     *                                  {@code staticVerdict} on a MONITOR handler
+     */
+    protected MxBaseHandlerEntry(String name,
+                                MxPriority priority,
+                                boolean ignoreCancelled,
+                                boolean async,
+                                MxCancellationState staticVerdict,
+                                H handler,
+                                Object listener) {
+        if (async && priority != MxPriority.MONITOR) {
+            throw new IllegalArgumentException("Handler " + name + " is async but not MONITOR priority");
+        }
+        if (staticVerdict != null && priority == MxPriority.MONITOR) {
+            throw new IllegalArgumentException("Handler " + name + " has a static verdict but MONITOR priority");
+        }
         this.name = name;
         this.priority = priority;
         this.ignoreCancelled = ignoreCancelled;
+        this.async = async;
+        this.staticVerdict = staticVerdict;
         this.handler = handler;
         this.listener = listener;
     }
@@ -0,0 +1,165 @@
+package nl.mxndarijn.mxlib.mxeventbus.core;
+
+import nl.mxndarijn.mxlib.logger.MxLogLevel;
+import nl.mxndarijn.mxlib.logger.MxLogger;
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-handler instrumentation for an {@link MxAbstractEventBus}.
+ *
+ * <p>Install with {@link MxAbstractEventBus#setMetrics(MxDispatchMetrics)}. While installed the bus
+ * records, for every handler entry it invokes, the invocation count, cumulative latency, a
+ * {@link MxLatencyHistogram latency histogram}, the number of verdicts submitted and the number of
+ * exceptions thrown. {@link MxStaticVerdict Static verdicts} the bus submitted without invoking
+ * the handler are counted as folded instead. When no metrics are installed the bus skips all measurement, so the cost of
+ * the feature is one volatile read per post.</p>
+ *
+ * <p>Use {@link #snapshot()} to query the current numbers, {@link #dump(int)} to print the most
+ * expensive handlers, or {@link #startPeriodicDump(Plugin, long, int)} to print them on a timer.</p>
+ */
+public final class MxDispatchMetrics {
+
+    /** Live counters per handler entry; entries are compared by identity. */
+    private final Map<MxBaseHandlerEntry<?, ?>, Recorder> recorders = new ConcurrentHashMap<>();
+
+    /**
+     * Records a single handler invocation. Called by the bus on the thread that ran the handler.
+     *
+     * @param eventType the event class the handler was invoked for
+     * @param entry     the handler entry that was invoked
+     * @param nanos     the time spent in the handler
+     * @param verdicts  the number of verdicts the handler submitted
+     * @param threw     whether the handler threw an exception
+     */
+    void record(Class<?> eventType, MxBaseHandlerEntry<?, ?> entry, long nanos, int verdicts, boolean threw) {
+        Recorder recorder = recorders.get(entry);
+        if (recorder == null) {
+            recorder = recorders.computeIfAbsent(entry, e -> new Recorder(MxEventMetadata.of(eventType).getSimpleName(), e));
+        }
+        recorder.invocations.increment();
+        recorder.totalNanos.add(nanos);
+        recorder.histogram.record(nanos);
+        if (verdicts > 0) recorder.verdicts.add(verdicts);
+        if (threw) recorder.exceptions.increment();
+    }
+
+    /**
+     * Records a {@link MxStaticVerdict static verdict} the bus submitted in place of invoking the
+     * handler. Counted separately from invocations so latencies only cover real calls.
+     *
+     * @param eventType the event class the verdict was submitted for
+     * @param entry     the handler entry whose verdict was submitted
+     */
+    void recordStatic(Class<?> eventType, MxBaseHandlerEntry<?, ?> entry) {
+        Recorder recorder = recorders.get(entry);
+        if (recorder == null) {
+            recorder = recorders.computeIfAbsent(entry, e -> new Recorder(MxEventMetadata.of(eventType).getSimpleName(), e));
+        }
+        recorder.folded.increment();
+        recorder.verdicts.increment();
+    }
+
+    /**
+     * Returns a snapshot of every handler that has been invoked since the last {@link #reset()},
+     * sorted by cumulative latency, most expensive first.
+     *
+     * @return a new list of snapshots; never {@code null}
+     */
+    public List<MxHandlerMetrics> snapshot() {
+        List<MxHandlerMetrics> result = new ArrayList<>(recorders.size());
+        for (Recorder r : recorders.values()) {
+            result.add(r.snapshot());
+        }
+        result.sort(Comparator.comparingLong(MxHandlerMetrics::getTotalNanos).reversed());
+        return result;
+    }
+
+    /**
+     * Returns a snapshot of the handlers registered for one event class.
+     *
+     * @param eventName the simple name of the event class; must not be {@code null}
+     * @return a new list of snapshots sorted by cumulative latency; never {@code null}
+     */
+    public List<MxHandlerMetrics> snapshot(String eventName) {
+        if (eventName == null) throw new IllegalArgumentException("eventName must not be null");
+        List<MxHandlerMetrics> result = new ArrayList<>();
+        for (MxHandlerMetrics m : snapshot()) {
+            if (m.getEventName().equals(eventName)) result.add(m);
+        }
+        return result;
+    }
+
+    /**
+     * Discards all recorded numbers.
+     */
+    public void reset() {
+        recorders.clear();
+    }
+
+    /**
+     * Prints the most expensive handlers to the console through {@link MxLogger}.
+     *
+     * @param limit the maximum number of handlers to print; values below one print all
+     */
+    public void dump(int limit) {
+        List<MxHandlerMetrics> all = snapshot();
+        int shown = limit < 1 ? all.size() : Math.min(limit, all.size());
+        MxLogger.logMessage(MxLogLevel.INFORMATION,
+                "[<aqua>MxDispatchMetrics<yellow>] " + shown + " of " + all.size() + " handlers by total time");
+        for (int i = 0; i < shown; i++) {
+            MxLogger.logMessage(MxLogLevel.INFORMATION, "  " + all.get(i));
+        }
+    }
+
+    /**
+     * Prints the most expensive handlers every {@code periodTicks} ticks from an async task.
+     *
+     * @param plugin      the plugin that owns the task; must not be {@code null}
+     * @param periodTicks the interval between dumps in server ticks; must be positive
+     * @param limit       the maximum number of handlers per dump; values below one print all
+     * @return the scheduled task; cancel it to stop dumping
+     */
+    public BukkitTask startPeriodicDump(Plugin plugin, long periodTicks, int limit) {
+        if (plugin == null)   throw new IllegalArgumentException("plugin must not be null");
+        if (periodTicks <= 0) throw new IllegalArgumentException("periodTicks must be positive");
+        return Bukkit.getScheduler().runTaskTimerAsynchronously(plugin, () -> dump(limit), periodTicks, periodTicks);
+    }
+
+    /**
+     * Live counters of a single handler entry.
+     */
+    private static final class Recorder {
+
+        private final String eventName;
+        private final String handlerName;
+        private final MxPriority priority;
+        private final LongAdder invocations = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAdder verdicts = new LongAdder();
+        private final LongAdder exceptions = new LongAdder();
+        private final LongAdder folded = new LongAdder();
+        private final MxLatencyHistogram histogram = new MxLatencyHistogram();
+
+        Recorder(String eventName, MxBaseHandlerEntry<?, ?> entry) {
+            this.eventName = eventName;
+            this.handlerName = entry.name;
+            this.priority = entry.priority;
+        }
+
+        MxHandlerMetrics snapshot() {
+            return new MxHandlerMetrics(eventName, handlerName, priority,
+                    invocations.sum(), totalNanos.sum(),
+                    histogram.percentile(50), histogram.percentile(90), histogram.percentile(99), histogram.max(),
+                    verdicts.sum(), exceptions.sum(), folded.sum());
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package nl.mxndarijn.mxlib.mxeventbus.core;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable, precompiled dispatch order for a single event class.
+ *
+ * <p>A plan holds the handler entries registered for one event class, already sorted by
+ * {@link MxPriority} and split into the normal phase (LOWEST → HIGHEST) and the
+ * {@link MxPriority#MONITOR} phase. {@link MxAbstractEventBus} compiles a new plan whenever
+ * its registry changes for that class, so {@link MxAbstractEventBus#post} only has to walk
+ * two arrays and never allocates or re-partitions handler collections.</p>
+ *
+ * <p>Handlers declared with an {@link MxStaticVerdict} keep their slot in the normal phase, but
+ * the plan stores their verdict alongside them, so the bus submits it directly once the handler's
+ * guards pass instead of invoking the handler.</p>
+ *
+ * <p>The plan also carries the per-class {@link #isTraced() traced} flag, so the decision whether
+ * a post records a pipeline trace is a single field read, and the class's shared
+ * {@link MxEventMetadata}.</p>
+ *
+ * @param <H> the concrete handler-entry type
+ */
+public final class MxDispatchPlan<H extends MxBaseHandlerEntry<?, ?>> {
+
+    /** Handlers that run before verdict resolution, in priority order. */
+    final H[] normal;
+
+    /**
+     * Per entry of {@link #normal}: the {@link MxStaticVerdict static verdict} submitted in place
+     * of invoking it, or {@code null} for handlers that are invoked.
+     */
+    final MxCancellationState[] staticVerdicts;
+
+    /** Number of non-{@code null} entries in {@link #staticVerdicts}. */
+    final int staticCount;
+
+    /** Handlers that run after verdict resolution, in registration order. */
+    final H[] monitor;
+
+    /** Whether posts of this event class record and print a pipeline trace. */
+    final boolean traced;
+
+    /** Reflection-derived facts about the event class. */
+    final MxEventMetadata metadata;
+
+    private MxDispatchPlan(MxEventMetadata metadata, H[] normal, MxCancellationState[] staticVerdicts,
+                           int staticCount, H[] monitor, boolean traced) {
+        this.metadata = metadata;
+        this.normal = normal;
+        this.staticVerdicts = staticVerdicts;
+        this.staticCount = staticCount;
+        this.monitor = monitor;
+        this.traced = traced;
+    }
+
+    /**
+     * Compiles a plan from a priority-sorted list of handler entries.
+     *
+     * @param <H>       the concrete handler-entry type
+     * @param eventType the event class the plan dispatches; must not be {@code null}
+     * @param entries   entries sorted by {@link MxPriority} ordinal; must not be {@code null}
+     * @param traced    whether posts of the event class should be traced
+     * @return a new immutable plan; never {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    static <H extends MxBaseHandlerEntry<?, ?>> MxDispatchPlan<H> compile(Class<?> eventType, List<H> entries, boolean traced) {
+        int monitorCount = 0;
+        for (H e : entries) {
+            if (e.priority == MxPriority.MONITOR) monitorCount++;
+        }
+        H[] normal  = (H[]) new MxBaseHandlerEntry<?, ?>[entries.size() - monitorCount];
+        H[] monitor = (H[]) new MxBaseHandlerEntry<?, ?>[monitorCount];
+        MxCancellationState[] staticVerdicts = new MxCancellationState[normal.length];
+        int n = 0, m = 0, staticCount = 0;
+        for (H e : entries) {
+            if (e.priority == MxPriority.MONITOR) {
+                monitor[m++] = e;
+                continue;
+            }
+            if (e.staticVerdict != null) staticCount++;
+            staticVerdicts[n] = e.staticVerdict;
+            normal[n++] = e;
+        }
+        return new MxDispatchPlan<>(MxEventMetadata.of(eventType), normal, staticVerdicts, staticCount, monitor, traced);
+    }
+
+    /**
+     * Returns a plan without any handlers.
+     *
+     * @param <H>       the concrete handler-entry type
+     * @param eventType the event class the plan dispatches; must not be {@code null}
+     * @param traced    whether posts of the event class should be traced
+     * @return an empty plan; never {@code null}
+     */
+    static <H extends MxBaseHandlerEntry<?, ?>> MxDispatchPlan<H> empty(Class<?> eventType, boolean traced) {
+        return compile(eventType, Collections.emptyList(), traced);
+    }
+
+    /**
+     * Returns a copy of this plan with the given traced flag, sharing the handler arrays.
+     *
+     * @param traced the new traced flag
+     * @return this plan if the flag is unchanged, otherwise a new plan; never {@code null}
+     */
+    MxDispatchPlan<H> withTraced(boolean traced) {
+        return traced == this.traced ? this : new MxDispatchPlan<>(metadata, normal, staticVerdicts, staticCount, monitor, traced);
+    }
+
+    /**
+     * Returns the reflection-derived metadata of the event class this plan dispatches.
+     *
+     * @return the shared metadata; never {@code null}
+     */
+    public MxEventMetadata getMetadata() {
+        return metadata;
+    }
+
+    /**
+     * Returns the number of handlers that run before verdict resolution.
+     *
+     * @return the normal-phase handler count
+     */
+    public int normalCount() {
+        return normal.length;
+    }
+
+    /**
+     * Returns the number of normal-phase handlers whose {@link MxStaticVerdict static verdict}
+     * is submitted without invoking them.
+     *
+     * @return the static-verdict handler count; at most {@link #normalCount()}
+     */
+    public int staticCount() {
+        return staticCount;
+    }
+
+    /**
+     * Returns the number of MONITOR-priority handlers.
+     *
+     * @return the MONITOR-phase handler count
+     */
+    public int monitorCount() {
+        return monitor.length;
+    }
+
+    /**
+     * Returns whether posts of this event class record and print a pipeline trace.
+     *
+     * @return {@code true} if the event class is in the bus's logged-events set
+     */
+    public boolean isTraced() {
+        return traced;
+    }
+
+    /**
+     * Returns whether this plan contains no handlers at all.
+     *
+     * @return {@code true} if no handler is registered for the event class
+     */
+    public boolean isEmpty() {
+        return normal.length == 0 && monitor.length == 0;
+    }
+}
@@ -0,0 +1,79 @@
+package nl.mxndarijn.mxlib.mxeventbus.core;
+
+/**
+ * Reflection-derived facts about an event class, computed once per class and shared by all buses.
+ *
+ * <p>Instances are cached in a {@link ClassValue}, so looking one up is cheap enough for the
+ * dispatch hot path and the cache never keeps an unloaded plugin's event classes alive.
+ * Per-bus facts, such as whether the class is logged or which handlers it has, live in the
+ * bus's {@link MxDispatchPlan} instead.</p>
+ */
+public final class MxEventMetadata {
+
+    private static final ClassValue<MxEventMetadata> CACHE = new ClassValue<>() {
+        @Override
+        protected MxEventMetadata computeValue(Class<?> type) {
+            return new MxEventMetadata(type);
+        }
+    };
+
+    private final Class<?> eventType;
+    private final String simpleName;
+    private final MxCancellationState defaultState;
+    private final MxVerdictResolver resolver;
+
+    private MxEventMetadata(Class<?> eventType) {
+        this.eventType = eventType;
+        this.simpleName = eventType.getSimpleName();
+        MxDefaultCancellation ann = eventType.getAnnotation(MxDefaultCancellation.class);
+        this.defaultState = ann != null ? ann.value() : MxCancellationState.PASS;
+        this.resolver = ann != null ? ann.resolver() : MxVerdictResolver.HARD_DENY_WINS;
+    }
+
+    /**
+     * Returns the metadata of the given event class.
+     *
+     * @param eventType the event class; must not be {@code null}
+     * @return the cached metadata; never {@code null}
+     */
+    public static MxEventMetadata of(Class<?> eventType) {
+        if (eventType == null) throw new IllegalArgumentException("eventType must not be null");
+        return CACHE.get(eventType);
+    }
+
+    /**
+     * Returns the event class this metadata describes.
+     *
+     * @return the event class; never {@code null}
+     */
+    public Class<?> getEventType() {
+        return eventType;
+    }
+
+    /**
+     * Returns the simple name of the event class, as used for logged events and trace output.
+     *
+     * @return the simple class name; never {@code null}
+     */
+    public String getSimpleName() {
+        return simpleName;
+    }
+
+    /**
+     * Returns the state the event starts in, from {@link MxDefaultCancellation#value()}.
+     *
+     * @return the default state, {@link MxCancellationState#PASS} if the class is not annotated
+     */
+    public MxCancellationState getDefaultState() {
+        return defaultState;
+    }
+
+    /**
+     * Returns the verdict resolver, from {@link MxDefaultCancellation#resolver()}.
+     *
+     * @return the resolver, {@link MxVerdictResolver#HARD_DENY_WINS} if the class is not annotated
+     */
+    public MxVerdictResolver getResolver() {
+        return resolver;
+    }
+}
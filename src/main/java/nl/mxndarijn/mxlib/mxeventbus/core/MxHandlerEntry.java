@@ -41,7 +41,55 @@ public final class MxHandlerEntry<T extends MxBaseEvent> extends MxBaseHandlerEn
                  boolean ignoreCancelled,
                  MxEventHandler<T> handler,
                  Object listener) {
-        super(name, priority, ignoreCancelled, handler, listener);
+        this(name, priority, allowedStates, allowedTargets, ignoreCancelled, false, handler, listener);
+    }
+
+    /**
+     * Constructs a new {@code MxHandlerEntry}.
+     *
+     * @param name            human-readable name for trace output; must not be {@code null}
+     * @param priority        execution priority; must not be {@code null}
+     * @param allowedStates   set of permitted states; must not be {@code null}
+     * @param allowedTargets  set of permitted actor roles; must not be {@code null}
+     * @param ignoreCancelled when {@code true}, skip this handler if the event is denied
+     * @param async           when {@code true}, run this MONITOR handler on the async lane
+     * @param handler         the handler logic; must not be {@code null}
+     * @param listener        the object that owns this handler; may be {@code null}
+     */
+    public MxHandlerEntry(String name,
+                 MxPriority priority,
+                 Set<?> allowedStates,
+                 Set<?> allowedTargets,
+                 boolean ignoreCancelled,
+                 boolean async,
+                 MxEventHandler<T> handler,
+                 Object listener) {
+        this(name, priority, allowedStates, allowedTargets, ignoreCancelled, async, null, handler, listener);
+    }
+
+    /**
+     * Constructs a new {@code MxHandlerEntry}.
+     *
+     * @param name            human-readable name for trace output; must not be {@code null}
+     * @param priority        execution priority; must not be {@code null}
+     * @param allowedStates   set of permitted states; must not be {@code null}
+     * @param allowedTargets  set of permitted actor roles; must not be {@code null}
+     * @param ignoreCancelled when {@code true}, skip this handler if the event is denied
+     * @param async           when {@code true}, run this MONITOR handler on the async lane
+     * @param staticVerdict   the verdict to submit instead of invoking the handler, or {@code null}
+     * @param handler         the handler logic; must not be {@code null}
+     * @param listener        the object that owns this handler; may be {@code null}
+     */
+    public MxHandlerEntry(String name,
+                 MxPriority priority,
+                 Set<?> allowedStates,
+                 Set<?> allowedTargets,
+                 boolean ignoreCancelled,
+                 boolean async,
+                 MxCancellationState staticVerdict,
+                 MxEventHandler<T> handler,
+                 Object listener) {
+        super(name, priority, ignoreCancelled, async, staticVerdict, handler, listener);
         this.allowedStates = allowedStates;
         this.allowedTargets = allowedTargets;
     }
@@ -0,0 +1,181 @@
+package nl.mxndarijn.mxlib.mxeventbus.core;
+
+/**
+ * Immutable snapshot of the dispatch metrics of a single handler for a single event class.
+ *
+ * <p>Obtained from {@link MxDispatchMetrics#snapshot()}. All latencies are in nanoseconds and
+ * measure only the handler invocation itself, not guard evaluation.</p>
+ */
+public final class MxHandlerMetrics {
+
+    private final String eventName;
+    private final String handlerName;
+    private final MxPriority priority;
+    private final long invocations;
+    private final long totalNanos;
+    private final long p50Nanos;
+    private final long p90Nanos;
+    private final long p99Nanos;
+    private final long maxNanos;
+    private final long verdicts;
+    private final long exceptions;
+    private final long folded;
+
+    MxHandlerMetrics(String eventName, String handlerName, MxPriority priority,
+                     long invocations, long totalNanos,
+                     long p50Nanos, long p90Nanos, long p99Nanos, long maxNanos,
+                     long verdicts, long exceptions, long folded) {
+        this.eventName = eventName;
+        this.handlerName = handlerName;
+        this.priority = priority;
+        this.invocations = invocations;
+        this.totalNanos = totalNanos;
+        this.p50Nanos = p50Nanos;
+        this.p90Nanos = p90Nanos;
+        this.p99Nanos = p99Nanos;
+        this.maxNanos = maxNanos;
+        this.verdicts = verdicts;
+        this.exceptions = exceptions;
+        this.folded = folded;
+    }
+
+    /**
+     * Returns the simple name of the event class the handler is registered for.
+     *
+     * @return the event name; never {@code null}
+     */
+    public String getEventName() {
+        return eventName;
+    }
+
+    /**
+     * Returns the handler name as shown in trace output.
+     *
+     * @return the handler name; never {@code null}
+     */
+    public String getHandlerName() {
+        return handlerName;
+    }
+
+    /**
+     * Returns the priority the handler is registered with.
+     *
+     * @return the priority; never {@code null}
+     */
+    public MxPriority getPriority() {
+        return priority;
+    }
+
+    /**
+     * Returns how often the handler was invoked.
+     *
+     * @return the invocation count
+     */
+    public long getInvocations() {
+        return invocations;
+    }
+
+    /**
+     * Returns the cumulative time spent in the handler.
+     *
+     * @return the total latency in nanoseconds
+     */
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    /**
+     * Returns the mean time per invocation.
+     *
+     * @return the mean latency in nanoseconds, or {@code 0} if never invoked
+     */
+    public long getMeanNanos() {
+        return invocations == 0 ? 0 : totalNanos / invocations;
+    }
+
+    /**
+     * Returns the median latency.
+     *
+     * @return the 50th percentile in nanoseconds
+     */
+    public long getP50Nanos() {
+        return p50Nanos;
+    }
+
+    /**
+     * Returns the 90th percentile latency.
+     *
+     * @return the 90th percentile in nanoseconds
+     */
+    public long getP90Nanos() {
+        return p90Nanos;
+    }
+
+    /**
+     * Returns the 99th percentile latency.
+     *
+     * @return the 99th percentile in nanoseconds
+     */
+    public long getP99Nanos() {
+        return p99Nanos;
+    }
+
+    /**
+     * Returns the slowest single invocation.
+     *
+     * @return the maximum latency in nanoseconds
+     */
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    /**
+     * Returns how many verdicts the handler submitted.
+     *
+     * @return the submitted-verdict count
+     */
+    public long getVerdicts() {
+        return verdicts;
+    }
+
+    /**
+     * Returns how often the handler threw an exception.
+     *
+     * @return the exception count
+     */
+    public long getExceptions() {
+        return exceptions;
+    }
+
+    /**
+     * Returns how often the bus submitted the handler's {@link MxStaticVerdict static verdict}
+     * instead of invoking it. These are included in {@link #getVerdicts()} but not in
+     * {@link #getInvocations()}.
+     *
+     * @return the folded-verdict count
+     */
+    public long getFolded() {
+        return folded;
+    }
+
+    @Override
+    public String toString() {
+        return eventName + "/" + handlerName + " (" + priority + ")"
+                + " calls=" + invocations
+                + " total=" + formatNanos(totalNanos)
+                + " mean=" + formatNanos(getMeanNanos())
+                + " p50=" + formatNanos(p50Nanos)
+                + " p90=" + formatNanos(p90Nanos)
+                + " p99=" + formatNanos(p99Nanos)
+                + " max=" + formatNanos(maxNanos)
+                + " verdicts=" + verdicts
+                + " exceptions=" + exceptions
+                + " folded=" + folded;
+    }
+
+    static String formatNanos(long nanos) {
+        if (nanos < 10_000) return nanos + "ns";
+        if (nanos < 10_000_000) return (nanos / 1_000) + "µs";
+        return (nanos / 1_000_000) + "ms";
+    }
+}
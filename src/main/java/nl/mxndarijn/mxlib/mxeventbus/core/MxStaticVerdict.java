@@ -0,0 +1,38 @@
+package nl.mxndarijn.mxlib.mxeventbus.core;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares that an {@link MxSubscribe} handler always submits the same verdict, so the bus can
+ * submit it from the {@link MxDispatchPlan} instead of invoking the method.
+ *
+ * <p>The handler keeps its place in the priority order and its guards: the verdict is only
+ * submitted when the handler would have run, so it can be conditioned with the usual guard
+ * annotations (world types on the global bus, game states and actor roles on the game bus).
+ * The method body is never called. Folded verdicts still appear in pipeline traces as
+ * {@code STATIC} lines and are counted in {@link MxHandlerMetrics#getFolded()}.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * @MxSubscribe(priority = MxPriority.HIGH)
+ * @MxWorldTypes(MxWorldType.SPAWN)
+ * @MxStaticVerdict(MxCancellationState.HARD_DENY)
+ * public void onFoodLevelChange(MxGlobalEventContext<MxSpawnFoodLevelChangeEvent, MxWorldType> ctx) { }
+ * }</pre>
+ *
+ * <p>Not allowed on {@link MxPriority#MONITOR} handlers, which run after verdict resolution.</p>
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface MxStaticVerdict {
+
+    /**
+     * The verdict submitted whenever the handler's guards pass.
+     *
+     * @return the static verdict
+     */
+    MxCancellationState value();
+}
@@ -31,8 +31,13 @@ public @interface MxSubscribe {
     MxPriority priority() default MxPriority.NORMAL;
 
     /**
-     * When {@code true}, this handler is skipped if the event has been cancelled.
-     * Cancellation support is minimal in the current implementation and reserved for future use.
+     * When {@code true}, this handler is skipped once the bus verdict for the event is denied.
+     *
+     * <p>For spawn events bridged by {@code MxSpawnBukkitBridge} the flag also reaches Bukkit: when
+     * every handler of a wrapper event sets it, the bridge registers its executor with
+     * {@code ignoreCancelled}, so Bukkit events that another plugin already cancelled are not
+     * translated at all and none of these handlers run for them. Before executors were registered
+     * on demand such events were still posted to the bus with an allowed initial verdict.</p>
      *
      * @return {@code true} to skip cancelled events; defaults to {@code false}
      */
@@ -45,6 +50,15 @@ public @interface MxSubscribe {
      * @return the handler name; empty string means use the method name
      */
     String name() default "";
+
+    /**
+     * When {@code true}, this handler is invoked on the bus's {@link MxAsyncMonitorLane}
+     * instead of the posting thread. Only allowed together with {@link MxPriority#MONITOR};
+     * ignored (the handler runs synchronously) when the bus has no lane installed.
+     *
+     * @return {@code true} to run off the posting thread; defaults to {@code false}
+     */
+    boolean async() default false;
 }
 
 
@@ -7,7 +7,9 @@ import java.util.List;
  * verdicts into a single final verdict, evaluated before MONITOR-priority handlers run.
  *
  * <p>Events declare which strategy to use via {@link MxDefaultCancellation#resolver()}.
- * Each constant implements the {@link #resolve(List, MxCancellationState)} method.</p>
+ * Each constant implements {@link #resolve(MxVerdictSet, MxCancellationState)}, which only
+ * inspects the set's bitmask and first/last slots, and {@link #isFinal(MxVerdictSet)}, which
+ * tells the bus when further verdicts can no longer change the outcome.</p>
  */
 public enum MxVerdictResolver {
 
@@ -20,7 +22,7 @@ public enum MxVerdictResolver {
      */
     HARD_DENY_WINS {
         @Override
-        public MxCancellationState resolve(List<MxCancellationState> verdicts, MxCancellationState defaultState) {
+        public MxCancellationState resolve(MxVerdictSet verdicts, MxCancellationState defaultState) {
             if (verdicts.isEmpty()) return defaultState;
             if (verdicts.contains(MxCancellationState.HARD_DENY))  return MxCancellationState.HARD_DENY;
             if (verdicts.contains(MxCancellationState.HARD_ALLOW)) return MxCancellationState.HARD_ALLOW;
@@ -28,6 +30,11 @@ public enum MxVerdictResolver {
             if (verdicts.contains(MxCancellationState.SOFT_ALLOW)) return MxCancellationState.SOFT_ALLOW;
             return MxCancellationState.PASS;
         }
+
+        @Override
+        public boolean isFinal(MxVerdictSet verdicts) {
+            return verdicts.contains(MxCancellationState.HARD_DENY);
+        }
     },
 
     /**
@@ -39,7 +46,7 @@ public enum MxVerdictResolver {
      */
     HARD_ALLOW_WINS {
         @Override
-        public MxCancellationState resolve(List<MxCancellationState> verdicts, MxCancellationState defaultState) {
+        public MxCancellationState resolve(MxVerdictSet verdicts, MxCancellationState defaultState) {
             if (verdicts.isEmpty()) return defaultState;
             if (verdicts.contains(MxCancellationState.HARD_ALLOW)) return MxCancellationState.HARD_ALLOW;
             if (verdicts.contains(MxCancellationState.HARD_DENY))  return MxCancellationState.HARD_DENY;
@@ -47,6 +54,11 @@ public enum MxVerdictResolver {
             if (verdicts.contains(MxCancellationState.SOFT_DENY))  return MxCancellationState.SOFT_DENY;
             return MxCancellationState.PASS;
         }
+
+        @Override
+        public boolean isFinal(MxVerdictSet verdicts) {
+            return verdicts.contains(MxCancellationState.HARD_ALLOW);
+        }
     },
 
     /**
@@ -55,8 +67,13 @@ public enum MxVerdictResolver {
      */
     LAST_WINS {
         @Override
-        public MxCancellationState resolve(List<MxCancellationState> verdicts, MxCancellationState defaultState) {
-            return verdicts.isEmpty() ? defaultState : verdicts.get(verdicts.size() - 1);
+        public MxCancellationState resolve(MxVerdictSet verdicts, MxCancellationState defaultState) {
+            return verdicts.isEmpty() ? defaultState : verdicts.last();
+        }
+
+        @Override
+        public boolean isFinal(MxVerdictSet verdicts) {
+            return false;
         }
     },
 
@@ -66,11 +83,34 @@ public enum MxVerdictResolver {
      */
     FIRST_WINS {
         @Override
-        public MxCancellationState resolve(List<MxCancellationState> verdicts, MxCancellationState defaultState) {
-            return verdicts.isEmpty() ? defaultState : verdicts.get(0);
+        public MxCancellationState resolve(MxVerdictSet verdicts, MxCancellationState defaultState) {
+            return verdicts.isEmpty() ? defaultState : verdicts.first();
+        }
+
+        @Override
+        public boolean isFinal(MxVerdictSet verdicts) {
+            return !verdicts.isEmpty();
         }
     };
 
+    /**
+     * Resolves the handler-submitted verdicts into one final {@link MxCancellationState}.
+     *
+     * @param verdicts     the verdicts submitted by handlers; never {@code null}, may be empty
+     * @param defaultState the event's declared default state, used as fallback when no verdict was submitted
+     * @return the resolved final state; never {@code null}
+     */
+    public abstract MxCancellationState resolve(MxVerdictSet verdicts, MxCancellationState defaultState);
+
+    /**
+     * Returns whether the outcome of {@link #resolve(MxVerdictSet, MxCancellationState)} is fixed,
+     * i.e. no verdict submitted later can change it.
+     *
+     * @param verdicts the verdicts submitted so far; never {@code null}
+     * @return {@code true} if further verdicts cannot change the resolved state
+     */
+    public abstract boolean isFinal(MxVerdictSet verdicts);
+
     /**
      * Resolves a list of handler-submitted verdicts into one final {@link MxCancellationState}.
      *
@@ -78,7 +118,7 @@ public enum MxVerdictResolver {
      * @param defaultState the event's declared default state, used as fallback when the list is empty
      * @return the resolved final state; never {@code null}
      */
-    public abstract MxCancellationState resolve(List<MxCancellationState> verdicts, MxCancellationState defaultState);
+    public MxCancellationState resolve(List<MxCancellationState> verdicts, MxCancellationState defaultState) {
+        return resolve(MxVerdictSet.copyOf(verdicts), defaultState);
+    }
 }
-
-
@@ -0,0 +1,151 @@
+package nl.mxndarijn.mxlib.mxeventbus.core;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compact accumulator for the {@link MxCancellationState} verdicts submitted during one dispatch.
+ *
+ * <p>Each distinct state is recorded as one bit of an {@code int} mask, next to the first and last
+ * submitted verdict. That is everything the {@link MxVerdictResolver} strategies need, so
+ * resolution is a handful of bit tests and submitting a verdict never allocates for the common
+ * case of a single verdict.</p>
+ *
+ * <p>The full submission order is still kept for {@link #asList()}, which backs
+ * {@link MxBaseContext#getSubmittedVerdicts()}. The history array is only allocated once a second
+ * verdict arrives.</p>
+ */
+public final class MxVerdictSet {
+
+    private static final MxCancellationState[] STATES = MxCancellationState.values();
+
+    private int mask;
+    private int count;
+    private MxCancellationState first;
+    private MxCancellationState last;
+
+    /** Submission history from the second verdict on; {@code null} while {@code count <= 1}. */
+    private MxCancellationState[] history;
+
+    /**
+     * Records a submitted verdict.
+     *
+     * @param state the verdict; must not be {@code null}
+     */
+    public void add(MxCancellationState state) {
+        if (state == null) throw new IllegalArgumentException("state must not be null");
+        mask |= bit(state);
+        if (count == 0) {
+            first = state;
+        } else {
+            if (history == null) {
+                history = new MxCancellationState[4];
+                history[0] = first;
+            } else if (count == history.length) {
+                history = Arrays.copyOf(history, count * 2);
+            }
+            history[count] = state;
+        }
+        last = state;
+        count++;
+    }
+
+    /**
+     * Returns whether the given verdict was submitted at least once.
+     *
+     * @param state the verdict to test; must not be {@code null}
+     * @return {@code true} if the verdict was submitted
+     */
+    public boolean contains(MxCancellationState state) {
+        return (mask & bit(state)) != 0;
+    }
+
+    /**
+     * Returns whether no verdict has been submitted.
+     *
+     * @return {@code true} if the set is empty
+     */
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    /**
+     * Returns the number of verdicts submitted, counting repeats.
+     *
+     * @return the submission count
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Returns the first submitted verdict.
+     *
+     * @return the first verdict, or {@code null} if the set is empty
+     */
+    public MxCancellationState first() {
+        return first;
+    }
+
+    /**
+     * Returns the most recently submitted verdict.
+     *
+     * @return the last verdict, or {@code null} if the set is empty
+     */
+    public MxCancellationState last() {
+        return last;
+    }
+
+    /**
+     * Returns the most denying verdict submitted, i.e. the one with the lowest ordinal.
+     *
+     * @return the most denying verdict, or {@code null} if the set is empty
+     */
+    public MxCancellationState mostDenied() {
+        return mask == 0 ? null : STATES[Integer.numberOfTrailingZeros(mask)];
+    }
+
+    /**
+     * Returns an unmodifiable, ordered view of every submitted verdict.
+     * The view reflects later submissions.
+     *
+     * @return the submission history; never {@code null}
+     */
+    public List<MxCancellationState> asList() {
+        return new AbstractList<>() {
+            @Override
+            public MxCancellationState get(int index) {
+                if (index < 0 || index >= count) throw new IndexOutOfBoundsException(index);
+                return history != null ? history[index] : first;
+            }
+
+            @Override
+            public int size() {
+                return count;
+            }
+        };
+    }
+
+    /**
+     * Builds a set from an ordered list of verdicts.
+     *
+     * @param verdicts the verdicts in submission order; must not be {@code null}
+     * @return a new set containing the verdicts; never {@code null}
+     */
+    public static MxVerdictSet copyOf(List<MxCancellationState> verdicts) {
+        if (verdicts == null) throw new IllegalArgumentException("verdicts must not be null");
+        MxVerdictSet set = new MxVerdictSet();
+        for (MxCancellationState v : verdicts) set.add(v);
+        return set;
+    }
+
+    @Override
+    public String toString() {
+        return asList().toString();
+    }
+
+    private static int bit(MxCancellationState state) {
+        return 1 << state.ordinal();
+    }
+}
@@ -0,0 +1,115 @@
+package nl.mxndarijn.mxlib.mxeventbus.game;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caching {@link MxIActorResolver} that remembers the role of every actor of one game.
+ *
+ * <p>The first lookup of a UUID is delegated to the wrapped resolver; later lookups are a
+ * single map read. Because the table cannot observe role changes itself, game code must call
+ * {@link #invalidate(UUID)} (or {@link #assign(UUID, MxIApplicableTo)}) whenever a player's
+ * role changes, and {@link #invalidateAll()} when teams are rebuilt.</p>
+ *
+ * <p>Invalidations always win over lookups running at the same time: a role resolved before an
+ * invalidation is returned to its caller but never stays cached.</p>
+ *
+ * <p>Example:</p>
+ * <pre>{@code
+ * MxActorRoleTable<Role> roles = new MxActorRoleTable<>(uuid -> game.findRole(uuid));
+ * MxGameEventBus<GameState, Role> bus = new MxGameEventBus<>(roles, configFile);
+ * ...
+ * game.setRole(player, Role.SPECTATOR);
+ * roles.invalidate(player.getUniqueId());
+ * }</pre>
+ *
+ * @param <A> the concrete actor-role type, which must implement {@link MxIApplicableTo}
+ */
+public final class MxActorRoleTable<A extends MxIApplicableTo> implements MxIActorResolver<A> {
+
+    private final MxIActorResolver<A> delegate;
+
+    /** Cached player roles; {@link Optional#empty()} records "not a known actor". */
+    private final Map<UUID, Optional<A>> roles = new ConcurrentHashMap<>();
+
+    /** Cached role for non-player ({@code null} UUID) actors, or {@code null} if not resolved yet. */
+    private volatile Optional<A> nonPlayerRole;
+
+    /** Incremented by every invalidation or assignment; a lookup only caches if it did not move. */
+    private final AtomicLong epoch = new AtomicLong();
+
+    /**
+     * Constructs a new {@code MxActorRoleTable}.
+     *
+     * @param delegate the resolver consulted on cache misses; must not be {@code null}
+     */
+    public MxActorRoleTable(MxIActorResolver<A> delegate) {
+        if (delegate == null) throw new IllegalArgumentException("delegate must not be null");
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Optional<A> resolve(UUID uuid) {
+        if (uuid == null) {
+            Optional<A> role = nonPlayerRole;
+            if (role == null) {
+                long stamp = epoch.get();
+                role = delegate.resolve(null);
+                if (epoch.get() == stamp) {
+                    nonPlayerRole = role;
+                    if (epoch.get() != stamp) nonPlayerRole = null;
+                }
+            }
+            return role;
+        }
+        Optional<A> role = roles.get(uuid);
+        if (role == null) {
+            long stamp = epoch.get();
+            role = delegate.resolve(uuid);
+            if (epoch.get() != stamp) return role;
+            Optional<A> cached = roles.putIfAbsent(uuid, role);
+            if (cached != null) return cached;
+            // An invalidation that ran between the check and the put must not be undone
+            if (epoch.get() != stamp) {
+                Optional<A> stale = role;
+                roles.computeIfPresent(uuid, (k, v) -> v == stale ? null : v);
+            }
+        }
+        return role;
+    }
+
+    /**
+     * Records the role of a player directly, without consulting the delegate.
+     *
+     * @param uuid the player UUID; must not be {@code null}
+     * @param role the new role, or {@code null} if the player is no longer a known actor
+     */
+    public void assign(UUID uuid, A role) {
+        if (uuid == null) throw new IllegalArgumentException("uuid must not be null");
+        epoch.incrementAndGet();
+        roles.put(uuid, Optional.ofNullable(role));
+    }
+
+    /**
+     * Forgets the cached role of a player so the next lookup consults the delegate again.
+     *
+     * @param uuid the player UUID; must not be {@code null}
+     */
+    public void invalidate(UUID uuid) {
+        if (uuid == null) throw new IllegalArgumentException("uuid must not be null");
+        epoch.incrementAndGet();
+        roles.remove(uuid);
+    }
+
+    /**
+     * Forgets all cached roles, including the non-player role.
+     */
+    public void invalidateAll() {
+        epoch.incrementAndGet();
+        roles.clear();
+        nonPlayerRole = null;
+    }
+}
@@ -2,11 +2,14 @@ package nl.mxndarijn.mxlib.mxeventbus.game;
 import nl.mxndarijn.mxlib.mxeventbus.core.MxBaseContext;
 import nl.mxndarijn.mxlib.mxeventbus.core.MxCancellationState;
 import nl.mxndarijn.mxlib.mxeventbus.core.MxDefaultCancellation;
+import nl.mxndarijn.mxlib.mxeventbus.core.MxEventMetadata;
 import nl.mxndarijn.mxlib.mxeventbus.core.MxVerdictResolver;
+import nl.mxndarijn.mxlib.mxeventbus.core.MxVerdictSet;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Wraps a {@link MxGameEvent} as it travels through the event pipeline.
@@ -28,26 +31,43 @@ public class MxEventContext<T extends MxGameEvent<S>, S extends MxIGameState, A
         implements MxBaseContext<T> {
 
     private final T event;
-    private final List<String> trace = new ArrayList<>();
-    private final List<MxCancellationState> verdicts = new ArrayList<>();
+    private final boolean tracing;
+    private final List<String> trace;
+    private final MxVerdictSet verdicts = new MxVerdictSet();
     private final MxCancellationState defaultState;
     private final MxVerdictResolver resolver;
     private MxCancellationState resolvedState;
 
+    /** Actor role resolved by the bus for this post, or {@code null} if not resolved yet. */
+    private Optional<A> actorRole;
+
     /**
-     * Creates a new context wrapping the given event.
-     * The default state and resolver are read from the {@link MxDefaultCancellation}
-     * annotation on the event class, falling back to {@link MxCancellationState#PASS}
-     * and {@link MxVerdictResolver#HARD_DENY_WINS} respectively.
+     * Creates a new tracing context wrapping the given event.
      *
      * @param event the event being dispatched; must not be {@code null}
+     * @see #MxEventContext(MxGameEvent, boolean)
      */
     public MxEventContext(T event) {
+        this(event, true);
+    }
+
+    /**
+     * Creates a new context wrapping the given event.
+     * The default state and resolver are taken from the event class's cached
+     * {@link MxEventMetadata}, i.e. its {@link MxDefaultCancellation} annotation, falling back
+     * to {@link MxCancellationState#PASS} and {@link MxVerdictResolver#HARD_DENY_WINS} respectively.
+     *
+     * @param event   the event being dispatched; must not be {@code null}
+     * @param tracing whether trace messages are recorded; when {@code false} no trace list is allocated
+     */
+    public MxEventContext(T event, boolean tracing) {
         if (event == null) throw new IllegalArgumentException("event must not be null");
         this.event = event;
-        MxDefaultCancellation ann = event.getClass().getAnnotation(MxDefaultCancellation.class);
-        this.defaultState  = ann != null ? ann.value() : MxCancellationState.PASS;
-        this.resolver      = ann != null ? ann.resolver() : MxVerdictResolver.HARD_DENY_WINS;
+        this.tracing = tracing;
+        this.trace = tracing ? new ArrayList<>() : null;
+        MxEventMetadata metadata = MxEventMetadata.of(event.getClass());
+        this.defaultState  = metadata.getDefaultState();
+        this.resolver      = metadata.getResolver();
         this.resolvedState = this.defaultState;
     }
 
@@ -66,7 +86,6 @@ public class MxEventContext<T extends MxGameEvent<S>, S extends MxIGameState, A
      * @param state the verdict to submit; must not be {@code null}
      */
     public void submitVerdict(MxCancellationState state) {
-        if (state == null) throw new IllegalArgumentException("state must not be null");
         verdicts.add(state);
     }
 
@@ -76,7 +95,25 @@ public class MxEventContext<T extends MxGameEvent<S>, S extends MxIGameState, A
      * @return ordered list of submitted verdicts; never {@code null}
      */
     public List<MxCancellationState> getSubmittedVerdicts() {
-        return Collections.unmodifiableList(verdicts);
+        return verdicts.asList();
+    }
+
+    /**
+     * Returns the verdicts submitted by handlers so far.
+     *
+     * @return the verdict accumulator; never {@code null}
+     */
+    public MxVerdictSet getVerdicts() {
+        return verdicts;
+    }
+
+    /**
+     * Returns whether the event's {@link MxVerdictResolver} can no longer change its outcome.
+     *
+     * @return {@code true} if the resolved state is already fixed
+     */
+    public boolean isVerdictFinal() {
+        return resolver.isFinal(verdicts);
     }
 
     /**
@@ -85,8 +122,10 @@ public class MxEventContext<T extends MxGameEvent<S>, S extends MxIGameState, A
      */
     public void resolveVerdict() {
         resolvedState = resolver.resolve(verdicts, defaultState);
-        trace("  [RESOLVE] " + verdicts + " → " + resolvedState
-                + " (resolver=" + resolver.name() + ", default=" + defaultState + ")");
+        if (tracing) {
+            trace("  [RESOLVE] " + verdicts + " → " + resolvedState
+                    + " (resolver=" + resolver.name() + ", default=" + defaultState + ")");
+        }
     }
 
     /**
@@ -116,23 +155,52 @@ public class MxEventContext<T extends MxGameEvent<S>, S extends MxIGameState, A
         return resolvedState.isDenied();
     }
 
+    /**
+     * Returns the actor role resolved for this post, or {@code null} if the bus has not
+     * resolved it yet. Used by {@link MxGameEventBus} to resolve the actor at most once per post.
+     *
+     * @return the cached role lookup result, or {@code null}
+     */
+    Optional<A> cachedActorRole() {
+        return actorRole;
+    }
+
+    /**
+     * Caches the actor role resolved for this post.
+     *
+     * @param actorRole the resolver result; must not be {@code null}
+     */
+    void cacheActorRole(Optional<A> actorRole) {
+        this.actorRole = actorRole;
+    }
+
+    /**
+     * Returns whether this context records trace messages.
+     *
+     * @return {@code true} if trace messages are recorded
+     */
+    public boolean isTracing() {
+        return tracing;
+    }
+
     /**
      * Appends a trace message describing a pipeline step.
+     * Ignored when this context is not tracing.
      *
      * @param message the message to record; must not be {@code null}
      */
     public void trace(String message) {
         if (message == null) throw new IllegalArgumentException("message must not be null");
-        trace.add(message);
+        if (tracing) trace.add(message);
     }
 
     /**
      * Returns an unmodifiable view of all trace messages recorded during dispatch.
      *
-     * @return ordered list of trace messages; never {@code null}
+     * @return ordered list of trace messages; empty when not tracing; never {@code null}
      */
     public List<String> getTrace() {
-        return Collections.unmodifiableList(trace);
+        return tracing ? Collections.unmodifiableList(trace) : Collections.emptyList();
     }
 }
 
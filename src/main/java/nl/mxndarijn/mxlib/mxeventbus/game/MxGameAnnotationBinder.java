@@ -1,7 +1,9 @@
 package nl.mxndarijn.mxlib.mxeventbus.game;
 
 import nl.mxndarijn.mxlib.mxeventbus.core.MxAbstractAnnotationBinder;
+import nl.mxndarijn.mxlib.mxeventbus.core.MxEventHandler;
 import nl.mxndarijn.mxlib.mxeventbus.core.MxPriority;
+import nl.mxndarijn.mxlib.mxeventbus.core.MxStaticVerdict;
 import nl.mxndarijn.mxlib.mxeventbus.core.MxSubscribe;
 
 import java.lang.reflect.Method;
@@ -23,6 +25,9 @@ import java.util.Set;
  * {@link MxIGameStateGuard} and {@link MxIApplicableGuard} strategies respectively.
  * If a guard returns an empty set, the handler runs for all values.</p>
  *
+ * <p>Methods also annotated with {@link MxStaticVerdict} are registered through
+ * {@link MxGameEventBus#registerStaticVerdict} and are never invoked.</p>
+ *
  * @param <S> the concrete game-state type, which must implement {@link MxIGameState}
  * @param <A> the concrete actor-role type, which must implement {@link MxIApplicableTo}
  */
@@ -92,12 +97,28 @@ public class MxGameAnnotationBinder<S extends MxIGameState, A extends MxIApplica
         MxPriority priority = sub.priority();
         String name = sub.name().isBlank() ? method.getName() : sub.name();
         boolean ignoreCancelled = sub.doNotRunWhenEventCanceled();
+        if (sub.async() && priority != MxPriority.MONITOR) {
+            throw new IllegalArgumentException(
+                    "@MxSubscribe method " + methodRef + " may only set async=true with priority MONITOR");
+        }
+
+        MxStaticVerdict staticVerdict = method.getAnnotation(MxStaticVerdict.class);
+        if (staticVerdict != null && priority == MxPriority.MONITOR) {
+            throw new IllegalArgumentException(
+                    "@MxStaticVerdict method " + methodRef + " must not have priority MONITOR");
+        }
 
         // Read guard annotations via injected strategies
         Set<S> allowedStates  = stateGuard.resolve(method);
         Set<A> allowedTargets = applicableGuard.resolve(method);
 
-        method.setAccessible(true);
+        if (staticVerdict != null) {
+            bus.registerStaticVerdict(typedEventClass, name, priority, allowedStates, allowedTargets,
+                    ignoreCancelled, staticVerdict.value(), listener);
+            return;
+        }
+
+        MxEventHandler<MxGameEvent<S>> handler = createInvoker(MxEventHandler.class, listener, method);
         bus.register(
                 typedEventClass,
                 name,
@@ -105,15 +126,8 @@ public class MxGameAnnotationBinder<S extends MxIGameState, A extends MxIApplica
                 allowedStates,
                 allowedTargets,
                 ignoreCancelled,
-                ctx -> {
-                    try {
-                        method.invoke(listener, ctx);
-                    } catch (java.lang.reflect.InvocationTargetException ite) {
-                        Throwable cause = ite.getCause();
-                        if (cause instanceof RuntimeException re) throw re;
-                        throw new RuntimeException(cause);
-                    }
-                },
+                sub.async(),
+                handler,
                 listener);
     }
 
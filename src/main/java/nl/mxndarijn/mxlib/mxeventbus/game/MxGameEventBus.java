@@ -20,6 +20,10 @@ import java.util.stream.Collectors;
  * <p>WIDM-specific logic (actor resolution, config file) is injected via constructor
  * so this class has zero WIDM dependencies and can be moved to MxLib.</p>
  *
+ * <p>The actor of an {@link MxHasActor} event is resolved at most once per post and reused
+ * for every handler's role guard. Wrap the resolver in an {@link MxActorRoleTable} to also
+ * cache roles across posts.</p>
+ *
  * @param <S> the concrete game-state type, which must implement {@link MxIGameState}
  * @param <A> the concrete actor-role type, which must implement {@link MxIApplicableTo}
  */
@@ -87,13 +91,72 @@ public class MxGameEventBus<S extends MxIGameState, A extends MxIApplicableTo>
                                                    boolean ignoreCancelled,
                                                    MxEventHandler<T> handler,
                                                    Object listener) {
+        register(eventType, name, priority, allowedStates, allowedTargets, ignoreCancelled, false, handler, listener);
+    }
+
+    /**
+     * Registers a handler for the given event type with an owning listener reference.
+     *
+     * @param <T>             the event type
+     * @param eventType       the exact event class to listen for; must not be {@code null}
+     * @param name            human-readable handler name used in trace output
+     * @param priority        execution priority; must not be {@code null}
+     * @param allowedStates   set of permitted game states, or {@code null}/empty for all
+     * @param allowedTargets  set of permitted actor roles, or {@code null}/empty for all
+     * @param ignoreCancelled when {@code true}, skip this handler if the event is denied
+     * @param async           when {@code true}, run this MONITOR handler on the async lane
+     * @param handler         the handler logic; must not be {@code null}
+     * @param listener        the owning listener object; may be {@code null}
+     */
+    public <T extends MxGameEvent<S>> void register(Class<T> eventType,
+                                                   String name,
+                                                   MxPriority priority,
+                                                   Set<S> allowedStates,
+                                                   Set<A> allowedTargets,
+                                                   boolean ignoreCancelled,
+                                                   boolean async,
+                                                   MxEventHandler<T> handler,
+                                                   Object listener) {
         if (eventType == null) throw new IllegalArgumentException("eventType must not be null");
         if (priority == null)  throw new IllegalArgumentException("priority must not be null");
         if (handler == null)   throw new IllegalArgumentException("handler must not be null");
 
         MxHandlerEntry entry = new MxHandlerEntry<>(
                 name != null ? name : "anonymous",
-                priority, allowedStates, allowedTargets, ignoreCancelled, handler, listener);
+                priority, allowedStates, allowedTargets, ignoreCancelled, async, null, handler, listener);
+        registerEntry(eventType, entry);
+    }
+
+    /**
+     * Registers a handler that always submits the same verdict. The bus submits it whenever the
+     * handler's guards pass, without invoking any handler code; see {@link MxStaticVerdict}.
+     *
+     * @param <T>             the event type
+     * @param eventType       the exact event class to listen for; must not be {@code null}
+     * @param name            human-readable handler name used in trace output
+     * @param priority        execution priority; must not be {@code null} or MONITOR
+     * @param allowedStates   set of permitted game states, or {@code null}/empty for all
+     * @param allowedTargets  set of permitted actor roles, or {@code null}/empty for all
+     * @param ignoreCancelled when {@code true}, skip this handler if the event is denied
+     * @param verdict         the verdict to submit; must not be {@code null}
+     * @param listener        the owning listener object; may be {@code null}
+     */
+    public <T extends MxGameEvent<S>> void registerStaticVerdict(Class<T> eventType,
+                                                                String name,
+                                                                MxPriority priority,
+                                                                Set<S> allowedStates,
+                                                                Set<A> allowedTargets,
+                                                                boolean ignoreCancelled,
+                                                                MxCancellationState verdict,
+                                                                Object listener) {
+        if (eventType == null) throw new IllegalArgumentException("eventType must not be null");
+        if (priority == null)  throw new IllegalArgumentException("priority must not be null");
+        if (verdict == null)   throw new IllegalArgumentException("verdict must not be null");
+
+        MxEventHandler<T> handler = ctx -> ctx.submitVerdict(verdict);
+        MxHandlerEntry entry = new MxHandlerEntry<>(
+                name != null ? name : "anonymous",
+                priority, allowedStates, allowedTargets, ignoreCancelled, false, verdict, handler, listener);
         registerEntry(eventType, entry);
     }
 
@@ -109,8 +172,8 @@ public class MxGameEventBus<S extends MxIGameState, A extends MxIApplicableTo>
 
 
     @Override
-    protected MxBaseContext<MxGameEvent<S>> createContext(MxGameEvent<S> event) {
-        return (MxBaseContext<MxGameEvent<S>>) new MxEventContext<>(event);
+    protected MxBaseContext<MxGameEvent<S>> createContext(MxGameEvent<S> event, boolean tracing) {
+        return (MxBaseContext<MxGameEvent<S>>) new MxEventContext<>(event, tracing);
     }
 
     @Override
@@ -118,8 +181,10 @@ public class MxGameEventBus<S extends MxIGameState, A extends MxIApplicableTo>
                                    MxBaseContext<MxGameEvent<S>> ctx,
                                    MxGameEvent<S> event) {
         if (entry.ignoreCancelled && ctx.isCancelled()) {
-            ctx.trace("<yellow>[<gray>SKIP<yellow>] " + entry.name
-                    + " — ignoreCancelled=true and state is " + ctx.getCancellationState() + "<yellow>");
+            if (ctx.isTracing()) {
+                ctx.trace("<yellow>[<gray>SKIP<yellow>] " + entry.name
+                        + " — ignoreCancelled=true and state is " + ctx.getCancellationState() + "<yellow>");
+            }
             return false;
         }
 
@@ -127,27 +192,30 @@ public class MxGameEventBus<S extends MxIGameState, A extends MxIApplicableTo>
 
         if (handlerEntry.allowedStates != null && !handlerEntry.allowedStates.isEmpty()) {
             if (!((Set<S>) handlerEntry.allowedStates).contains(event.gameState())) {
-                String allowed = handlerEntry.allowedStates.stream()
-                        .map(s -> "<yellow>" + s + "<yellow>")
-                        .collect(Collectors.joining(", ", "[", "]"));
-                ctx.trace("<yellow>[<gray>SKIP<yellow>] " + entry.name
-                        + " — state <yellow>" + event.gameState()
-                        + "<yellow> not in " + allowed + "<yellow>");
+                if (ctx.isTracing()) {
+                    String allowed = handlerEntry.allowedStates.stream()
+                            .map(s -> "<yellow>" + s + "<yellow>")
+                            .collect(Collectors.joining(", ", "[", "]"));
+                    ctx.trace("<yellow>[<gray>SKIP<yellow>] " + entry.name
+                            + " — state <yellow>" + event.gameState()
+                            + "<yellow> not in " + allowed + "<yellow>");
+                }
                 return false;
             }
         }
 
         if (event instanceof MxHasActor hasActor) {
-            UUID actorUUID = hasActor.getActor().orElse(null);
-            Optional<A> applicableTo = actorResolver.resolve(actorUUID);
+            Optional<A> applicableTo = resolveActor((MxEventContext) ctx, hasActor);
             if (applicableTo.isEmpty()) {
                 ctx.trace("<yellow>[<gray>SKIP<yellow>] Actor not a known role<yellow>");
                 return false;
             }
             if (handlerEntry.allowedTargets != null && !handlerEntry.allowedTargets.isEmpty()) {
                 if (!((Set<A>) handlerEntry.allowedTargets).contains(applicableTo.get())) {
-                    ctx.trace("<yellow>[<gray>SKIP<yellow>] " + entry.name + " — actor role "
-                            + applicableTo.get() + " <yellow>not in " + handlerEntry.allowedTargets + "<yellow>");
+                    if (ctx.isTracing()) {
+                        ctx.trace("<yellow>[<gray>SKIP<yellow>] " + entry.name + " — actor role "
+                                + applicableTo.get() + " <yellow>not in " + handlerEntry.allowedTargets + "<yellow>");
+                    }
                     return false;
                 }
             }
@@ -156,20 +224,45 @@ public class MxGameEventBus<S extends MxIGameState, A extends MxIApplicableTo>
         return true;
     }
 
+    /**
+     * Resolves the actor role of the event, reusing the result cached on the context
+     * so that the resolver runs at most once per post.
+     *
+     * @param ctx      the context of the current post
+     * @param hasActor the event, viewed as an actor-bearing event
+     * @return the resolved role, or {@link Optional#empty()} if the actor is not a known role
+     */
+    private Optional<A> resolveActor(MxEventContext<?, S, A> ctx, MxHasActor hasActor) {
+        Optional<A> role = ctx.cachedActorRole();
+        if (role == null) {
+            UUID actorUUID = hasActor.getActor().orElse(null);
+            role = actorResolver.resolve(actorUUID);
+            ctx.cacheActorRole(role);
+        }
+        return role;
+    }
+
     @Override
-    protected void invokeHandler(MxBaseHandlerEntry<MxGameEvent<S>, ?> entry, MxBaseContext<MxGameEvent<S>> ctx) {
+    protected boolean invokeHandler(MxBaseHandlerEntry<MxGameEvent<S>, ?> entry, MxBaseContext<MxGameEvent<S>> ctx) {
         try {
-            int verdictsBefore = ctx.getSubmittedVerdicts().size();
+            if (!ctx.isTracing()) {
+                ((MxEventHandler) entry.handler).handle((MxEventContext) ctx);
+                return true;
+            }
+            int verdictsBefore = ctx.getVerdicts().size();
             ctx.trace("<yellow>[<green>RUN<yellow>]  " + entry.name + " (priority=" + entry.priority + ")");
             ((MxEventHandler) entry.handler).handle((MxEventContext) ctx);
-            var verdicts = ctx.getSubmittedVerdicts();
+            MxVerdictSet verdicts = ctx.getVerdicts();
             if (verdicts.size() > verdictsBefore) {
-                MxCancellationState submitted = verdicts.get(verdicts.size() - 1);
+                MxCancellationState submitted = verdicts.last();
                 ctx.trace("<yellow>  <dark_gray>↳ <yellow>Verdict: " + submitted);
             }
-        } catch (Exception e) {
-            MxLogger.logMessage(MxLogLevel.ERROR,
-                    "[MxGameEventBus] Handler '" + entry.name + "' threw an exception: " + e.getMessage());
+            return true;
+        } catch (Throwable t) {
+            // errors are isolated too, so one broken handler cannot skip the rest of the pipeline
+            MxLogger.logMessage(MxLogLevel.ERROR, "[MxGameEventBus] Handler '" + entry.name
+                    + "' threw an exception: " + (t instanceof Exception ? t.getMessage() : t));
+            return false;
         }
     }
 
@@ -2,6 +2,7 @@ package nl.mxndarijn.mxlib.mxeventbus.global;
 
 import nl.mxndarijn.mxlib.mxeventbus.core.MxAbstractAnnotationBinder;
 import nl.mxndarijn.mxlib.mxeventbus.core.MxPriority;
+import nl.mxndarijn.mxlib.mxeventbus.core.MxStaticVerdict;
 import nl.mxndarijn.mxlib.mxeventbus.core.MxSubscribe;
 import nl.mxndarijn.mxlib.mxeventbus.game.MxIWorldType;
 import nl.mxndarijn.mxlib.mxeventbus.game.MxIWorldTypeGuard;
@@ -27,6 +28,9 @@ import java.util.Set;
  * implementation reads the {@code @MxWorldTypes} annotation and falls back to all
  * world types when the annotation is absent.</p>
  *
+ * <p>Methods also annotated with {@link MxStaticVerdict} are registered through
+ * {@link MxGlobalEventBus#registerStaticVerdict} and are never invoked.</p>
+ *
  * @param <W> the world-type token used by the bus and events
  */
 public class MxGlobalAnnotationBinder<W extends MxIWorldType> extends MxAbstractAnnotationBinder<MxGlobalEventBus<W>> {
@@ -92,26 +96,35 @@ public class MxGlobalAnnotationBinder<W extends MxIWorldType> extends MxAbstract
         MxPriority priority = sub.priority();
         String name = sub.name().isBlank() ? method.getName() : sub.name();
         boolean ignoreCancelled = sub.doNotRunWhenEventCanceled();
+        if (sub.async() && priority != MxPriority.MONITOR) {
+            throw new IllegalArgumentException(
+                    "@MxSubscribe method " + methodRef + " may only set async=true with priority MONITOR");
+        }
+
+        MxStaticVerdict staticVerdict = method.getAnnotation(MxStaticVerdict.class);
+        if (staticVerdict != null && priority == MxPriority.MONITOR) {
+            throw new IllegalArgumentException(
+                    "@MxStaticVerdict method " + methodRef + " must not have priority MONITOR");
+        }
 
         // Resolve permitted world types via the injected guard strategy
         Set<W> allowedWorlds = worldTypeGuard.resolve(method);
 
-        method.setAccessible(true);
+        if (staticVerdict != null) {
+            bus.registerStaticVerdict(typedEventClass, name, priority, allowedWorlds,
+                    ignoreCancelled, staticVerdict.value(), listener);
+            return;
+        }
+
+        MxGlobalEventHandler<MxGlobalEvent<W>, W> handler = createInvoker(MxGlobalEventHandler.class, listener, method);
         bus.register(
                 typedEventClass,
                 name,
                 priority,
                 allowedWorlds,
                 ignoreCancelled,
-                ctx -> {
-                    try {
-                        method.invoke(listener, ctx);
-                    } catch (java.lang.reflect.InvocationTargetException ite) {
-                        Throwable cause = ite.getCause();
-                        if (cause instanceof RuntimeException re) throw re;
-                        throw new RuntimeException(cause);
-                    }
-                },
+                sub.async(),
+                handler,
                 listener);
     }
 
@@ -6,10 +6,17 @@ import nl.mxndarijn.mxlib.logger.MxLogger;
 import nl.mxndarijn.mxlib.mxeventbus.core.MxAbstractEventBus;
 import nl.mxndarijn.mxlib.mxeventbus.core.MxBaseContext;
 import nl.mxndarijn.mxlib.mxeventbus.core.MxBaseHandlerEntry;
+import nl.mxndarijn.mxlib.mxeventbus.core.MxCancellationState;
 import nl.mxndarijn.mxlib.mxeventbus.core.MxPriority;
+import nl.mxndarijn.mxlib.mxeventbus.core.MxStaticVerdict;
+import nl.mxndarijn.mxlib.mxeventbus.core.MxVerdictSet;
 import nl.mxndarijn.mxlib.mxeventbus.game.MxIWorldType;
 
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Plugin-wide event bus for events that occur outside of a game context.
@@ -34,6 +41,20 @@ public class MxGlobalEventBus<W extends MxIWorldType> extends MxAbstractEventBus
     /** The config file used to persist logged event names. */
     private final MxConfigFileType configFile;
 
+    /**
+     * Per event class: which world types have at least one handler. Rebuilt in
+     * {@link #handlersChanged} and read lock-free by {@link #hasSubscribers}.
+     */
+    private final ClassValue<PresenceSlot> presence = new ClassValue<>() {
+        @Override
+        protected PresenceSlot computeValue(Class<?> type) {
+            return new PresenceSlot();
+        }
+    };
+
+    /** Callbacks notified after {@link #handlersChanged} updated the presence index. */
+    private final List<MxGlobalSubscriptionListener<W>> subscriptionListeners = new CopyOnWriteArrayList<>();
+
     /**
      * Constructs a new {@code MxGlobalEventBus}.
      *
@@ -60,12 +81,36 @@ public class MxGlobalEventBus<W extends MxIWorldType> extends MxAbstractEventBus
      * @param handler         the handler logic; must not be {@code null}
      * @param listener        the owning listener object; may be {@code null}
      */
+    public <T extends MxGlobalEvent<W>> void register(Class<T> eventType,
+                                                     String name,
+                                                     MxPriority priority,
+                                                     Set<W> allowedWorlds,
+                                                     boolean ignoreCancelled,
+                                                     MxGlobalEventHandler<T, W> handler,
+                                                     Object listener) {
+        register(eventType, name, priority, allowedWorlds, ignoreCancelled, false, handler, listener);
+    }
+
+    /**
+     * Registers a handler for the given event type.
+     *
+     * @param <T>             the event type
+     * @param eventType       the exact event class to listen for; must not be {@code null}
+     * @param name            human-readable handler name used in trace output
+     * @param priority        execution priority; must not be {@code null}
+     * @param allowedWorlds   set of permitted world-type values, or empty for all
+     * @param ignoreCancelled when {@code true}, skip this handler if the event is cancelled
+     * @param async           when {@code true}, run this MONITOR handler on the async lane
+     * @param handler         the handler logic; must not be {@code null}
+     * @param listener        the owning listener object; may be {@code null}
+     */
     @SuppressWarnings({"unchecked", "rawtypes"})
     public <T extends MxGlobalEvent<W>> void register(Class<T> eventType,
                                                      String name,
                                                      MxPriority priority,
                                                      Set<W> allowedWorlds,
                                                      boolean ignoreCancelled,
+                                                     boolean async,
                                                      MxGlobalEventHandler<T, W> handler,
                                                      Object listener) {
         if (eventType == null) throw new IllegalArgumentException("eventType must not be null");
@@ -74,7 +119,39 @@ public class MxGlobalEventBus<W extends MxIWorldType> extends MxAbstractEventBus
 
         MxGlobalHandlerEntry entry = new MxGlobalHandlerEntry<>(
                 name != null ? name : "anonymous",
-                priority, allowedWorlds, ignoreCancelled, handler, listener);
+                priority, allowedWorlds, ignoreCancelled, async, null, handler, listener);
+        registerEntry(eventType, entry);
+    }
+
+    /**
+     * Registers a handler that always submits the same verdict. The bus submits it whenever the
+     * handler's guards pass, without invoking any handler code; see {@link MxStaticVerdict}.
+     *
+     * @param <T>             the event type
+     * @param eventType       the exact event class to listen for; must not be {@code null}
+     * @param name            human-readable handler name used in trace output
+     * @param priority        execution priority; must not be {@code null} or MONITOR
+     * @param allowedWorlds   set of permitted world-type values, or empty for all
+     * @param ignoreCancelled when {@code true}, skip this handler if the event is cancelled
+     * @param verdict         the verdict to submit; must not be {@code null}
+     * @param listener        the owning listener object; may be {@code null}
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public <T extends MxGlobalEvent<W>> void registerStaticVerdict(Class<T> eventType,
+                                                                  String name,
+                                                                  MxPriority priority,
+                                                                  Set<W> allowedWorlds,
+                                                                  boolean ignoreCancelled,
+                                                                  MxCancellationState verdict,
+                                                                  Object listener) {
+        if (eventType == null) throw new IllegalArgumentException("eventType must not be null");
+        if (priority == null)  throw new IllegalArgumentException("priority must not be null");
+        if (verdict == null)   throw new IllegalArgumentException("verdict must not be null");
+
+        MxGlobalEventHandler<T, W> handler = ctx -> ctx.submitVerdict(verdict);
+        MxGlobalHandlerEntry entry = new MxGlobalHandlerEntry<>(
+                name != null ? name : "anonymous",
+                priority, allowedWorlds, ignoreCancelled, false, verdict, handler, listener);
         registerEntry(eventType, entry);
     }
 
@@ -89,35 +166,131 @@ public class MxGlobalEventBus<W extends MxIWorldType> extends MxAbstractEventBus
      */
     @Override
     public MxBaseContext<MxGlobalEvent<W>> post(MxGlobalEvent<W> event) {
+        return post(event, null);
+    }
+
+    /**
+     * Dispatches the given event through the pipeline with a verdict that is known before any
+     * handler runs. Events originating from the game world type are skipped.
+     *
+     * @param event          the event to dispatch; must not be {@code null}
+     * @param initialVerdict the verdict to submit before the handlers, or {@code null} for none
+     * @return the context that was passed through the pipeline,
+     *         or {@code null} if the event originates from a game world
+     */
+    @Override
+    public MxBaseContext<MxGlobalEvent<W>> post(MxGlobalEvent<W> event, MxCancellationState initialVerdict) {
         if (event == null) throw new IllegalArgumentException("event must not be null");
         if (event.worldType() == gameWorldType) {
             return null;
         }
-        return super.post(event);
+        return super.post(event, initialVerdict);
+    }
+
+    /**
+     * Returns whether any handler would be considered for an event of the given class in the
+     * given world type. Callers such as Bukkit bridges use this to skip building wrapper events
+     * nobody listens to; the answer is precomputed whenever handlers change, so a query is a
+     * class lookup and an array read.
+     *
+     * @param eventType the exact event class; must not be {@code null}
+     * @param worldType the world type the event would carry; must not be {@code null}
+     * @return {@code false} if posting such an event would not invoke any handler
+     */
+    public boolean hasSubscribers(Class<? extends MxGlobalEvent<W>> eventType, W worldType) {
+        if (worldType == gameWorldType) return false;
+        Presence p = presence.get(eventType).current;
+        if (p.anyWorld) return true;
+        if (worldType instanceof Enum<?> e) {
+            int ordinal = e.ordinal();
+            return ordinal < p.byOrdinal.length && p.byOrdinal[ordinal];
+        }
+        return p.others.contains(worldType);
+    }
+
+    /**
+     * Returns whether at least one handler is registered for the given event class,
+     * regardless of world type.
+     *
+     * @param eventType the exact event class; must not be {@code null}
+     * @return {@code true} if the class has at least one handler
+     */
+    public boolean hasSubscribers(Class<? extends MxGlobalEvent<W>> eventType) {
+        return presence.get(eventType).current != Presence.NONE;
+    }
+
+    /**
+     * Returns whether every handler registered for the given event class skips cancelled events,
+     * i.e. was registered with {@code ignoreCancelled} / {@link nl.mxndarijn.mxlib.mxeventbus.core.MxSubscribe#doNotRunWhenEventCanceled()}.
+     * Bridges may then ask the platform not to deliver events that are already cancelled.
+     *
+     * @param eventType the exact event class; must not be {@code null}
+     * @return {@code true} if the class has handlers and all of them ignore cancelled events
+     */
+    public boolean allSubscribersIgnoreCancelled(Class<? extends MxGlobalEvent<W>> eventType) {
+        Presence p = presence.get(eventType).current;
+        return p != Presence.NONE && p.allIgnoreCancelled;
+    }
+
+    /**
+     * Adds a callback that is notified whenever the handlers of an event class change.
+     *
+     * @param listener the callback; must not be {@code null}
+     */
+    public void addSubscriptionListener(MxGlobalSubscriptionListener<W> listener) {
+        if (listener == null) throw new IllegalArgumentException("listener must not be null");
+        subscriptionListeners.add(listener);
+    }
+
+    /**
+     * Removes a callback previously added with {@link #addSubscriptionListener}.
+     *
+     * @param listener the callback to remove; ignored if {@code null} or not registered
+     */
+    public void removeSubscriptionListener(MxGlobalSubscriptionListener<W> listener) {
+        subscriptionListeners.remove(listener);
+    }
+
+    @Override
+    protected void handlersChanged(Class<? extends MxGlobalEvent<W>> eventType,
+                                   List<MxBaseHandlerEntry<MxGlobalEvent<W>, ?>> entries) {
+        presence.get(eventType).current = Presence.of(entries);
+        for (MxGlobalSubscriptionListener<W> listener : subscriptionListeners) {
+            try {
+                listener.subscriptionsChanged(eventType);
+            } catch (Exception e) {
+                MxLogger.logMessage(MxLogLevel.ERROR,
+                        "[MxGlobalEventBus] Subscription listener threw an exception: " + e.getMessage());
+            }
+        }
     }
 
 
     @Override
     @SuppressWarnings("unchecked")
-    protected MxBaseContext<MxGlobalEvent<W>> createContext(MxGlobalEvent<W> event) {
-        return (MxBaseContext<MxGlobalEvent<W>>) new MxGlobalEventContext<>(event);
+    protected MxBaseContext<MxGlobalEvent<W>> createContext(MxGlobalEvent<W> event, boolean tracing) {
+        return (MxBaseContext<MxGlobalEvent<W>>) new MxGlobalEventContext<>(event, tracing);
     }
 
     @Override
     @SuppressWarnings({"unchecked", "rawtypes"})
     protected boolean passesGuards(MxBaseHandlerEntry<MxGlobalEvent<W>, ?> entry, MxBaseContext<MxGlobalEvent<W>> ctx, MxGlobalEvent<W> event) {
         if (entry.ignoreCancelled && ctx.isCancelled()) {
-            ctx.trace("<yellow>[<gray>SKIP<yellow>] " + entry.name
-                    + " — ignoreCancelled=true and event is cancelled");
+            if (ctx.isTracing()) {
+                ctx.trace("<yellow>[<gray>SKIP<yellow>] " + entry.name
+                        + " — ignoreCancelled=true and event is cancelled");
+            }
             return false;
         }
 
         MxGlobalHandlerEntry<?, W> globalEntry = (MxGlobalHandlerEntry<?, W>) entry;
         if (globalEntry.allowedWorlds != null && !globalEntry.allowedWorlds.isEmpty()
                 && !globalEntry.allowedWorlds.contains(event.worldType())) {
-            ctx.trace("<yellow>[<gray>SKIP<yellow>] " + entry.name
-                    + " — worldType " + event.worldType()
-                    + " not in " + globalEntry.allowedWorlds);
+            if (ctx.isTracing()) {
+                ctx.trace("<yellow>[<gray>SKIP<yellow>] " + entry.name
+                        + " — worldType " + event.worldType()
+                        + " not in " + globalEntry.allowedWorlds);
+            }
             return false;
         }
 
@@ -126,20 +299,27 @@ public class MxGlobalEventBus<W extends MxIWorldType> extends MxAbstractEventBus
 
     @Override
     @SuppressWarnings({"unchecked", "rawtypes"})
-    protected void invokeHandler(MxBaseHandlerEntry<MxGlobalEvent<W>, ?> entry, MxBaseContext<MxGlobalEvent<W>> ctx) {
+    protected boolean invokeHandler(MxBaseHandlerEntry<MxGlobalEvent<W>, ?> entry, MxBaseContext<MxGlobalEvent<W>> ctx) {
         try {
-            int verdictsBefore = ctx.getSubmittedVerdicts().size();
+            if (!ctx.isTracing()) {
+                ((MxGlobalEventHandler) entry.handler).handle((MxGlobalEventContext) ctx);
+                return true;
+            }
+            int verdictsBefore = ctx.getVerdicts().size();
             ctx.trace("<yellow>[<green>RUN<yellow>]  " + entry.name
                     + " (priority=" + entry.priority + ")");
             ((MxGlobalEventHandler) entry.handler).handle((MxGlobalEventContext) ctx);
-            var verdicts = ctx.getSubmittedVerdicts();
+            MxVerdictSet verdicts = ctx.getVerdicts();
             if (verdicts.size() > verdictsBefore) {
-                ctx.trace("<yellow>  <dark_gray>\u21b3 <yellow>Verdict: " + verdicts.get(verdicts.size() - 1));
+                ctx.trace("<yellow>  <dark_gray>\u21b3 <yellow>Verdict: " + verdicts.last());
             }
-        } catch (Exception e) {
+            return true;
+        } catch (Throwable t) {
+            // errors are isolated too, so one broken handler cannot skip the rest of the pipeline
             MxLogger.logMessage(MxLogLevel.ERROR,
                     "[MxGlobalEventBus] Handler '" + entry.name
-                            + "' threw an exception: " + e.getMessage());
+                            + "' threw an exception: " + (t instanceof Exception ? t.getMessage() : t));
+            return false;
         }
     }
 
@@ -157,6 +337,61 @@ public class MxGlobalEventBus<W extends MxIWorldType> extends MxAbstractEventBus
     protected String busLabel() {
         return "MxGlobalEventBus";
     }
+
+    /**
+     * Mutable holder for the {@link Presence} of one event class.
+     */
+    private static final class PresenceSlot {
+        volatile Presence current = Presence.NONE;
+    }
+
+    /**
+     * Immutable summary of the world types the handlers of one event class accept.
+     * Enum world types are indexed by ordinal; other implementations fall back to a set.
+     */
+    private static final class Presence {
+
+        static final Presence NONE = new Presence(false, new boolean[0], Set.of(), true);
+
+        final boolean anyWorld;
+        final boolean[] byOrdinal;
+        final Set<Object> others;
+        final boolean allIgnoreCancelled;
+
+        private Presence(boolean anyWorld, boolean[] byOrdinal, Set<Object> others, boolean allIgnoreCancelled) {
+            this.anyWorld = anyWorld;
+            this.byOrdinal = byOrdinal;
+            this.others = others;
+            this.allIgnoreCancelled = allIgnoreCancelled;
+        }
+
+        static Presence of(List<? extends MxBaseHandlerEntry<?, ?>> entries) {
+            if (entries.isEmpty()) return NONE;
+            boolean anyWorld = false;
+            boolean allIgnoreCancelled = true;
+            boolean[] byOrdinal = new boolean[0];
+            Set<Object> others = new HashSet<>();
+            for (MxBaseHandlerEntry<?, ?> entry : entries) {
+                allIgnoreCancelled &= entry.ignoreCancelled;
+                Set<?> allowed = ((MxGlobalHandlerEntry<?, ?>) entry).allowedWorlds;
+                if (allowed == null || allowed.isEmpty()) {
+                    anyWorld = true;
+                    continue;
+                }
+                for (Object world : allowed) {
+                    if (world instanceof Enum<?> e) {
+                        if (e.ordinal() >= byOrdinal.length) byOrdinal = Arrays.copyOf(byOrdinal, e.ordinal() + 1);
+                        byOrdinal[e.ordinal()] = true;
+                    } else {
+                        others.add(world);
+                    }
+                }
+            }
+            return anyWorld
+                    ? new Presence(true, new boolean[0], Set.of(), allIgnoreCancelled)
+                    : new Presence(false, byOrdinal, others, allIgnoreCancelled);
+        }
+    }
 }
 
 
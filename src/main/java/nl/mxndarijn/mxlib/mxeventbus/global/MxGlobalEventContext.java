@@ -2,6 +2,7 @@ package nl.mxndarijn.mxlib.mxeventbus.global;
 
 import nl.mxndarijn.mxlib.mxeventbus.core.MxBaseContext;
 import nl.mxndarijn.mxlib.mxeventbus.core.MxCancellationState;
+import nl.mxndarijn.mxlib.mxeventbus.core.MxVerdictSet;
 import nl.mxndarijn.mxlib.mxeventbus.game.MxIWorldType;
 
 import java.util.ArrayList;
@@ -28,18 +29,31 @@ import java.util.List;
 public final class MxGlobalEventContext<T extends MxGlobalEvent<W>, W extends MxIWorldType> implements MxBaseContext<T> {
 
     private final T event;
-    private final List<String> trace = new ArrayList<>();
-    private final List<MxCancellationState> verdicts = new ArrayList<>();
+    private final boolean tracing;
+    private final List<String> trace;
+    private final MxVerdictSet verdicts = new MxVerdictSet();
     private MxCancellationState resolvedState = MxCancellationState.PASS;
 
     /**
-     * Creates a new context wrapping the given event.
+     * Creates a new tracing context wrapping the given event.
      *
      * @param event the event being dispatched; must not be {@code null}
      */
     public MxGlobalEventContext(T event) {
+        this(event, true);
+    }
+
+    /**
+     * Creates a new context wrapping the given event.
+     *
+     * @param event   the event being dispatched; must not be {@code null}
+     * @param tracing whether trace messages are recorded; when {@code false} no trace list is allocated
+     */
+    public MxGlobalEventContext(T event, boolean tracing) {
         if (event == null) throw new IllegalArgumentException("event must not be null");
         this.event = event;
+        this.tracing = tracing;
+        this.trace = tracing ? new ArrayList<>() : null;
     }
 
     /**
@@ -78,7 +92,6 @@ public final class MxGlobalEventContext<T extends MxGlobalEvent<W>, W extends Mx
      * @param state the verdict to submit; must not be {@code null}
      */
     public void submitVerdict(MxCancellationState state) {
-        if (state == null) throw new IllegalArgumentException("state must not be null");
         verdicts.add(state);
     }
 
@@ -88,7 +101,26 @@ public final class MxGlobalEventContext<T extends MxGlobalEvent<W>, W extends Mx
      * @return ordered list of submitted verdicts; never {@code null}
      */
     public List<MxCancellationState> getSubmittedVerdicts() {
-        return Collections.unmodifiableList(verdicts);
+        return verdicts.asList();
+    }
+
+    /**
+     * Returns the verdicts submitted by handlers so far.
+     *
+     * @return the verdict accumulator; never {@code null}
+     */
+    public MxVerdictSet getVerdicts() {
+        return verdicts;
+    }
+
+    /**
+     * Returns whether a {@link MxCancellationState#HARD_DENY} has been submitted, which
+     * fixes the resolved state under this context's resolution rules.
+     *
+     * @return {@code true} if the resolved state is already fixed
+     */
+    public boolean isVerdictFinal() {
+        return verdicts.contains(MxCancellationState.HARD_DENY);
     }
 
     /**
@@ -99,13 +131,13 @@ public final class MxGlobalEventContext<T extends MxGlobalEvent<W>, W extends Mx
      */
     public void resolveVerdict() {
         if (verdicts.isEmpty()) return;
-        MxCancellationState result = MxCancellationState.PASS;
-        for (MxCancellationState v : verdicts) {
-            if (v == MxCancellationState.HARD_DENY) { result = v; break; }
-            if (v.ordinal() < result.ordinal()) result = v;
+        MxCancellationState mostDenied = verdicts.mostDenied();
+        resolvedState = mostDenied.ordinal() < MxCancellationState.PASS.ordinal()
+                ? mostDenied
+                : MxCancellationState.PASS;
+        if (tracing) {
+            trace("  <yellow>[<gold>RESOLVE<yellow>] " + verdicts + " \u2192 " + resolvedState);
         }
-        resolvedState = result;
-        trace("  <yellow>[<gold>RESOLVE<yellow>] " + verdicts + " \u2192 " + resolvedState);
     }
 
     /**
@@ -117,23 +149,33 @@ public final class MxGlobalEventContext<T extends MxGlobalEvent<W>, W extends Mx
         return resolvedState;
     }
 
+    /**
+     * Returns whether this context records trace messages.
+     *
+     * @return {@code true} if trace messages are recorded
+     */
+    public boolean isTracing() {
+        return tracing;
+    }
+
     /**
      * Appends a trace message describing a pipeline step.
+     * Ignored when this context is not tracing.
      *
      * @param message the message to record; must not be {@code null}
      */
     public void trace(String message) {
         if (message == null) throw new IllegalArgumentException("message must not be null");
-        trace.add(message);
+        if (tracing) trace.add(message);
     }
 
     /**
      * Returns an unmodifiable view of all trace messages recorded during dispatch.
      *
-     * @return ordered list of trace messages; never {@code null}
+     * @return ordered list of trace messages; empty when not tracing; never {@code null}
      */
     public List<String> getTrace() {
-        return Collections.unmodifiableList(trace);
+        return tracing ? Collections.unmodifiableList(trace) : Collections.emptyList();
     }
 }
 
@@ -1,6 +1,7 @@
 package nl.mxndarijn.mxlib.mxeventbus.global;
 
 import nl.mxndarijn.mxlib.mxeventbus.core.MxBaseHandlerEntry;
+import nl.mxndarijn.mxlib.mxeventbus.core.MxCancellationState;
 import nl.mxndarijn.mxlib.mxeventbus.core.MxPriority;
 import nl.mxndarijn.mxlib.mxeventbus.game.MxIWorldType;
 
@@ -32,6 +33,8 @@ final class MxGlobalHandlerEntry<T extends MxGlobalEvent<W>, W extends MxIWorldT
      * @param priority        execution priority; must not be {@code null}
      * @param allowedWorlds   set of permitted world types; may be {@code null} or empty for all
      * @param ignoreCancelled when {@code true}, skip this handler if the event is cancelled
+     * @param async           when {@code true}, run this MONITOR handler on the async lane
+     * @param staticVerdict   the verdict to submit instead of invoking the handler, or {@code null}
      * @param handler         the handler logic; must not be {@code null}
      * @param listener        the object that owns this handler; may be {@code null}
      */
@@ -39,9 +42,11 @@ final class MxGlobalHandlerEntry<T extends MxGlobalEvent<W>, W extends MxIWorldT
                        MxPriority priority,
                        Set<W> allowedWorlds,
                        boolean ignoreCancelled,
+                       boolean async,
+                       MxCancellationState staticVerdict,
                        MxGlobalEventHandler<T, W> handler,
                        Object listener) {
-        super(name, priority, ignoreCancelled, handler, listener);
+        super(name, priority, ignoreCancelled, async, staticVerdict, handler, listener);
         this.allowedWorlds = allowedWorlds;
     }
 }
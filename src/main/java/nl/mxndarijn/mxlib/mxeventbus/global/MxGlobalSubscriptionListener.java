@@ -0,0 +1,26 @@
+package nl.mxndarijn.mxlib.mxeventbus.global;
+
+import nl.mxndarijn.mxlib.mxeventbus.game.MxIWorldType;
+
+/**
+ * Callback notified by the {@link MxGlobalEventBus} whenever the set of handlers registered for
+ * an event class changes.
+ *
+ * <p>Bridges use this to attach their platform listeners only while somebody is subscribed; query
+ * {@link MxGlobalEventBus#hasSubscribers(Class)} and
+ * {@link MxGlobalEventBus#allSubscribersIgnoreCancelled(Class)} for the new state.</p>
+ *
+ * @param <W> the world-type enum used by the bus
+ */
+@FunctionalInterface
+public interface MxGlobalSubscriptionListener<W extends MxIWorldType> {
+
+    /**
+     * Called after the handlers for {@code eventType} were added, removed or cleared.
+     * Runs on the registering thread while the bus holds its registry lock, so implementations
+     * must be quick and must not register or unregister handlers themselves.
+     *
+     * @param eventType the event class whose handlers changed; never {@code null}
+     */
+    void subscriptionsChanged(Class<? extends MxGlobalEvent<W>> eventType);
+}
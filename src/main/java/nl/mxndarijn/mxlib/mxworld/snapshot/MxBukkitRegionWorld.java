@@ -0,0 +1,50 @@
+package nl.mxndarijn.mxlib.mxworld.snapshot;
+
+import org.bukkit.Bukkit;
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.World;
+import org.bukkit.block.data.BlockData;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * {@link MxRegionWorld} backed by a Bukkit world. Chunks are captured as {@link ChunkSnapshot}s,
+ * which are safe to read off the main thread.
+ */
+public final class MxBukkitRegionWorld implements MxRegionWorld<BlockData> {
+
+    private final World world;
+
+    /**
+     * Creates a region world for the given Bukkit world.
+     *
+     * @param world the world; must not be {@code null}
+     */
+    public MxBukkitRegionWorld(World world) {
+        if (world == null) throw new IllegalArgumentException("world must not be null");
+        this.world = world;
+    }
+
+    @Override
+    public CompletableFuture<MxChunkView<BlockData>> captureChunk(int chunkX, int chunkZ) {
+        return world.getChunkAtAsync(chunkX, chunkZ).thenApply(chunk -> {
+            ChunkSnapshot snapshot = chunk.getChunkSnapshot(false, false, false);
+            return snapshot::getBlockData;
+        });
+    }
+
+    @Override
+    public void setBlock(int x, int y, int z, BlockData state) {
+        world.getBlockAt(x, y, z).setBlockData(state, false);
+    }
+
+    @Override
+    public String serialize(BlockData state) {
+        return state.getAsString();
+    }
+
+    @Override
+    public BlockData deserialize(String data) {
+        return Bukkit.createBlockData(data);
+    }
+}
@@ -0,0 +1,20 @@
+package nl.mxndarijn.mxlib.mxworld.snapshot;
+
+/**
+ * Immutable, thread-safe view of the blocks of one captured chunk.
+ *
+ * @param <S> the block-state type
+ */
+@FunctionalInterface
+public interface MxChunkView<S> {
+
+    /**
+     * Returns the state of a block in the chunk.
+     *
+     * @param localX the x coordinate within the chunk, {@code 0..15}
+     * @param y      the world y coordinate
+     * @param localZ the z coordinate within the chunk, {@code 0..15}
+     * @return the block state; never {@code null}
+     */
+    S getBlock(int localX, int y, int localZ);
+}
@@ -0,0 +1,174 @@
+package nl.mxndarijn.mxlib.mxworld.snapshot;
+
+import lombok.Getter;
+
+/**
+ * Immutable axis-aligned box of blocks, inclusive on both ends.
+ *
+ * <p>Block indexes used by {@link MxRegionSnapshot} run x fastest, then z, then y.</p>
+ */
+@Getter
+public final class MxRegion {
+
+    /** Largest number of blocks a region may contain (256 × 256 × 256). */
+    public static final int MAX_VOLUME = 1 << 24;
+
+    private final int minX, minY, minZ;
+    private final int maxX, maxY, maxZ;
+
+    private MxRegion(int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+        this.minX = minX;
+        this.minY = minY;
+        this.minZ = minZ;
+        this.maxX = maxX;
+        this.maxY = maxY;
+        this.maxZ = maxZ;
+        long volume = (long) getSizeX() * getSizeY() * getSizeZ();
+        if (volume > MAX_VOLUME) throw new IllegalArgumentException("region volume " + volume + " exceeds " + MAX_VOLUME);
+    }
+
+    /**
+     * Creates the region spanned by two corner blocks, in any order.
+     *
+     * @param x1 the x coordinate of the first corner
+     * @param y1 the y coordinate of the first corner
+     * @param z1 the z coordinate of the first corner
+     * @param x2 the x coordinate of the second corner
+     * @param y2 the y coordinate of the second corner
+     * @param z2 the z coordinate of the second corner
+     * @return the region; never {@code null}
+     * @throws IllegalArgumentException if the region holds more than {@link #MAX_VOLUME} blocks
+     */
+    public static MxRegion of(int x1, int y1, int z1, int x2, int y2, int z2) {
+        return new MxRegion(Math.min(x1, x2), Math.min(y1, y2), Math.min(z1, z2),
+                Math.max(x1, x2), Math.max(y1, y2), Math.max(z1, z2));
+    }
+
+    /**
+     * Returns the width of the region along the x axis.
+     *
+     * @return the number of blocks along x
+     */
+    public int getSizeX() {
+        return maxX - minX + 1;
+    }
+
+    /**
+     * Returns the height of the region.
+     *
+     * @return the number of blocks along y
+     */
+    public int getSizeY() {
+        return maxY - minY + 1;
+    }
+
+    /**
+     * Returns the depth of the region along the z axis.
+     *
+     * @return the number of blocks along z
+     */
+    public int getSizeZ() {
+        return maxZ - minZ + 1;
+    }
+
+    /**
+     * Returns the number of blocks in the region.
+     *
+     * @return the volume
+     */
+    public int getVolume() {
+        return getSizeX() * getSizeY() * getSizeZ();
+    }
+
+    /**
+     * Returns the x coordinate of the westmost chunk the region touches.
+     *
+     * @return the minimum chunk x
+     */
+    public int getMinChunkX() {
+        return minX >> 4;
+    }
+
+    /**
+     * Returns the z coordinate of the northmost chunk the region touches.
+     *
+     * @return the minimum chunk z
+     */
+    public int getMinChunkZ() {
+        return minZ >> 4;
+    }
+
+    /**
+     * Returns the x coordinate of the eastmost chunk the region touches.
+     *
+     * @return the maximum chunk x
+     */
+    public int getMaxChunkX() {
+        return maxX >> 4;
+    }
+
+    /**
+     * Returns the z coordinate of the southmost chunk the region touches.
+     *
+     * @return the maximum chunk z
+     */
+    public int getMaxChunkZ() {
+        return maxZ >> 4;
+    }
+
+    /**
+     * Returns the number of chunks the region touches.
+     *
+     * @return the chunk count
+     */
+    public int getChunkCount() {
+        return (getMaxChunkX() - getMinChunkX() + 1) * (getMaxChunkZ() - getMinChunkZ() + 1);
+    }
+
+    /**
+     * Returns whether the given block lies inside the region.
+     *
+     * @param x the block x coordinate
+     * @param y the block y coordinate
+     * @param z the block z coordinate
+     * @return {@code true} if the block is inside
+     */
+    public boolean contains(int x, int y, int z) {
+        return x >= minX && x <= maxX && y >= minY && y <= maxY && z >= minZ && z <= maxZ;
+    }
+
+    /**
+     * Returns the index of a block inside the region.
+     *
+     * @param x the block x coordinate; must be inside the region
+     * @param y the block y coordinate; must be inside the region
+     * @param z the block z coordinate; must be inside the region
+     * @return the index in {@code [0, getVolume())}
+     */
+    public int indexOf(int x, int y, int z) {
+        return ((y - minY) * getSizeZ() + (z - minZ)) * getSizeX() + (x - minX);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof MxRegion r)) return false;
+        return minX == r.minX && minY == r.minY && minZ == r.minZ
+                && maxX == r.maxX && maxY == r.maxY && maxZ == r.maxZ;
+    }
+
+    @Override
+    public int hashCode() {
+        int h = minX;
+        h = 31 * h + minY;
+        h = 31 * h + minZ;
+        h = 31 * h + maxX;
+        h = 31 * h + maxY;
+        return 31 * h + maxZ;
+    }
+
+    @Override
+    public String toString() {
+        return "MxRegion[" + minX + "," + minY + "," + minZ + " -> " + maxX + "," + maxY + "," + maxZ + "]";
+    }
+}
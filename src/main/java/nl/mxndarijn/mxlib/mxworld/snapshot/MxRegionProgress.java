@@ -0,0 +1,89 @@
+package nl.mxndarijn.mxlib.mxworld.snapshot;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Progress handle for a snapshot or rollback started by {@link MxRegionSnapshotEngine}.
+ *
+ * <p>The counters may be read from any thread. {@link #getFuture()} completes with the result once
+ * the operation has finished, or exceptionally if it failed or was cancelled.</p>
+ *
+ * @param <T> the result type
+ */
+public final class MxRegionProgress<T> {
+
+    private final CompletableFuture<T> future = new CompletableFuture<>();
+    private final AtomicLong completed = new AtomicLong();
+    private volatile long total;
+
+    MxRegionProgress(long total) {
+        this.total = total;
+    }
+
+    /**
+     * Returns the future that completes with the result of the operation.
+     *
+     * @return the future; never {@code null}
+     */
+    public CompletableFuture<T> getFuture() {
+        return future;
+    }
+
+    /**
+     * Returns how many units of work have finished. For snapshots a unit is one chunk; for
+     * rollbacks the total switches to the number of changed blocks once the diff is known.
+     *
+     * @return the completed count
+     */
+    public long getCompleted() {
+        return completed.get();
+    }
+
+    /**
+     * Returns the number of units of work in the current phase.
+     *
+     * @return the total count
+     */
+    public long getTotal() {
+        return total;
+    }
+
+    /**
+     * Returns the fraction of the current phase that has finished.
+     *
+     * @return a value in {@code [0, 1]}; {@code 1} once the operation is done
+     */
+    public double getFraction() {
+        if (future.isDone()) return 1.0;
+        long t = total;
+        return t <= 0 ? 0.0 : Math.min(1.0, (double) completed.get() / t);
+    }
+
+    /**
+     * Returns whether the operation has finished, successfully or not.
+     *
+     * @return {@code true} if done
+     */
+    public boolean isDone() {
+        return future.isDone();
+    }
+
+    /**
+     * Cancels the operation. Blocks already written by a rollback stay written.
+     *
+     * @return {@code true} if this call cancelled it
+     */
+    public boolean cancel() {
+        return future.cancel(false);
+    }
+
+    void advance(long amount) {
+        completed.addAndGet(amount);
+    }
+
+    void restart(long newTotal) {
+        completed.set(0);
+        total = newTotal;
+    }
+}
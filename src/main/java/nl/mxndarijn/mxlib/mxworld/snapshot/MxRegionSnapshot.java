@@ -0,0 +1,224 @@
+package nl.mxndarijn.mxlib.mxworld.snapshot;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Immutable, palette-compressed copy of the blocks in a {@link MxRegion}.
+ *
+ * <p>Every distinct block state is stored once in a palette; each block is a palette index packed
+ * into a {@code long[]} using just enough bits for the palette size. Indexes never straddle two
+ * longs. A region of mostly air and a few dozen materials therefore costs a few bits per block.</p>
+ *
+ * <p>Snapshots are written with {@link #writeTo} as a gzip stream holding the region bounds, the
+ * palette as serialized strings and the packed indexes, and read back with {@link #readFrom}.</p>
+ *
+ * @param <S> the block-state type
+ */
+public final class MxRegionSnapshot<S> {
+
+    private static final int MAGIC = 0x4D585253; // "MXRS"
+    private static final byte VERSION = 1;
+
+    private final MxRegion region;
+    private final List<S> palette;
+    private final int bits;
+    private final int perLong;
+    private final long mask;
+    private final long[] data;
+
+    private MxRegionSnapshot(MxRegion region, List<S> palette, int bits, long[] data) {
+        this.region = region;
+        this.palette = palette;
+        this.bits = bits;
+        this.perLong = 64 / bits;
+        this.mask = (1L << bits) - 1;
+        this.data = data;
+    }
+
+    /**
+     * Returns the region this snapshot covers.
+     *
+     * @return the region; never {@code null}
+     */
+    public MxRegion getRegion() {
+        return region;
+    }
+
+    /**
+     * Returns the distinct block states in the snapshot.
+     *
+     * @return an unmodifiable palette; never {@code null}
+     */
+    public List<S> getPalette() {
+        return palette;
+    }
+
+    /**
+     * Returns the palette index of the block at the given region index.
+     *
+     * @param index the block index, see {@link MxRegion#indexOf}
+     * @return the palette index
+     */
+    public int paletteIndex(int index) {
+        return (int) ((data[index / perLong] >>> ((index % perLong) * bits)) & mask);
+    }
+
+    /**
+     * Returns the captured state of a block.
+     *
+     * @param x the block x coordinate; must be inside the region
+     * @param y the block y coordinate; must be inside the region
+     * @param z the block z coordinate; must be inside the region
+     * @return the block state; never {@code null}
+     */
+    public S get(int x, int y, int z) {
+        if (!region.contains(x, y, z)) throw new IllegalArgumentException("block " + x + "," + y + "," + z + " is outside " + region);
+        return palette.get(paletteIndex(region.indexOf(x, y, z)));
+    }
+
+    /**
+     * Returns the approximate heap size of the packed block data.
+     *
+     * @return the size in bytes, excluding the palette
+     */
+    public long getPackedBytes() {
+        return (long) data.length * Long.BYTES;
+    }
+
+    /**
+     * Writes the snapshot as a gzip-compressed stream. The stream is finished but not closed.
+     *
+     * @param out        the stream to write to; must not be {@code null}
+     * @param serializer converts palette states to strings; must not be {@code null}
+     * @throws IOException if writing fails
+     */
+    public void writeTo(OutputStream out, Function<S, String> serializer) throws IOException {
+        GZIPOutputStream gzip = new GZIPOutputStream(out, 1 << 16);
+        DataOutputStream dout = new DataOutputStream(gzip);
+        dout.writeInt(MAGIC);
+        dout.writeByte(VERSION);
+        dout.writeInt(region.getMinX());
+        dout.writeInt(region.getMinY());
+        dout.writeInt(region.getMinZ());
+        dout.writeInt(region.getMaxX());
+        dout.writeInt(region.getMaxY());
+        dout.writeInt(region.getMaxZ());
+        dout.writeInt(palette.size());
+        for (S state : palette) {
+            dout.writeUTF(serializer.apply(state));
+        }
+        dout.writeByte(bits);
+        dout.writeInt(data.length);
+        for (long word : data) {
+            dout.writeLong(word);
+        }
+        dout.flush();
+        gzip.finish();
+    }
+
+    /**
+     * Reads a snapshot written by {@link #writeTo}.
+     *
+     * @param <S>          the block-state type
+     * @param in           the stream to read from; must not be {@code null}
+     * @param deserializer parses palette strings; must not be {@code null}
+     * @return the snapshot; never {@code null}
+     * @throws IOException if reading fails or the stream is not a valid snapshot
+     */
+    public static <S> MxRegionSnapshot<S> readFrom(InputStream in, Function<String, S> deserializer) throws IOException {
+        DataInputStream din = new DataInputStream(new GZIPInputStream(in, 1 << 16));
+        if (din.readInt() != MAGIC)     throw new IOException("not a region snapshot");
+        if (din.readByte() != VERSION)  throw new IOException("unsupported region snapshot version");
+        MxRegion region;
+        try {
+            region = MxRegion.of(din.readInt(), din.readInt(), din.readInt(), din.readInt(), din.readInt(), din.readInt());
+        } catch (IllegalArgumentException e) {
+            throw new IOException("invalid region: " + e.getMessage(), e);
+        }
+        int paletteSize = din.readInt();
+        if (paletteSize <= 0 || paletteSize > region.getVolume()) throw new IOException("invalid palette size " + paletteSize);
+        List<S> palette = new ArrayList<>(paletteSize);
+        for (int i = 0; i < paletteSize; i++) {
+            try {
+                palette.add(deserializer.apply(din.readUTF()));
+            } catch (IllegalArgumentException e) {
+                throw new IOException("invalid block state in palette: " + e.getMessage(), e);
+            }
+        }
+        int bits = din.readByte();
+        int words = din.readInt();
+        if (bits != bitsFor(paletteSize) || words != wordsFor(region.getVolume(), bits)) throw new IOException("corrupt region snapshot");
+        long[] data = new long[words];
+        for (int i = 0; i < words; i++) {
+            data[i] = din.readLong();
+        }
+        return new MxRegionSnapshot<>(region, Collections.unmodifiableList(palette), bits, data);
+    }
+
+    private static int bitsFor(int paletteSize) {
+        return Math.max(1, 32 - Integer.numberOfLeadingZeros(paletteSize - 1));
+    }
+
+    private static int wordsFor(int volume, int bits) {
+        int perLong = 64 / bits;
+        return (volume + perLong - 1) / perLong;
+    }
+
+    /**
+     * Collects the blocks of a region and packs them into a snapshot. Not thread-safe; the
+     * engine fills one builder per snapshot from a single thread.
+     *
+     * @param <S> the block-state type
+     */
+    static final class Builder<S> {
+
+        private final MxRegion region;
+        private final Map<S, Integer> paletteIndex = new HashMap<>();
+        private final List<S> palette = new ArrayList<>();
+        private final int[] indexes;
+
+        Builder(MxRegion region) {
+            this.region = region;
+            this.indexes = new int[region.getVolume()];
+        }
+
+        /**
+         * Records the state of the block at the given region index.
+         *
+         * @param index the block index, see {@link MxRegion#indexOf}
+         * @param state the block state; must not be {@code null}
+         */
+        void set(int index, S state) {
+            Integer id = paletteIndex.get(state);
+            if (id == null) {
+                id = palette.size();
+                paletteIndex.put(state, id);
+                palette.add(state);
+            }
+            indexes[index] = id;
+        }
+
+        MxRegionSnapshot<S> build() {
+            if (palette.isEmpty()) throw new IllegalStateException("no blocks were recorded");
+            int bits = bitsFor(palette.size());
+            int perLong = 64 / bits;
+            long[] data = new long[wordsFor(indexes.length, bits)];
+            for (int i = 0; i < indexes.length; i++) {
+                data[i / perLong] |= (long) indexes[i] << ((i % perLong) * bits);
+            }
+            return new MxRegionSnapshot<>(region, Collections.unmodifiableList(new ArrayList<>(palette)), bits, data);
+        }
+    }
+}
@@ -0,0 +1,340 @@
+package nl.mxndarijn.mxlib.mxworld.snapshot;
+
+import nl.mxndarijn.mxlib.logger.MxLogLevel;
+import nl.mxndarijn.mxlib.logger.MxLogger;
+import nl.mxndarijn.mxlib.logger.MxStandardPrefix;
+import nl.mxndarijn.mxlib.util.MxBlockPos;
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.block.data.BlockData;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+
+/**
+ * Takes snapshots of block regions and rolls regions back to a snapshot.
+ *
+ * <p>Both operations capture the chunks the region touches on the main thread (on Bukkit, as
+ * {@code ChunkSnapshot}s) and do the block-by-block work on the async executor. A rollback only
+ * writes blocks whose current state differs from the snapshot, and spreads those writes over ticks:
+ * {@link #tick()} applies queued blocks until the tick budget is spent, so resetting a large arena
+ * does not stall the server. {@link #attach(Plugin)} schedules {@link #tick()} every tick.</p>
+ *
+ * <p>{@link #snapshot}, {@link #rollback} and {@link #tick()} must be called on the main thread;
+ * {@link #save} and {@link #load} may be called from any thread.</p>
+ *
+ * @param <S> the block-state type
+ */
+public final class MxRegionSnapshotEngine<S> {
+
+    /** Default time {@link #tick()} may spend applying rollback blocks: 2 ms of the 50 ms tick. */
+    public static final long DEFAULT_TICK_BUDGET_NANOS = 2_000_000L;
+
+    private final MxRegionWorld<S> world;
+    private final Executor async;
+    private volatile long tickBudgetNanos;
+
+    /** Rollbacks whose diff is ready, handed over from the async executor. */
+    private final ConcurrentLinkedQueue<RollbackJob<S>> incoming = new ConcurrentLinkedQueue<>();
+    /** Rollbacks being applied; main thread only. */
+    private final ArrayDeque<RollbackJob<S>> active = new ArrayDeque<>();
+
+    /**
+     * Creates an engine.
+     *
+     * @param world           the world to operate on; must not be {@code null}
+     * @param async           runs capture processing, diffs and file IO; must not be {@code null}
+     * @param tickBudgetNanos how long {@link #tick()} may spend applying blocks; must be positive
+     */
+    public MxRegionSnapshotEngine(MxRegionWorld<S> world, Executor async, long tickBudgetNanos) {
+        if (world == null) throw new IllegalArgumentException("world must not be null");
+        if (async == null) throw new IllegalArgumentException("async must not be null");
+        setTickBudgetNanos(tickBudgetNanos);
+        this.world = world;
+        this.async = async;
+    }
+
+    /**
+     * Creates an engine for a Bukkit world that runs its async work on the Bukkit scheduler.
+     * The engine is not attached yet; call {@link #attach(Plugin)}.
+     *
+     * @param plugin the owning plugin; must not be {@code null}
+     * @param world  the world; must not be {@code null}
+     * @return the engine; never {@code null}
+     */
+    public static MxRegionSnapshotEngine<BlockData> forWorld(JavaPlugin plugin, World world) {
+        if (plugin == null) throw new IllegalArgumentException("plugin must not be null");
+        return new MxRegionSnapshotEngine<>(new MxBukkitRegionWorld(world),
+                task -> Bukkit.getScheduler().runTaskAsynchronously(plugin, task),
+                DEFAULT_TICK_BUDGET_NANOS);
+    }
+
+    /**
+     * Sets how long each {@link #tick()} may spend applying rollback blocks. At least one block is
+     * applied per tick regardless, so rollbacks always make progress.
+     *
+     * @param tickBudgetNanos the budget in nanoseconds; must be positive
+     */
+    public void setTickBudgetNanos(long tickBudgetNanos) {
+        if (tickBudgetNanos <= 0) throw new IllegalArgumentException("tickBudgetNanos must be positive");
+        this.tickBudgetNanos = tickBudgetNanos;
+    }
+
+    /**
+     * Schedules {@link #tick()} to run every tick.
+     *
+     * @param plugin the owning plugin; must not be {@code null}
+     * @return the scheduled task; cancel it to detach the engine
+     */
+    public BukkitTask attach(Plugin plugin) {
+        if (plugin == null) throw new IllegalArgumentException("plugin must not be null");
+        return Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+    }
+
+    /**
+     * Takes a snapshot of a region. Progress counts captured chunks.
+     *
+     * @param region the region; must not be {@code null}
+     * @return the progress handle, completing with the snapshot; never {@code null}
+     */
+    public MxRegionProgress<MxRegionSnapshot<S>> snapshot(MxRegion region) {
+        if (region == null) throw new IllegalArgumentException("region must not be null");
+        MxRegionProgress<MxRegionSnapshot<S>> progress = new MxRegionProgress<>(region.getChunkCount());
+        capture(region, progress)
+                .thenApplyAsync(chunks -> buildSnapshot(region, chunks), async)
+                .whenComplete((snapshot, error) -> complete(progress, snapshot, error));
+        return progress;
+    }
+
+    /**
+     * Rolls the region of a snapshot back to the captured state. Progress first counts captured
+     * chunks, then the changed blocks written so far. The future completes with the number of
+     * blocks that were changed.
+     *
+     * @param snapshot the snapshot to restore; must not be {@code null}
+     * @return the progress handle; never {@code null}
+     */
+    public MxRegionProgress<Integer> rollback(MxRegionSnapshot<S> snapshot) {
+        if (snapshot == null) throw new IllegalArgumentException("snapshot must not be null");
+        MxRegion region = snapshot.getRegion();
+        MxRegionProgress<Integer> progress = new MxRegionProgress<>(region.getChunkCount());
+        capture(region, progress)
+                .thenApplyAsync(chunks -> diff(snapshot, chunks, progress), async)
+                .whenComplete((job, error) -> {
+                    if (error != null) {
+                        complete(progress, null, error);
+                    } else if (job.size == 0) {
+                        progress.getFuture().complete(0);
+                    } else {
+                        progress.restart(job.size);
+                        incoming.add(job);
+                    }
+                });
+        return progress;
+    }
+
+    /**
+     * Writes a snapshot to a file on the async executor. The file is replaced atomically.
+     *
+     * @param snapshot the snapshot; must not be {@code null}
+     * @param file     the target file; must not be {@code null}
+     * @return a future completing once the file is written; never {@code null}
+     */
+    public CompletableFuture<Void> save(MxRegionSnapshot<S> snapshot, Path file) {
+        if (snapshot == null) throw new IllegalArgumentException("snapshot must not be null");
+        if (file == null) throw new IllegalArgumentException("file must not be null");
+        return CompletableFuture.runAsync(() -> {
+            Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+            try {
+                if (file.getParent() != null) Files.createDirectories(file.getParent());
+                try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tmp))) {
+                    snapshot.writeTo(out, world::serialize);
+                }
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not save region snapshot to " + file, e);
+            }
+        }, async);
+    }
+
+    /**
+     * Reads a snapshot from a file on the async executor.
+     *
+     * @param file the file; must not be {@code null}
+     * @return a future completing with the snapshot; never {@code null}
+     */
+    public CompletableFuture<MxRegionSnapshot<S>> load(Path file) {
+        if (file == null) throw new IllegalArgumentException("file must not be null");
+        return CompletableFuture.supplyAsync(() -> {
+            try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+                return MxRegionSnapshot.readFrom(in, world::deserialize);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not load region snapshot from " + file, e);
+            }
+        }, async);
+    }
+
+    /**
+     * Applies queued rollback blocks until the tick budget is spent. Must be called on the main
+     * thread; {@link #attach(Plugin)} does so every tick.
+     */
+    public void tick() {
+        RollbackJob<S> job;
+        while ((job = incoming.poll()) != null) {
+            active.add(job);
+        }
+        long start = System.nanoTime();
+        long budget = tickBudgetNanos;
+        boolean first = true;
+        while ((job = active.peek()) != null) {
+            if (job.progress.isDone()) {
+                active.poll();
+                continue;
+            }
+            int applied = 0;
+            while (job.next < job.size) {
+                // nanoTime is not free; check the clock every 32 blocks.
+                if (!first && (applied & 31) == 0 && System.nanoTime() - start >= budget) {
+                    job.progress.advance(applied);
+                    return;
+                }
+                first = false;
+                long pos = job.positions[job.next];
+                world.setBlock(MxBlockPos.x(pos), MxBlockPos.y(pos), MxBlockPos.z(pos), job.states.get(job.paletteIndexes[job.next]));
+                job.next++;
+                applied++;
+            }
+            job.progress.advance(applied);
+            job.progress.getFuture().complete(job.size);
+            active.poll();
+        }
+    }
+
+    /**
+     * Returns the number of rollbacks waiting to be applied or being applied.
+     *
+     * @return the pending rollback count
+     */
+    public int getPendingRollbacks() {
+        return active.size() + incoming.size();
+    }
+
+    private CompletableFuture<MxChunkView<S>[]> capture(MxRegion region, MxRegionProgress<?> progress) {
+        int minCx = region.getMinChunkX();
+        int minCz = region.getMinChunkZ();
+        int width = region.getMaxChunkZ() - minCz + 1;
+        @SuppressWarnings("unchecked")
+        MxChunkView<S>[] chunks = new MxChunkView[region.getChunkCount()];
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[chunks.length];
+        for (int cx = minCx; cx <= region.getMaxChunkX(); cx++) {
+            for (int cz = minCz; cz <= region.getMaxChunkZ(); cz++) {
+                int slot = (cx - minCx) * width + (cz - minCz);
+                futures[slot] = world.captureChunk(cx, cz).thenAccept(view -> {
+                    chunks[slot] = view;
+                    progress.advance(1);
+                });
+            }
+        }
+        return CompletableFuture.allOf(futures).thenApply(ignored -> chunks);
+    }
+
+    private MxRegionSnapshot<S> buildSnapshot(MxRegion region, MxChunkView<S>[] chunks) {
+        MxRegionSnapshot.Builder<S> builder = new MxRegionSnapshot.Builder<>(region);
+        forEachBlock(region, chunks, (index, x, y, z, state) -> builder.set(index, state));
+        return builder.build();
+    }
+
+    private RollbackJob<S> diff(MxRegionSnapshot<S> snapshot, MxChunkView<S>[] chunks, MxRegionProgress<Integer> progress) {
+        MxRegion region = snapshot.getRegion();
+        List<S> palette = snapshot.getPalette();
+        RollbackJob<S> job = new RollbackJob<>(palette, progress);
+        forEachBlock(region, chunks, (index, x, y, z, state) -> {
+            int wanted = snapshot.paletteIndex(index);
+            if (!palette.get(wanted).equals(state)) job.add(MxBlockPos.pack(x, y, z), wanted);
+        });
+        return job;
+    }
+
+    /**
+     * Visits every block of the region chunk by chunk, so blocks of one chunk stay together in the
+     * rollback queue.
+     */
+    private void forEachBlock(MxRegion region, MxChunkView<S>[] chunks, BlockVisitor<S> visitor) {
+        int minCx = region.getMinChunkX();
+        int minCz = region.getMinChunkZ();
+        int width = region.getMaxChunkZ() - minCz + 1;
+        for (int cx = minCx; cx <= region.getMaxChunkX(); cx++) {
+            int x0 = Math.max(region.getMinX(), cx << 4);
+            int x1 = Math.min(region.getMaxX(), (cx << 4) + 15);
+            for (int cz = minCz; cz <= region.getMaxChunkZ(); cz++) {
+                int z0 = Math.max(region.getMinZ(), cz << 4);
+                int z1 = Math.min(region.getMaxZ(), (cz << 4) + 15);
+                MxChunkView<S> chunk = chunks[(cx - minCx) * width + (cz - minCz)];
+                for (int y = region.getMinY(); y <= region.getMaxY(); y++) {
+                    for (int z = z0; z <= z1; z++) {
+                        for (int x = x0; x <= x1; x++) {
+                            visitor.visit(region.indexOf(x, y, z), x, y, z, chunk.getBlock(x & 15, y, z & 15));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static <T> void complete(MxRegionProgress<T> progress, T result, Throwable error) {
+        if (error == null) {
+            progress.getFuture().complete(result);
+            return;
+        }
+        Throwable cause = error.getCause() != null ? error.getCause() : error;
+        MxLogger.logMessage(MxLogLevel.ERROR, MxStandardPrefix.MXATLAS, "Region operation failed: " + cause.getMessage());
+        progress.getFuture().completeExceptionally(cause);
+    }
+
+    @FunctionalInterface
+    private interface BlockVisitor<S> {
+        void visit(int index, int x, int y, int z, S state);
+    }
+
+    /** Changed blocks of one rollback: packed positions with the palette index to write. */
+    private static final class RollbackJob<S> {
+
+        private final List<S> states;
+        private final MxRegionProgress<Integer> progress;
+        private long[] positions = new long[256];
+        private int[] paletteIndexes = new int[256];
+        private int size;
+        private int next;
+
+        private RollbackJob(List<S> states, MxRegionProgress<Integer> progress) {
+            this.states = states;
+            this.progress = progress;
+        }
+
+        private void add(long position, int paletteIndex) {
+            if (size == positions.length) {
+                positions = Arrays.copyOf(positions, size * 2);
+                paletteIndexes = Arrays.copyOf(paletteIndexes, size * 2);
+            }
+            positions[size] = position;
+            paletteIndexes[size] = paletteIndex;
+            size++;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package nl.mxndarijn.mxlib.mxworld.snapshot;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The world a {@link MxRegionSnapshotEngine} reads from and writes to.
+ *
+ * <p>Keeping the engine behind this interface lets it run against a real Bukkit world
+ * ({@link MxBukkitRegionWorld}) as well as against an in-memory model for offline benchmarks.</p>
+ *
+ * @param <S> the block-state type, e.g. {@link org.bukkit.block.data.BlockData}; must implement
+ *            {@code equals} and {@code hashCode} by value
+ */
+public interface MxRegionWorld<S> {
+
+    /**
+     * Captures an immutable copy of one chunk. Called on the main thread; the returned view may
+     * be read from any thread.
+     *
+     * @param chunkX the chunk x coordinate
+     * @param chunkZ the chunk z coordinate
+     * @return a future completed with the captured chunk; never {@code null}
+     */
+    CompletableFuture<MxChunkView<S>> captureChunk(int chunkX, int chunkZ);
+
+    /**
+     * Sets a block without applying physics. Called on the main thread.
+     *
+     * @param x     the block x coordinate
+     * @param y     the block y coordinate
+     * @param z     the block z coordinate
+     * @param state the state to set; never {@code null}
+     */
+    void setBlock(int x, int y, int z, S state);
+
+    /**
+     * Converts a block state to the string stored in snapshot files. May be called from any thread.
+     *
+     * @param state the state; never {@code null}
+     * @return the serialized form; never {@code null}
+     */
+    String serialize(S state);
+
+    /**
+     * Parses a block state previously produced by {@link #serialize}. May be called from any thread.
+     *
+     * @param data the serialized form; never {@code null}
+     * @return the state; never {@code null}
+     * @throws IllegalArgumentException if the data cannot be parsed
+     */
+    S deserialize(String data);
+}
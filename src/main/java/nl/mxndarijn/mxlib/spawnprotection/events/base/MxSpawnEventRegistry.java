@@ -7,12 +7,16 @@ package nl.mxndarijn.mxlib.spawnprotection.events.base;
  * calling {@link #setWorldTypeResolver(MxIWorldTypeResolver)}. All spawn-pipeline event
  * constructors delegate world-type resolution to the registered {@link MxIWorldTypeResolver}.</p>
  *
+ * <p>Wrap the resolver in a {@link MxWorldTypeCache} to avoid running it for every event; the
+ * registered resolver is read from async threads such as the chat thread, so it must be
+ * thread-safe.</p>
+ *
  * <p>This indirection removes the only WIDM-specific reference from the event classes,
  * making them safe to move to MxLib.</p>
  */
 public final class MxSpawnEventRegistry {
 
-    private static MxIWorldTypeResolver worldTypeResolver;
+    private static volatile MxIWorldTypeResolver worldTypeResolver;
 
     private MxSpawnEventRegistry() {}
 
@@ -35,9 +39,10 @@ public final class MxSpawnEventRegistry {
      * @throws IllegalStateException if no resolver has been registered yet
      */
     public static MxIWorldTypeResolver getWorldTypeResolver() {
-        if (worldTypeResolver == null)
+        MxIWorldTypeResolver resolver = worldTypeResolver;
+        if (resolver == null)
             throw new IllegalStateException("MxSpawnEventRegistry has not been initialised. Call setWorldTypeResolver() at plugin startup.");
-        return worldTypeResolver;
+        return resolver;
     }
 }
 
@@ -0,0 +1,213 @@
+package nl.mxndarijn.mxlib.spawnprotection.events.base;
+
+import nl.mxndarijn.mxlib.mxeventbus.global.MxWorldType;
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.world.WorldLoadEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Caching {@link MxIWorldTypeResolver} that remembers the {@link MxWorldType} of every loaded world
+ * by its UID, so the plugin-supplied resolver does not run for every spawn event.
+ *
+ * <p>The cache is filled for all loaded worlds on construction and whenever a world loads, and an
+ * entry is dropped when its world unloads. Worlds whose category changes while loaded (e.g. a map
+ * that was just registered in {@code MxAtlas}) must be refreshed with {@link #reclassify(World)}.
+ * State derived from world types follows those refreshes through
+ * {@link #addListener(MxWorldTypeListener)}, so one call updates every view:</p>
+ * <pre>{@code
+ * MxWorldTypeCache worldTypes = new MxWorldTypeCache(plugin, resolver);
+ * worldTypes.addListener(playerStates);
+ * }</pre>
+ *
+ * <p>The cache is an immutable map that is only rebuilt on the main thread and published through a
+ * volatile field, so lookups are a single map read and may be made from any thread, including the
+ * async chat thread. The plugin resolver itself only ever runs on the main thread: a miss on the
+ * main thread resolves and caches the world, while a miss on another thread returns the fallback
+ * type and schedules the world to be classified on the next tick.</p>
+ *
+ * <p>Install it in place of the plain resolver:</p>
+ * <pre>{@code
+ * MxSpawnEventRegistry.setWorldTypeResolver(new MxWorldTypeCache(plugin, resolver));
+ * }</pre>
+ */
+public final class MxWorldTypeCache implements MxIWorldTypeResolver, Listener {
+
+    private final JavaPlugin plugin;
+    private final MxIWorldTypeResolver resolver;
+    private final MxWorldType fallback;
+
+    /** World UID to world type; replaced as a whole, only on the main thread. */
+    private volatile Map<UUID, MxWorldType> worldTypes = Map.of();
+
+    /** Notified on the main thread after every reclassification; see {@link #addListener}. */
+    private final List<MxWorldTypeListener> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Constructs a new {@code MxWorldTypeCache} that answers off-thread misses with
+     * {@link MxWorldType#OTHER}. See {@link #MxWorldTypeCache(JavaPlugin, MxIWorldTypeResolver, MxWorldType)}.
+     *
+     * @param plugin   the plugin to register the listener for; must not be {@code null}
+     * @param resolver the resolver to cache; must not be {@code null}
+     */
+    public MxWorldTypeCache(JavaPlugin plugin, MxIWorldTypeResolver resolver) {
+        this(plugin, resolver, MxWorldType.OTHER);
+    }
+
+    /**
+     * Constructs a new {@code MxWorldTypeCache}, registers its world load/unload listener and
+     * classifies every world that is already loaded. Must be called on the main thread.
+     *
+     * @param plugin   the plugin to register the listener for; must not be {@code null}
+     * @param resolver the resolver to cache; must not be {@code null}
+     * @param fallback the type returned for a world that is looked up off the main thread before
+     *                 it was classified; must not be {@code null}
+     */
+    public MxWorldTypeCache(JavaPlugin plugin, MxIWorldTypeResolver resolver, MxWorldType fallback) {
+        if (plugin == null)   throw new IllegalArgumentException("plugin must not be null");
+        if (resolver == null) throw new IllegalArgumentException("resolver must not be null");
+        if (fallback == null) throw new IllegalArgumentException("fallback must not be null");
+        this.plugin = plugin;
+        this.resolver = resolver;
+        this.fallback = fallback;
+        plugin.getServer().getPluginManager().registerEvents(this, plugin);
+        reclassifyAll();
+    }
+
+    /**
+     * Returns the cached world type of the given world. On a miss the world is resolved and cached
+     * if this is the main thread; on any other thread the fallback type is returned and the world
+     * is classified on the main thread instead.
+     *
+     * @param world the world to resolve; must not be {@code null}
+     * @return the world type; never {@code null}
+     */
+    @Override
+    public MxWorldType resolve(World world) {
+        MxWorldType type = worldTypes.get(world.getUID());
+        if (type != null) return type;
+        if (Bukkit.isPrimaryThread()) return classify(world);
+        UUID uid = world.getUID();
+        Bukkit.getScheduler().runTask(plugin, () -> {
+            World loaded = Bukkit.getWorld(uid);
+            if (loaded != null && !worldTypes.containsKey(uid)) classify(loaded);
+        });
+        return fallback;
+    }
+
+    /**
+     * Adds a listener notified after every {@link #reclassify(World)} and {@link #reclassifyAll()}.
+     * Worlds classified because they loaded or were looked up for the first time are not reported,
+     * as no state can have been derived from them yet. Main thread only.
+     *
+     * @param listener the listener; must not be {@code null}
+     */
+    public void addListener(MxWorldTypeListener listener) {
+        if (listener == null) throw new IllegalArgumentException("listener must not be null");
+        listeners.add(listener);
+    }
+
+    /**
+     * Removes a listener added with {@link #addListener}.
+     *
+     * @param listener the listener to remove
+     */
+    public void removeListener(MxWorldTypeListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Resolves the given world again, replaces its cached world type and notifies the listeners.
+     * Must be called on the main thread.
+     *
+     * @param world the world whose category changed; must not be {@code null}
+     * @return the new world type; never {@code null}
+     */
+    public MxWorldType reclassify(World world) {
+        if (world == null) throw new IllegalArgumentException("world must not be null");
+        MxWorldType previous = worldTypes.get(world.getUID());
+        MxWorldType type = classify(world);
+        notifyListeners(world, previous, type);
+        return type;
+    }
+
+    /**
+     * Resolves every loaded world again, replaces the whole cache at once, so concurrent lookups
+     * see either the old or the new classification, and then notifies the listeners for every
+     * world. Must be called on the main thread.
+     */
+    public void reclassifyAll() {
+        Map<UUID, MxWorldType> previous = worldTypes;
+        List<World> worlds = Bukkit.getWorlds();
+        Map<UUID, MxWorldType> rebuilt = new HashMap<>();
+        for (World world : worlds) {
+            rebuilt.put(world.getUID(), resolver.resolve(world));
+        }
+        worldTypes = Map.copyOf(rebuilt);
+        for (World world : worlds) {
+            notifyListeners(world, previous.get(world.getUID()), rebuilt.get(world.getUID()));
+        }
+    }
+
+    /**
+     * Drops the cached world type of the given world; it is resolved again on next use. Must be
+     * called on the main thread.
+     *
+     * @param world the world to forget; must not be {@code null}
+     */
+    public void invalidate(World world) {
+        if (world == null) throw new IllegalArgumentException("world must not be null");
+        Map<UUID, MxWorldType> current = worldTypes;
+        if (!current.containsKey(world.getUID())) return;
+        Map<UUID, MxWorldType> copy = new HashMap<>(current);
+        copy.remove(world.getUID());
+        worldTypes = Map.copyOf(copy);
+    }
+
+    /**
+     * Classifies a world as soon as it is loaded.
+     *
+     * @param e the world load event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onWorldLoad(WorldLoadEvent e) {
+        classify(e.getWorld());
+    }
+
+    /**
+     * Forgets a world once it is unloaded.
+     *
+     * @param e the world unload event
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onWorldUnload(WorldUnloadEvent e) {
+        invalidate(e.getWorld());
+    }
+
+    /**
+     * Resolves the given world and caches its world type without notifying the listeners.
+     */
+    private MxWorldType classify(World world) {
+        MxWorldType type = resolver.resolve(world);
+        Map<UUID, MxWorldType> copy = new HashMap<>(worldTypes);
+        copy.put(world.getUID(), type);
+        worldTypes = Map.copyOf(copy);
+        return type;
+    }
+
+    private void notifyListeners(World world, MxWorldType previous, MxWorldType current) {
+        for (MxWorldTypeListener listener : listeners) {
+            listener.worldTypeChanged(world, previous, current);
+        }
+    }
+}
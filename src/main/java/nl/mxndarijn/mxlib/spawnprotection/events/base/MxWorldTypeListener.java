@@ -0,0 +1,27 @@
+package nl.mxndarijn.mxlib.spawnprotection.events.base;
+
+import nl.mxndarijn.mxlib.mxeventbus.global.MxWorldType;
+import org.bukkit.World;
+
+/**
+ * Callback notified by {@link MxWorldTypeCache} whenever a loaded world is reclassified.
+ *
+ * <p>Use it to keep state derived from world types, such as the snapshots of
+ * {@code MxPlayerStateIndex}, in step with the cache instead of reclassifying them separately. It
+ * runs on the main thread, right after the new world type was cached.</p>
+ *
+ * @see MxWorldTypeCache#addListener(MxWorldTypeListener)
+ */
+@FunctionalInterface
+public interface MxWorldTypeListener {
+
+    /**
+     * Called once per reclassified world, also when its world type stayed the same, since other
+     * facts about the world (e.g. whether it is a registered map) may have changed with it.
+     *
+     * @param world    the reclassified world; never {@code null}
+     * @param previous the previously cached world type, or {@code null} if the world was not cached
+     * @param current  the new world type; never {@code null}
+     */
+    void worldTypeChanged(World world, MxWorldType previous, MxWorldType current);
+}
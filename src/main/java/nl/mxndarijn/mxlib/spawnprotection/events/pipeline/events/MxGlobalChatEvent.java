@@ -22,13 +22,26 @@ public final class MxGlobalChatEvent extends MxGlobalEvent<MxWorldType> {
     private final AsyncChatEvent paperEvent;
 
     /**
-     * Constructs a new {@code MxGlobalChatEvent}.
+     * Constructs a new {@code MxGlobalChatEvent}, resolving the world type from the player's
+     * current world. This reads main-thread world state; from the async chat thread prefer the
+     * constructor that takes an already resolved world type.
      *
      * @param player     the player who sent the message; must not be {@code null}
      * @param paperEvent the underlying Paper async chat event; must not be {@code null}
      */
     public MxGlobalChatEvent(Player player, AsyncChatEvent paperEvent) {
-        super(MxSpawnEventRegistry.getWorldTypeResolver().resolve(player.getWorld()));
+        this(player, paperEvent, MxSpawnEventRegistry.getWorldTypeResolver().resolve(player.getWorld()));
+    }
+
+    /**
+     * Constructs a new {@code MxGlobalChatEvent} for a world type the caller has already resolved.
+     *
+     * @param player     the player who sent the message; must not be {@code null}
+     * @param paperEvent the underlying Paper async chat event; must not be {@code null}
+     * @param worldType  the resolved world type of the event's world; must not be {@code null}
+     */
+    public MxGlobalChatEvent(Player player, AsyncChatEvent paperEvent, MxWorldType worldType) {
+        super(worldType);
         if (player == null) throw new IllegalArgumentException("player must not be null");
         if (paperEvent == null) throw new IllegalArgumentException("paperEvent must not be null");
         this.player = player;
@@ -24,7 +24,18 @@ public final class MxSpawnBlockBreakEvent extends MxGlobalEvent<MxWorldType> {
      * @param paperEvent the underlying Bukkit block break event; must not be {@code null}
      */
     public MxSpawnBlockBreakEvent(Player player, BlockBreakEvent paperEvent) {
-        super(MxSpawnEventRegistry.getWorldTypeResolver().resolve(player.getWorld()));
+        this(player, paperEvent, MxSpawnEventRegistry.getWorldTypeResolver().resolve(player.getWorld()));
+    }
+
+    /**
+     * Constructs a new {@code MxSpawnBlockBreakEvent} for a world type the caller has already resolved.
+     *
+     * @param player     the player breaking the block; must not be {@code null}
+     * @param paperEvent the underlying Bukkit block break event; must not be {@code null}
+     * @param worldType  the resolved world type of the event's world; must not be {@code null}
+     */
+    public MxSpawnBlockBreakEvent(Player player, BlockBreakEvent paperEvent, MxWorldType worldType) {
+        super(worldType);
         this.player = player;
         this.paperEvent = paperEvent;
     }
@@ -24,7 +24,18 @@ public final class MxSpawnBlockPlaceEvent extends MxGlobalEvent<MxWorldType> {
      * @param paperEvent the underlying Bukkit block place event; must not be {@code null}
      */
     public MxSpawnBlockPlaceEvent(Player player, BlockPlaceEvent paperEvent) {
-        super(MxSpawnEventRegistry.getWorldTypeResolver().resolve(player.getWorld()));
+        this(player, paperEvent, MxSpawnEventRegistry.getWorldTypeResolver().resolve(player.getWorld()));
+    }
+
+    /**
+     * Constructs a new {@code MxSpawnBlockPlaceEvent} for a world type the caller has already resolved.
+     *
+     * @param player     the player placing the block; must not be {@code null}
+     * @param paperEvent the underlying Bukkit block place event; must not be {@code null}
+     * @param worldType  the resolved world type of the event's world; must not be {@code null}
+     */
+    public MxSpawnBlockPlaceEvent(Player player, BlockPlaceEvent paperEvent, MxWorldType worldType) {
+        super(worldType);
         this.player = player;
         this.paperEvent = paperEvent;
     }
@@ -21,7 +21,17 @@ public final class MxSpawnEntityChangeBlockEvent extends MxGlobalEvent<MxWorldTy
      * @param paperEvent the underlying Bukkit entity change block event; must not be {@code null}
      */
     public MxSpawnEntityChangeBlockEvent(EntityChangeBlockEvent paperEvent) {
-        super(MxSpawnEventRegistry.getWorldTypeResolver().resolve(paperEvent.getBlock().getWorld()));
+        this(paperEvent, MxSpawnEventRegistry.getWorldTypeResolver().resolve(paperEvent.getBlock().getWorld()));
+    }
+
+    /**
+     * Constructs a new {@code MxSpawnEntityChangeBlockEvent} for a world type the caller has already resolved.
+     *
+     * @param paperEvent the underlying Bukkit entity change block event; must not be {@code null}
+     * @param worldType  the resolved world type of the event's world; must not be {@code null}
+     */
+    public MxSpawnEntityChangeBlockEvent(EntityChangeBlockEvent paperEvent, MxWorldType worldType) {
+        super(worldType);
         this.paperEvent = paperEvent;
     }
 
@@ -21,7 +21,17 @@ public final class MxSpawnEntityDamageByEntityEvent extends MxGlobalEvent<MxWorl
      * @param paperEvent the underlying Bukkit entity damage by entity event; must not be {@code null}
      */
     public MxSpawnEntityDamageByEntityEvent(EntityDamageByEntityEvent paperEvent) {
-        super(MxSpawnEventRegistry.getWorldTypeResolver().resolve(paperEvent.getEntity().getWorld()));
+        this(paperEvent, MxSpawnEventRegistry.getWorldTypeResolver().resolve(paperEvent.getEntity().getWorld()));
+    }
+
+    /**
+     * Constructs a new {@code MxSpawnEntityDamageByEntityEvent} for a world type the caller has already resolved.
+     *
+     * @param paperEvent the underlying Bukkit entity damage by entity event; must not be {@code null}
+     * @param worldType  the resolved world type of the event's world; must not be {@code null}
+     */
+    public MxSpawnEntityDamageByEntityEvent(EntityDamageByEntityEvent paperEvent, MxWorldType worldType) {
+        super(worldType);
         this.paperEvent = paperEvent;
     }
 
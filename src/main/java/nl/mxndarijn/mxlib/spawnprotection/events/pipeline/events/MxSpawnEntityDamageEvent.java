@@ -21,7 +21,17 @@ public final class MxSpawnEntityDamageEvent extends MxGlobalEvent<MxWorldType> {
      * @param paperEvent the underlying Bukkit entity damage event; must not be {@code null}
      */
     public MxSpawnEntityDamageEvent(EntityDamageEvent paperEvent) {
-        super(MxSpawnEventRegistry.getWorldTypeResolver().resolve(paperEvent.getEntity().getWorld()));
+        this(paperEvent, MxSpawnEventRegistry.getWorldTypeResolver().resolve(paperEvent.getEntity().getWorld()));
+    }
+
+    /**
+     * Constructs a new {@code MxSpawnEntityDamageEvent} for a world type the caller has already resolved.
+     *
+     * @param paperEvent the underlying Bukkit entity damage event; must not be {@code null}
+     * @param worldType  the resolved world type of the event's world; must not be {@code null}
+     */
+    public MxSpawnEntityDamageEvent(EntityDamageEvent paperEvent, MxWorldType worldType) {
+        super(worldType);
         this.paperEvent = paperEvent;
     }
 
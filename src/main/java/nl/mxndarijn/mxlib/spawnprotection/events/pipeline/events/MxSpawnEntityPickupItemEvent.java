@@ -21,7 +21,17 @@ public final class MxSpawnEntityPickupItemEvent extends MxGlobalEvent<MxWorldTyp
      * @param paperEvent the underlying Bukkit entity pickup item event; must not be {@code null}
      */
     public MxSpawnEntityPickupItemEvent(EntityPickupItemEvent paperEvent) {
-        super(MxSpawnEventRegistry.getWorldTypeResolver().resolve(paperEvent.getEntity().getWorld()));
+        this(paperEvent, MxSpawnEventRegistry.getWorldTypeResolver().resolve(paperEvent.getEntity().getWorld()));
+    }
+
+    /**
+     * Constructs a new {@code MxSpawnEntityPickupItemEvent} for a world type the caller has already resolved.
+     *
+     * @param paperEvent the underlying Bukkit entity pickup item event; must not be {@code null}
+     * @param worldType  the resolved world type of the event's world; must not be {@code null}
+     */
+    public MxSpawnEntityPickupItemEvent(EntityPickupItemEvent paperEvent, MxWorldType worldType) {
+        super(worldType);
         this.paperEvent = paperEvent;
     }
 
@@ -21,7 +21,17 @@ public final class MxSpawnEntitySpawnEvent extends MxGlobalEvent<MxWorldType> {
      * @param paperEvent the underlying Bukkit entity spawn event; must not be {@code null}
      */
     public MxSpawnEntitySpawnEvent(EntitySpawnEvent paperEvent) {
-        super(MxSpawnEventRegistry.getWorldTypeResolver().resolve(paperEvent.getEntity().getWorld()));
+        this(paperEvent, MxSpawnEventRegistry.getWorldTypeResolver().resolve(paperEvent.getEntity().getWorld()));
+    }
+
+    /**
+     * Constructs a new {@code MxSpawnEntitySpawnEvent} for a world type the caller has already resolved.
+     *
+     * @param paperEvent the underlying Bukkit entity spawn event; must not be {@code null}
+     * @param worldType  the resolved world type of the event's world; must not be {@code null}
+     */
+    public MxSpawnEntitySpawnEvent(EntitySpawnEvent paperEvent, MxWorldType worldType) {
+        super(worldType);
         this.paperEvent = paperEvent;
     }
 
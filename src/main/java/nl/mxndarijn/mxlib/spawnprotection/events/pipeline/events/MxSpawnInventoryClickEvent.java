@@ -21,7 +21,17 @@ public final class MxSpawnInventoryClickEvent extends MxGlobalEvent<MxWorldType>
      * @param paperEvent the underlying Bukkit inventory click event; must not be {@code null}
      */
     public MxSpawnInventoryClickEvent(InventoryClickEvent paperEvent) {
-        super(MxSpawnEventRegistry.getWorldTypeResolver().resolve(paperEvent.getWhoClicked().getWorld()));
+        this(paperEvent, MxSpawnEventRegistry.getWorldTypeResolver().resolve(paperEvent.getWhoClicked().getWorld()));
+    }
+
+    /**
+     * Constructs a new {@code MxSpawnInventoryClickEvent} for a world type the caller has already resolved.
+     *
+     * @param paperEvent the underlying Bukkit inventory click event; must not be {@code null}
+     * @param worldType  the resolved world type of the event's world; must not be {@code null}
+     */
+    public MxSpawnInventoryClickEvent(InventoryClickEvent paperEvent, MxWorldType worldType) {
+        super(worldType);
         this.paperEvent = paperEvent;
     }
 
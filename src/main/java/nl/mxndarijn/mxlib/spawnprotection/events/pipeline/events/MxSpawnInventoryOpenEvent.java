@@ -24,7 +24,18 @@ public final class MxSpawnInventoryOpenEvent extends MxGlobalEvent<MxWorldType>
      * @param paperEvent the underlying Bukkit inventory open event; must not be {@code null}
      */
     public MxSpawnInventoryOpenEvent(Player player, InventoryOpenEvent paperEvent) {
-        super(MxSpawnEventRegistry.getWorldTypeResolver().resolve(player.getWorld()));
+        this(player, paperEvent, MxSpawnEventRegistry.getWorldTypeResolver().resolve(player.getWorld()));
+    }
+
+    /**
+     * Constructs a new {@code MxSpawnInventoryOpenEvent} for a world type the caller has already resolved.
+     *
+     * @param player     the player opening the inventory; must not be {@code null}
+     * @param paperEvent the underlying Bukkit inventory open event; must not be {@code null}
+     * @param worldType  the resolved world type of the event's world; must not be {@code null}
+     */
+    public MxSpawnInventoryOpenEvent(Player player, InventoryOpenEvent paperEvent, MxWorldType worldType) {
+        super(worldType);
         this.player = player;
         this.paperEvent = paperEvent;
     }
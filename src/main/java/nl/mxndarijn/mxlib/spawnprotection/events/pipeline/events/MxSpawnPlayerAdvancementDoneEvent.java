@@ -25,7 +25,18 @@ public final class MxSpawnPlayerAdvancementDoneEvent extends MxGlobalEvent<MxWor
      * @param paperEvent the underlying Bukkit advancement done event; must not be {@code null}
      */
     public MxSpawnPlayerAdvancementDoneEvent(Player player, PlayerAdvancementDoneEvent paperEvent) {
-        super(MxSpawnEventRegistry.getWorldTypeResolver().resolve(player.getWorld()));
+        this(player, paperEvent, MxSpawnEventRegistry.getWorldTypeResolver().resolve(player.getWorld()));
+    }
+
+    /**
+     * Constructs a new {@code MxSpawnPlayerAdvancementDoneEvent} for a world type the caller has already resolved.
+     *
+     * @param player     the player who completed the advancement; must not be {@code null}
+     * @param paperEvent the underlying Bukkit advancement done event; must not be {@code null}
+     * @param worldType  the resolved world type of the event's world; must not be {@code null}
+     */
+    public MxSpawnPlayerAdvancementDoneEvent(Player player, PlayerAdvancementDoneEvent paperEvent, MxWorldType worldType) {
+        super(worldType);
         this.player = player;
         this.paperEvent = paperEvent;
     }
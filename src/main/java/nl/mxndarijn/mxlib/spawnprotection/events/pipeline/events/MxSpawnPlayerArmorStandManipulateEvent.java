@@ -24,7 +24,18 @@ public final class MxSpawnPlayerArmorStandManipulateEvent extends MxGlobalEvent<
      * @param paperEvent the underlying Bukkit armor stand manipulate event; must not be {@code null}
      */
     public MxSpawnPlayerArmorStandManipulateEvent(Player player, PlayerArmorStandManipulateEvent paperEvent) {
-        super(MxSpawnEventRegistry.getWorldTypeResolver().resolve(player.getWorld()));
+        this(player, paperEvent, MxSpawnEventRegistry.getWorldTypeResolver().resolve(player.getWorld()));
+    }
+
+    /**
+     * Constructs a new {@code MxSpawnPlayerArmorStandManipulateEvent} for a world type the caller has already resolved.
+     *
+     * @param player     the player manipulating the armor stand; must not be {@code null}
+     * @param paperEvent the underlying Bukkit armor stand manipulate event; must not be {@code null}
+     * @param worldType  the resolved world type of the event's world; must not be {@code null}
+     */
+    public MxSpawnPlayerArmorStandManipulateEvent(Player player, PlayerArmorStandManipulateEvent paperEvent, MxWorldType worldType) {
+        super(worldType);
         this.player = player;
         this.paperEvent = paperEvent;
     }
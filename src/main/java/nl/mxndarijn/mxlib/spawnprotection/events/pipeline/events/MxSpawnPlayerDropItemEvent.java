@@ -24,7 +24,18 @@ public final class MxSpawnPlayerDropItemEvent extends MxGlobalEvent<MxWorldType>
      * @param paperEvent the underlying Bukkit drop item event; must not be {@code null}
      */
     public MxSpawnPlayerDropItemEvent(Player player, PlayerDropItemEvent paperEvent) {
-        super(MxSpawnEventRegistry.getWorldTypeResolver().resolve(player.getWorld()));
+        this(player, paperEvent, MxSpawnEventRegistry.getWorldTypeResolver().resolve(player.getWorld()));
+    }
+
+    /**
+     * Constructs a new {@code MxSpawnPlayerDropItemEvent} for a world type the caller has already resolved.
+     *
+     * @param player     the player dropping the item; must not be {@code null}
+     * @param paperEvent the underlying Bukkit drop item event; must not be {@code null}
+     * @param worldType  the resolved world type of the event's world; must not be {@code null}
+     */
+    public MxSpawnPlayerDropItemEvent(Player player, PlayerDropItemEvent paperEvent, MxWorldType worldType) {
+        super(worldType);
         this.player = player;
         this.paperEvent = paperEvent;
     }
@@ -24,7 +24,18 @@ public final class MxSpawnPlayerInteractAtEntityEvent extends MxGlobalEvent<MxWo
      * @param paperEvent the underlying Bukkit event; must not be {@code null}
      */
     public MxSpawnPlayerInteractAtEntityEvent(Player player, PlayerInteractAtEntityEvent paperEvent) {
-        super(MxSpawnEventRegistry.getWorldTypeResolver().resolve(player.getWorld()));
+        this(player, paperEvent, MxSpawnEventRegistry.getWorldTypeResolver().resolve(player.getWorld()));
+    }
+
+    /**
+     * Constructs a new {@code MxSpawnPlayerInteractAtEntityEvent} for a world type the caller has already resolved.
+     *
+     * @param player     the player who interacted; must not be {@code null}
+     * @param paperEvent the underlying Bukkit event; must not be {@code null}
+     * @param worldType  the resolved world type of the event's world; must not be {@code null}
+     */
+    public MxSpawnPlayerInteractAtEntityEvent(Player player, PlayerInteractAtEntityEvent paperEvent, MxWorldType worldType) {
+        super(worldType);
         this.player = player;
         this.paperEvent = paperEvent;
     }
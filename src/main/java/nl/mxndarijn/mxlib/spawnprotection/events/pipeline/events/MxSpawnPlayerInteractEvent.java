@@ -25,7 +25,18 @@ public final class MxSpawnPlayerInteractEvent extends MxGlobalEvent<MxWorldType>
      * @param paperEvent the underlying Bukkit player interact event; must not be {@code null}
      */
     public MxSpawnPlayerInteractEvent(Player player, PlayerInteractEvent paperEvent) {
-        super(MxSpawnEventRegistry.getWorldTypeResolver().resolve(player.getWorld()));
+        this(player, paperEvent, MxSpawnEventRegistry.getWorldTypeResolver().resolve(player.getWorld()));
+    }
+
+    /**
+     * Constructs a new {@code MxSpawnPlayerInteractEvent} for a world type the caller has already resolved.
+     *
+     * @param player     the player who interacted; must not be {@code null}
+     * @param paperEvent the underlying Bukkit player interact event; must not be {@code null}
+     * @param worldType  the resolved world type of the event's world; must not be {@code null}
+     */
+    public MxSpawnPlayerInteractEvent(Player player, PlayerInteractEvent paperEvent, MxWorldType worldType) {
+        super(worldType);
         this.player = player;
         this.paperEvent = paperEvent;
     }
@@ -38,7 +38,18 @@ public final class MxSpawnPlayerJoinEvent extends MxGlobalEvent<MxWorldType> {
      * @param paperEvent the underlying Bukkit player join event; must not be {@code null}
      */
     public MxSpawnPlayerJoinEvent(Player player, PlayerJoinEvent paperEvent) {
-        super(MxSpawnEventRegistry.getWorldTypeResolver().resolve(player.getWorld()));
+        this(player, paperEvent, MxSpawnEventRegistry.getWorldTypeResolver().resolve(player.getWorld()));
+    }
+
+    /**
+     * Constructs a new {@code MxSpawnPlayerJoinEvent} for a world type the caller has already resolved.
+     *
+     * @param player     the player who joined; must not be {@code null}
+     * @param paperEvent the underlying Bukkit player join event; must not be {@code null}
+     * @param worldType  the resolved world type of the event's world; must not be {@code null}
+     */
+    public MxSpawnPlayerJoinEvent(Player player, PlayerJoinEvent paperEvent, MxWorldType worldType) {
+        super(worldType);
         this.player = player;
         this.paperEvent = paperEvent;
     }
@@ -25,7 +25,18 @@ public final class MxSpawnPlayerMoveEvent extends MxGlobalEvent<MxWorldType> {
      * @param paperEvent the underlying Bukkit player move event; must not be {@code null}
      */
     public MxSpawnPlayerMoveEvent(Player player, PlayerMoveEvent paperEvent) {
-        super(MxSpawnEventRegistry.getWorldTypeResolver().resolve(player.getWorld()));
+        this(player, paperEvent, MxSpawnEventRegistry.getWorldTypeResolver().resolve(player.getWorld()));
+    }
+
+    /**
+     * Constructs a new {@code MxSpawnPlayerMoveEvent} for a world type the caller has already resolved.
+     *
+     * @param player     the player who moved; must not be {@code null}
+     * @param paperEvent the underlying Bukkit player move event; must not be {@code null}
+     * @param worldType  the resolved world type of the event's world; must not be {@code null}
+     */
+    public MxSpawnPlayerMoveEvent(Player player, PlayerMoveEvent paperEvent, MxWorldType worldType) {
+        super(worldType);
         this.player = player;
         this.paperEvent = paperEvent;
     }
@@ -24,7 +24,18 @@ public final class MxSpawnPlayerPortalEvent extends MxGlobalEvent<MxWorldType> {
      * @param paperEvent the underlying Bukkit player portal event; must not be {@code null}
      */
     public MxSpawnPlayerPortalEvent(Player player, PlayerPortalEvent paperEvent) {
-        super(MxSpawnEventRegistry.getWorldTypeResolver().resolve(player.getWorld()));
+        this(player, paperEvent, MxSpawnEventRegistry.getWorldTypeResolver().resolve(player.getWorld()));
+    }
+
+    /**
+     * Constructs a new {@code MxSpawnPlayerPortalEvent} for a world type the caller has already resolved.
+     *
+     * @param player     the player entering the portal; must not be {@code null}
+     * @param paperEvent the underlying Bukkit player portal event; must not be {@code null}
+     * @param worldType  the resolved world type of the event's world; must not be {@code null}
+     */
+    public MxSpawnPlayerPortalEvent(Player player, PlayerPortalEvent paperEvent, MxWorldType worldType) {
+        super(worldType);
         this.player = player;
         this.paperEvent = paperEvent;
     }
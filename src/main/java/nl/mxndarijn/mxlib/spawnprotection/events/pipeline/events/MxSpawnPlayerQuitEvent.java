@@ -24,7 +24,18 @@ public final class MxSpawnPlayerQuitEvent extends MxGlobalEvent<MxWorldType> {
      * @param paperEvent the underlying Bukkit player quit event; must not be {@code null}
      */
     public MxSpawnPlayerQuitEvent(Player player, PlayerQuitEvent paperEvent) {
-        super(MxSpawnEventRegistry.getWorldTypeResolver().resolve(player.getWorld()));
+        this(player, paperEvent, MxSpawnEventRegistry.getWorldTypeResolver().resolve(player.getWorld()));
+    }
+
+    /**
+     * Constructs a new {@code MxSpawnPlayerQuitEvent} for a world type the caller has already resolved.
+     *
+     * @param player     the player who left; must not be {@code null}
+     * @param paperEvent the underlying Bukkit player quit event; must not be {@code null}
+     * @param worldType  the resolved world type of the event's world; must not be {@code null}
+     */
+    public MxSpawnPlayerQuitEvent(Player player, PlayerQuitEvent paperEvent, MxWorldType worldType) {
+        super(worldType);
         this.player = player;
         this.paperEvent = paperEvent;
     }
@@ -24,7 +24,18 @@ public final class MxSpawnSignChangeEvent extends MxGlobalEvent<MxWorldType> {
      * @param paperEvent the underlying Bukkit sign change event; must not be {@code null}
      */
     public MxSpawnSignChangeEvent(Player player, SignChangeEvent paperEvent) {
-        super(MxSpawnEventRegistry.getWorldTypeResolver().resolve(player.getWorld()));
+        this(player, paperEvent, MxSpawnEventRegistry.getWorldTypeResolver().resolve(player.getWorld()));
+    }
+
+    /**
+     * Constructs a new {@code MxSpawnSignChangeEvent} for a world type the caller has already resolved.
+     *
+     * @param player     the player who edited the sign; must not be {@code null}
+     * @param paperEvent the underlying Bukkit sign change event; must not be {@code null}
+     * @param worldType  the resolved world type of the event's world; must not be {@code null}
+     */
+    public MxSpawnSignChangeEvent(Player player, SignChangeEvent paperEvent, MxWorldType worldType) {
+        super(worldType);
         this.player = player;
         this.paperEvent = paperEvent;
     }
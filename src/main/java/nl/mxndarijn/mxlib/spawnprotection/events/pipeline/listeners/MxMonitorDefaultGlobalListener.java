@@ -16,7 +16,15 @@ import nl.mxndarijn.mxlib.spawnprotection.events.pipeline.events.*;
  *
  * <p>Non-cancellable events (join, quit, advancement) are handled with their own
  * post-dispatch logic rather than a cancellation flag.</p>
+ *
+ * @deprecated {@link nl.mxndarijn.mxlib.spawnprotection.spawn.MxSpawnBukkitBridge} now writes the
+ *             resolved verdict back onto the Bukkit event itself after dispatch. Registering this
+ *             listener only adds a MONITOR dispatch to every spawn event and keeps the bridge's
+ *             Bukkit executors registered while nothing else listens. Use
+ *             {@link nl.mxndarijn.mxlib.spawnprotection.spawn.MxSpawnBukkitBridge#addVerdictListener}
+ *             to observe verdicts instead.
  */
+@Deprecated
 public class MxMonitorDefaultGlobalListener extends MxGlobalEventListener {
 
     /**
@@ -1,49 +1,95 @@
 package nl.mxndarijn.mxlib.spawnprotection.spawn;
 
+import nl.mxndarijn.mxlib.util.MxBlockPos;
+import nl.mxndarijn.mxlib.util.MxLongObjectMap;
 import org.bukkit.Bukkit;
 import org.bukkit.World;
 import org.bukkit.block.Block;
 import org.bukkit.block.data.BlockData;
 import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitTask;
 
 import java.io.File;
 import java.io.IOException;
-import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 /**
  * Manages scheduled restores of gate, door, and trapdoor block states in the spawn world.
  *
  * <p>When a player opens a gate or door, the original {@link BlockData} is captured and
- * a restore is scheduled for 2 minutes later (2400 ticks). Pending restores are persisted
- * to {@code spawn-gate-restores.yml} so they survive server restarts.</p>
+ * a restore is scheduled for 1 minute later (1200 ticks). Pending restores are persisted
+ * to the append-only journal {@code spawn-gate-restores.journal} by a background writer, so
+ * they survive server restarts and crashes without blocking the main thread on disk I/O.
+ * Call {@link #shutdown()} from {@code onDisable} to flush the journal.</p>
+ *
+ * <p>Pending restores live in a hashed timing wheel driven by a single repeating task, instead of
+ * one Bukkit task per restore. Each tick the restores that fell due are applied grouped by chunk,
+ * within a configurable time budget ({@link #setTickBudgetNanos(long)}); restores that do not fit
+ * are carried over to the next tick.</p>
  *
  * <p>This service is a singleton; obtain the instance via {@link #getInstance(JavaPlugin)}.</p>
  */
 public final class MxBlockRestoreService {
 
+    /** Default maximum time a journal record may wait before it is fsynced. */
+    public static final long DEFAULT_FSYNC_INTERVAL_MILLIS = 1000L;
+
+    /** Minimum time between two journal compactions. */
+    private static final long COMPACT_INTERVAL_MILLIS = 5 * 60 * 1000L;
+
+    /** Delay in ticks between opening a gate or door and restoring it. */
+    private static final long RESTORE_DELAY_TICKS = 1200L;
+
+    /** Delay in ticks before restores that survived a restart are applied. */
+    private static final long RELOAD_DELAY_TICKS = 20L;
+
+    /** Number of slots in the restore wheel; restores further out wait for extra rotations. */
+    private static final int WHEEL_SLOTS = 256;
+
+    /** Default time budget for applying due restores in a single tick. */
+    public static final long DEFAULT_TICK_BUDGET_NANOS = 1_000_000L;
+
+    /** Maximum time {@link #shutdown()} waits for the journal writer. */
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 5000L;
+
     private static MxBlockRestoreService instance;
 
     private final JavaPlugin plugin;
 
     /**
-     * Pending gate/door restores that have not yet been applied.
-     * Key: {@code "world,x,y,z"} — uniquely identifies a block location.
-     * Value: serialized {@link BlockData} string representing the original state to restore.
+     * Pending gate/door restores that have not yet been applied, per world UID and keyed by the
+     * {@link MxBlockPos packed block position}. Each value holds the parsed original {@link BlockData}.
      */
-    private final HashMap<String, String> pendingRestores = new HashMap<>();
+    private final Map<UUID, MxLongObjectMap<PendingRestore>> pendingRestores = new HashMap<>();
+
+    /** Pending restores in due order, advanced by {@link #tickTask}. */
+    private final MxRestoreWheel<PendingRestore> wheel = new MxRestoreWheel<>(WHEEL_SLOTS);
+
+    /** The single repeating task that drives {@link #wheel}. */
+    private final BukkitTask tickTask;
 
-    /** File used to persist pending restores across server restarts. */
-    private final File restoreFile;
+    private long tickBudgetNanos = DEFAULT_TICK_BUDGET_NANOS;
+
+    /** Journal used to persist pending restores across server restarts. */
+    private final MxRestoreJournal journal;
+
+    /** YAML file written by earlier versions; migrated into the journal and deleted on startup. */
+    private final File legacyRestoreFile;
 
     /**
      * Private constructor. Loads and schedules any restores that survived a server restart.
      */
-    private MxBlockRestoreService(JavaPlugin plugin) {
+    private MxBlockRestoreService(JavaPlugin plugin, long fsyncIntervalMillis) {
         this.plugin = plugin;
-        restoreFile = new File(plugin.getDataFolder(), "spawn-gate-restores.yml");
+        journal = new MxRestoreJournal(new File(plugin.getDataFolder(), "spawn-gate-restores.journal"),
+                fsyncIntervalMillis, COMPACT_INTERVAL_MILLIS, plugin.getLogger());
+        legacyRestoreFile = new File(plugin.getDataFolder(), "spawn-gate-restores.yml");
         loadAndScheduleRestores();
+        tickTask = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
     }
 
     /**
@@ -53,8 +99,20 @@ public final class MxBlockRestoreService {
      * @return the singleton instance; never {@code null}
      */
     public static MxBlockRestoreService getInstance(JavaPlugin plugin) {
+        return getInstance(plugin, DEFAULT_FSYNC_INTERVAL_MILLIS);
+    }
+
+    /**
+     * Returns the singleton instance of {@code MxBlockRestoreService}, creating it if necessary.
+     * The fsync interval only applies when this call creates the instance.
+     *
+     * @param plugin              the {@link JavaPlugin} instance used for scheduling and data folder access
+     * @param fsyncIntervalMillis the maximum time a journal record may wait before it is fsynced; must be positive
+     * @return the singleton instance; never {@code null}
+     */
+    public static MxBlockRestoreService getInstance(JavaPlugin plugin, long fsyncIntervalMillis) {
         if (instance == null)
-            instance = new MxBlockRestoreService(plugin);
+            instance = new MxBlockRestoreService(plugin, fsyncIntervalMillis);
         return instance;
     }
 
@@ -63,11 +121,71 @@ public final class MxBlockRestoreService {
      *
      * @param b the block to build a key for
      * @return the location key string; never {@code null}
+     * @deprecated pending restores are keyed by world UID and {@link MxBlockPos#pack(Block)};
+     *             no method of this service accepts this key any more. Will be removed.
      */
+    @Deprecated
     public String blockKey(Block b) {
         return b.getWorld().getName() + "," + b.getX() + "," + b.getY() + "," + b.getZ();
     }
 
+    /**
+     * Writes and fsyncs all pending journal records and stops the journal writer.
+     * Call from the plugin's {@code onDisable}; the instance must not be used afterwards.
+     */
+    public void shutdown() {
+        tickTask.cancel();
+        journal.close(SHUTDOWN_TIMEOUT_MILLIS);
+        if (instance == this) instance = null;
+    }
+
+    /**
+     * Sets the time budget for applying due restores in a single tick. At least one due restore
+     * is applied per tick regardless of the budget.
+     *
+     * @param tickBudgetNanos the budget in nanoseconds; must be positive
+     */
+    public void setTickBudgetNanos(long tickBudgetNanos) {
+        if (tickBudgetNanos <= 0) throw new IllegalArgumentException("tickBudgetNanos must be positive");
+        this.tickBudgetNanos = tickBudgetNanos;
+    }
+
+    /**
+     * Returns the number of restores that are scheduled or due but not yet applied.
+     *
+     * @return the restore queue depth
+     */
+    public int getQueueDepth() {
+        return wheel.size();
+    }
+
+    /**
+     * Returns the number of due restores deferred to a later tick because the budget ran out.
+     *
+     * @return the restore backlog
+     */
+    public int getBacklog() {
+        return wheel.backlog();
+    }
+
+    /**
+     * Returns the number of restores applied during the most recent tick.
+     *
+     * @return the last per-tick restore count
+     */
+    public int getLastTickRestoreCount() {
+        return wheel.lastTickApplied();
+    }
+
+    /**
+     * Returns the number of restores applied since the service was created.
+     *
+     * @return the total restore count
+     */
+    public long getTotalRestoreCount() {
+        return wheel.totalApplied();
+    }
+
     /**
      * Returns whether a pending restore is currently registered for the given block.
      *
@@ -75,104 +193,181 @@ public final class MxBlockRestoreService {
      * @return {@code true} if a restore is pending for this block
      */
     public boolean hasPendingRestore(Block block) {
-        return pendingRestores.containsKey(blockKey(block));
+        MxLongObjectMap<PendingRestore> blocks = pendingRestores.get(block.getWorld().getUID());
+        return blocks != null && blocks.containsKey(MxBlockPos.pack(block));
     }
 
     /**
      * Cancels any pending restore for the given block, making the current block state permanent.
-     * Also updates the persist file.
+     * Also records the cancellation in the journal.
      *
      * @param block the block whose pending restore should be cancelled
      */
     public void cancelRestore(Block block) {
-        String key = blockKey(block);
-        if (pendingRestores.remove(key) != null) {
-            saveRestoreFile();
+        UUID world = block.getWorld().getUID();
+        MxLongObjectMap<PendingRestore> blocks = pendingRestores.get(world);
+        if (blocks == null) return;
+        long key = MxBlockPos.pack(block);
+        PendingRestore restore = blocks.remove(key);
+        if (restore != null) {
+            wheel.cancel(restore.entry);
+            journal.remove(world, key);
         }
     }
 
     /**
      * Records a pending restore for the given block and schedules it to be applied
-     * after 2 minutes (2400 ticks). Only the first original state is recorded;
+     * after 1 minute (1200 ticks). Only the first original state is recorded;
      * subsequent interactions before the restore fires do not overwrite it.
      *
      * @param block        the block whose state should be restored
      * @param originalData the {@link BlockData} to restore the block to
      */
     public void scheduleRestore(Block block, BlockData originalData) {
-        String key = blockKey(block);
-        String dataStr = originalData.getAsString();
-        if (pendingRestores.containsKey(key)) return;
-        pendingRestores.put(key, dataStr);
-        saveRestoreFile();
-        Bukkit.getScheduler().runTaskLater(plugin, () -> restoreBlock(block, dataStr), 1200L);
+        UUID world = block.getWorld().getUID();
+        long key = MxBlockPos.pack(block);
+        MxLongObjectMap<PendingRestore> blocks = pendingRestores.computeIfAbsent(world, w -> new MxLongObjectMap<>());
+        if (blocks.containsKey(key)) return;
+        BlockData data = originalData.clone();
+        schedule(blocks, world, key, block, data, RESTORE_DELAY_TICKS);
+        journal.put(world, key, data);
+    }
+
+    /**
+     * Records a restore and puts it on the wheel, grouped with other restores in the same chunk.
+     */
+    private void schedule(MxLongObjectMap<PendingRestore> blocks, UUID world, long key, Block block,
+                          BlockData data, long delayTicks) {
+        PendingRestore restore = new PendingRestore(world, key, block, data);
+        restore.entry = wheel.schedule(restore, MxBlockPos.chunkKey(key), delayTicks);
+        blocks.put(key, restore);
+    }
+
+    /**
+     * Advances the restore wheel by one tick and applies the restores that fell due.
+     */
+    private void tick() {
+        wheel.tick(tickBudgetNanos, this::restoreBlock);
     }
 
     /**
      * Applies a pending restore by setting the block's data back to the original state.
      * If the pending restore has been superseded or cancelled, this method does nothing.
-     * Removes the entry from the pending map and updates the persist file on success.
+     * Removes the entry from the pending map and records the removal in the journal on success.
      *
-     * @param block           the block to restore
-     * @param originalDataStr the serialized {@link BlockData} string to apply
-     */
-    private void restoreBlock(Block block, String originalDataStr) {
-        String key = blockKey(block);
-        if (!originalDataStr.equals(pendingRestores.get(key))) return;
-        pendingRestores.remove(key);
-        saveRestoreFile();
+     * @param restore the restore that fell due
+     */
+    private void restoreBlock(PendingRestore restore) {
+        MxLongObjectMap<PendingRestore> blocks = pendingRestores.get(restore.world);
+        if (blocks == null || blocks.get(restore.key) != restore) return;
+        blocks.remove(restore.key);
+        journal.remove(restore.world, restore.key);
         try {
-            BlockData data = Bukkit.createBlockData(originalDataStr);
-            block.setBlockData(data, false);
+            restore.block.setBlockData(restore.data, false);
         } catch (Exception ex) {
             plugin.getLogger().warning("[MxBlockRestoreService] Could not restore block data: " + ex.getMessage());
         }
     }
 
     /**
-     * Persists the current pending restores map to {@link #restoreFile}
-     * so that pending restores survive server restarts.
-     * Commas in block keys are replaced with underscores for YAML compatibility.
+     * Replays the journal on startup and immediately schedules any restores that were pending
+     * before the server restarted or crashed. Entries from a legacy {@code spawn-gate-restores.yml}
+     * are migrated into the journal once and the YAML file is deleted. Overdue restores are applied
+     * after a short 20-tick delay to allow the world to finish loading; entries for worlds that are
+     * no longer loaded are dropped.
+     *
+     * <p>If the journal cannot be opened, journaling stays disabled: restores still run but do not
+     * survive a restart, and a legacy YAML file is migrated into memory but kept on disk.</p>
      */
-    private void saveRestoreFile() {
-        YamlConfiguration cfg = new YamlConfiguration();
-        for (var entry : pendingRestores.entrySet()) {
-            cfg.set(entry.getKey().replace(",", "_"), entry.getValue());
-        }
+    private void loadAndScheduleRestores() {
+        List<MxRestoreJournal.Entry> entries;
         try {
-            cfg.save(restoreFile);
+            entries = journal.open();
         } catch (IOException ex) {
-            plugin.getLogger().warning("[MxBlockRestoreService] Could not save gate-restore file: " + ex.getMessage());
+            plugin.getLogger().warning("[MxBlockRestoreService] Could not open gate-restore journal, "
+                    + "pending restores will not survive a restart: " + ex.getMessage());
+            entries = List.of();
+        }
+        for (MxRestoreJournal.Entry entry : entries) {
+            World world = Bukkit.getWorld(entry.world);
+            BlockData data = world != null ? parseBlockData(entry.data) : null;
+            if (data == null) {
+                journal.remove(entry.world, entry.key);
+                continue;
+            }
+            Block block = world.getBlockAt(MxBlockPos.x(entry.key), MxBlockPos.y(entry.key), MxBlockPos.z(entry.key));
+            schedule(pendingRestores.computeIfAbsent(entry.world, w -> new MxLongObjectMap<>()),
+                    entry.world, entry.key, block, data, RELOAD_DELAY_TICKS);
+        }
+        if (legacyRestoreFile.exists()) {
+            migrateLegacyRestoreFile();
         }
     }
 
     /**
-     * Reads {@link #restoreFile} on startup and immediately schedules any restores
-     * that were pending before the server restarted. Overdue restores are applied
-     * after a short 20-tick delay to allow the world to finish loading.
-     * Clears the file after scheduling to avoid duplicate restores.
+     * Schedules the restores from a {@code spawn-gate-restores.yml} written by an earlier version,
+     * records them in the journal and deletes the file. Keys have the form {@code world_x_y_z}.
+     * The file is kept if the journal is not open, since the entries would not be persisted.
      */
-    private void loadAndScheduleRestores() {
-        if (!restoreFile.exists()) return;
-        YamlConfiguration cfg = YamlConfiguration.loadConfiguration(restoreFile);
+    private void migrateLegacyRestoreFile() {
+        YamlConfiguration cfg = YamlConfiguration.loadConfiguration(legacyRestoreFile);
         for (String rawKey : cfg.getKeys(false)) {
             String blockDataStr = cfg.getString(rawKey);
             if (blockDataStr == null) continue;
-            String[] parts = rawKey.split("_");
-            if (parts.length < 4) continue;
-            int z = Integer.parseInt(parts[parts.length - 1]);
-            int y = Integer.parseInt(parts[parts.length - 2]);
-            int x = Integer.parseInt(parts[parts.length - 3]);
-            String worldName = String.join("_", Arrays.copyOf(parts, parts.length - 3));
-            World world = Bukkit.getWorld(worldName);
-            if (world == null) continue;
-            Block block = world.getBlockAt(x, y, z);
-            String key = blockKey(block);
-            pendingRestores.put(key, blockDataStr);
-            final String finalBlockDataStr = blockDataStr;
-            Bukkit.getScheduler().runTaskLater(plugin, () -> restoreBlock(block, finalBlockDataStr), 20L);
+            int z = rawKey.lastIndexOf('_');
+            int y = z > 0 ? rawKey.lastIndexOf('_', z - 1) : -1;
+            int x = y > 0 ? rawKey.lastIndexOf('_', y - 1) : -1;
+            if (x <= 0) continue;
+            World world = Bukkit.getWorld(rawKey.substring(0, x));
+            BlockData data = world != null ? parseBlockData(blockDataStr) : null;
+            if (data == null) continue;
+            Block block;
+            try {
+                block = world.getBlockAt(Integer.parseInt(rawKey.substring(x + 1, y)),
+                        Integer.parseInt(rawKey.substring(y + 1, z)), Integer.parseInt(rawKey.substring(z + 1)));
+            } catch (NumberFormatException ex) {
+                continue;
+            }
+            UUID worldId = world.getUID();
+            long key = MxBlockPos.pack(block);
+            MxLongObjectMap<PendingRestore> blocks = pendingRestores.computeIfAbsent(worldId, w -> new MxLongObjectMap<>());
+            if (blocks.containsKey(key)) continue;
+            schedule(blocks, worldId, key, block, data, RELOAD_DELAY_TICKS);
+            journal.put(worldId, key, data);
+        }
+        if (journal.isOpen() && !legacyRestoreFile.delete()) {
+            plugin.getLogger().warning("[MxBlockRestoreService] Could not delete legacy gate-restore file");
         }
-        saveRestoreFile();
     }
-}
 
+    /**
+     * Parses serialized block data, logging and returning {@code null} if it is invalid.
+     */
+    private BlockData parseBlockData(String dataStr) {
+        try {
+            return Bukkit.createBlockData(dataStr);
+        } catch (IllegalArgumentException ex) {
+            plugin.getLogger().warning("[MxBlockRestoreService] Dropping invalid stored block data: " + ex.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * A restore waiting on the wheel.
+     */
+    private static final class PendingRestore {
+
+        private final UUID world;
+        private final long key;
+        private final Block block;
+        private final BlockData data;
+        private MxRestoreWheel.Entry<PendingRestore> entry;
+
+        PendingRestore(UUID world, long key, Block block, BlockData data) {
+            this.world = world;
+            this.key = key;
+            this.block = block;
+            this.data = data;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package nl.mxndarijn.mxlib.spawnprotection.spawn;
+
+/**
+ * The chat audience a player belongs to in {@link MxChatAudienceIndex}.
+ */
+public enum MxChatAudienceClass {
+
+    /** Not in a game; receives global spawn chat unless excluded by private map chat. */
+    SPAWN,
+
+    /** Playing in a game; chat is handled by the game event pipeline. */
+    IN_GAME,
+
+    /** Spectating a game; chat is handled by the game event pipeline. */
+    SPECTATOR
+}
@@ -0,0 +1,148 @@
+package nl.mxndarijn.mxlib.spawnprotection.spawn;
+
+import net.kyori.adventure.audience.Audience;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the recipients of spawn chat grouped per world and per {@link MxChatAudienceClass}, so a
+ * chat message is delivered with one {@link Audience} forward instead of filtering every online
+ * player through the {@link MxISpawnChatProvider}.
+ *
+ * <p>The index is a view of a {@link MxPlayerStateIndex}: it follows every snapshot the state index
+ * publishes and never reads or writes player state itself. A player's class follows the game
+ * membership of their snapshot, and they receive global chat unless their snapshot is
+ * {@linkplain MxPlayerState#isExcludedFromGlobalChat() excluded}. Report game changes through
+ * {@link MxPlayerStateIndex#setGameState} and preference changes through
+ * {@link MxPlayerStateIndex#refresh(Player)}; build the state index with the chat provider, or
+ * nobody is excluded from global chat.</p>
+ *
+ * <p>The recipient sets are concurrent and the audiences iterate them on every send, so the
+ * audiences returned here stay current and may be used from the async chat thread.</p>
+ */
+public final class MxChatAudienceIndex implements MxPlayerStateListener {
+
+    private final MxPlayerStateIndex states;
+
+    private final Set<Player> global = ConcurrentHashMap.newKeySet();
+    private final Map<UUID, Set<Player>> worlds = new ConcurrentHashMap<>();
+    private final Map<MxChatAudienceClass, Set<Player>> classes = new EnumMap<>(MxChatAudienceClass.class);
+    private final Map<MxChatAudienceClass, Audience> classAudiences = new EnumMap<>(MxChatAudienceClass.class);
+    private final Audience globalAudience;
+
+    /**
+     * Constructs a new {@code MxChatAudienceIndex}, indexes every player the state index already
+     * holds and follows its later snapshots. Must be called on the main thread.
+     *
+     * @param states the state index to derive the audiences from; must not be {@code null}
+     */
+    public MxChatAudienceIndex(MxPlayerStateIndex states) {
+        if (states == null) throw new IllegalArgumentException("states must not be null");
+        this.states = states;
+        for (MxChatAudienceClass audienceClass : MxChatAudienceClass.values()) {
+            Set<Player> set = ConcurrentHashMap.newKeySet();
+            classes.put(audienceClass, set);
+            classAudiences.put(audienceClass, Audience.audience(set));
+        }
+        globalAudience = Audience.audience(Audience.audience(global), Bukkit.getConsoleSender());
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            MxPlayerState state = states.get(player.getUniqueId());
+            if (state != null) stateChanged(player, null, state);
+        }
+        states.addListener(this);
+    }
+
+    /**
+     * Returns the state index the audiences are derived from.
+     *
+     * @return the state index; never {@code null}
+     */
+    public MxPlayerStateIndex getPlayerStates() {
+        return states;
+    }
+
+    /**
+     * Returns the audience of global spawn chat: every {@link MxChatAudienceClass#SPAWN} player
+     * not excluded by private map chat, plus the console.
+     *
+     * @return the audience; never {@code null}
+     */
+    public Audience getGlobalAudience() {
+        return globalAudience;
+    }
+
+    /**
+     * Returns the audience of all indexed players in the given world.
+     *
+     * @param worldUid the world UID; must not be {@code null}
+     * @return the audience; empty if nobody is in the world
+     */
+    public Audience getWorldAudience(UUID worldUid) {
+        Set<Player> players = worlds.get(worldUid);
+        return players == null ? Audience.empty() : Audience.audience(players);
+    }
+
+    /**
+     * Returns the audience of all players in the given class.
+     *
+     * @param audienceClass the class; must not be {@code null}
+     * @return the audience; never {@code null}
+     */
+    public Audience getClassAudience(MxChatAudienceClass audienceClass) {
+        return classAudiences.get(audienceClass);
+    }
+
+    /**
+     * Returns the class of an online player, derived from their latest snapshot.
+     *
+     * @param uuid the player UUID; must not be {@code null}
+     * @return the class, or {@code null} if the player is not indexed
+     */
+    public MxChatAudienceClass getAudienceClass(UUID uuid) {
+        MxPlayerState state = states.get(uuid);
+        return state == null ? null : classOf(state);
+    }
+
+    /**
+     * Moves a player between audiences to match their new snapshot.
+     *
+     * @param player   the player whose snapshot changed
+     * @param previous the previous snapshot, or {@code null} if the player was not indexed
+     * @param current  the new snapshot, or {@code null} if the player quit
+     */
+    @Override
+    public synchronized void stateChanged(Player player, MxPlayerState previous, MxPlayerState current) {
+        if (previous != null) {
+            classes.get(classOf(previous)).remove(player);
+            if (current == null || !current.getWorldUid().equals(previous.getWorldUid())) {
+                Set<Player> players = worlds.get(previous.getWorldUid());
+                if (players != null) {
+                    players.remove(player);
+                    if (players.isEmpty()) worlds.remove(previous.getWorldUid(), players);
+                }
+            }
+        }
+        if (current == null) {
+            global.remove(player);
+            return;
+        }
+        classes.get(classOf(current)).add(player);
+        worlds.computeIfAbsent(current.getWorldUid(), w -> ConcurrentHashMap.newKeySet()).add(player);
+        if (classOf(current) == MxChatAudienceClass.SPAWN && !current.isExcludedFromGlobalChat()) {
+            global.add(player);
+        } else {
+            global.remove(player);
+        }
+    }
+
+    private static MxChatAudienceClass classOf(MxPlayerState state) {
+        if (state.isSpectator()) return MxChatAudienceClass.SPECTATOR;
+        return state.isInGame() ? MxChatAudienceClass.IN_GAME : MxChatAudienceClass.SPAWN;
+    }
+}
@@ -8,6 +8,10 @@ import java.util.UUID;
  *
  * <p>Implement this interface with WIDM-specific logic and inject it into
  * {@link MxSpawnBukkitBridge} so that the bridge itself contains no WIDM references.</p>
+ *
+ * <p>The guard is called on Paper's async chat thread. Implementations that read main-thread game
+ * state should instead publish it through a {@link MxPlayerStateIndex}, which is itself a guard
+ * whose lookups are safe from any thread.</p>
  */
 @FunctionalInterface
 public interface MxISpawnChatGuard {
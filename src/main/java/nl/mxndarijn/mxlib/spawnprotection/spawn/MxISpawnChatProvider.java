@@ -13,6 +13,14 @@ import java.util.UUID;
  * <p>Implement this interface with WIDM-specific logic (language strings, map lookups,
  * host preferences, game-world checks) and inject it into {@link MxSpawnChatListener} so
  * that the listener itself contains no WIDM references.</p>
+ *
+ * <p>When the listener uses a {@link MxChatAudienceIndex}, the map lookups and preferences are
+ * read on the main thread by the underlying {@link MxPlayerStateIndex} and stored in its snapshots.
+ * Implementations must then report changes to the answers of {@link #hasPrivateMapChat(UUID)} and
+ * {@link #shouldExcludeFromGlobalBroadcast(Player)} through
+ * {@link MxPlayerStateIndex#refresh(Player)}, and game changes through
+ * {@link MxPlayerStateIndex#setGameState}. World changes, joins and quits are tracked by the
+ * state index itself.</p>
  */
 public interface MxISpawnChatProvider {
 
@@ -17,6 +17,10 @@ public interface MxISpawnProtectionProvider {
     /**
      * Returns whether the given player currently has spawn-modify mode active.
      *
+     * <p>Implementations that share a {@link MxModifyModeIndex} with {@link MxSpawnProtectionListener}
+     * must call {@link MxModifyModeIndex#enter(Player)} and {@link MxModifyModeIndex#leave(Player)}
+     * whenever they toggle modify mode; the listener then reads the index instead of this method.</p>
+     *
      * @param player the player to check; must not be {@code null}
      * @return {@code true} if the player is in modify mode
      */
@@ -0,0 +1,67 @@
+package nl.mxndarijn.mxlib.spawnprotection.spawn;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A named group of materials classified by {@link MxMaterialClassifier}, such as "openable" or
+ * "container".
+ *
+ * <p>The built-in categories are used by {@link MxSpawnProtectionListener}. Plugins can create
+ * their own with {@link #create(String)} and define them on a classifier. Categories compare by
+ * identity; keep the instance returned by {@link #create(String)} in a constant.</p>
+ */
+public final class MxMaterialCategory {
+
+    private static final AtomicInteger NEXT_ID = new AtomicInteger();
+
+    /** Flower pots, decorated pots and every potted plant. */
+    public static final MxMaterialCategory POTTED_PLANTS = new MxMaterialCategory("potted_plants");
+    /** Gates, doors and trapdoors that are restored after use; see {@link MxISpawnProtectionProvider#getOpenableBlocks()}. */
+    public static final MxMaterialCategory OPENABLES = new MxMaterialCategory("openables");
+    /** Blocks that open an inventory; see {@link MxISpawnProtectionProvider#getInventoryOpeningBlocks()}. */
+    public static final MxMaterialCategory CONTAINERS = new MxMaterialCategory("containers");
+    /** Blocks that are damaged by entities stepping or jumping on them. */
+    public static final MxMaterialCategory TRAMPLE_SENSITIVE = new MxMaterialCategory("trample_sensitive");
+
+    private final int id;
+    private final String name;
+
+    private MxMaterialCategory(String name) {
+        this.id = NEXT_ID.getAndIncrement();
+        this.name = name;
+    }
+
+    /**
+     * Creates a new category.
+     *
+     * @param name a descriptive name, used in {@link #toString()}; must not be {@code null}
+     * @return the category; never {@code null}
+     */
+    public static MxMaterialCategory create(String name) {
+        if (name == null) throw new IllegalArgumentException("name must not be null");
+        return new MxMaterialCategory(name);
+    }
+
+    /**
+     * Returns the index of this category in a classifier's table array.
+     *
+     * @return the id
+     */
+    int id() {
+        return id;
+    }
+
+    /**
+     * Returns the name of this category.
+     *
+     * @return the name; never {@code null}
+     */
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String toString() {
+        return "MxMaterialCategory[" + name + "]";
+    }
+}
@@ -0,0 +1,177 @@
+package nl.mxndarijn.mxlib.spawnprotection.spawn;
+
+import nl.mxndarijn.mxlib.util.MxMaterialSet;
+import org.bukkit.Material;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Classifies {@link Material}s into {@link MxMaterialCategory categories} using precomputed
+ * {@link MxMaterialSet} bitsets, so checking whether a block belongs to a category is a single
+ * bitset probe instead of a name comparison or a hash-set lookup.
+ *
+ * <p>Each category is defined by a rule (a predicate evaluated once per material) plus optional
+ * per-material overrides. The built-in categories are defined on construction; openables and
+ * containers take their members from the {@link MxISpawnProtectionProvider} sets at that moment.
+ * Call {@link #recompute()} if those sets change later.</p>
+ *
+ * <p>Definitions and overrides are meant to be made on the main thread during startup. Lookups
+ * may be made from any thread and always see a complete table.</p>
+ */
+public final class MxMaterialClassifier {
+
+    /** Tables indexed by {@link MxMaterialCategory#id()}; replaced as a whole on every change. */
+    private volatile MxMaterialSet[] tables = new MxMaterialSet[0];
+
+    /** Rule factories per category; each is called once per computation of its table. */
+    private final Map<MxMaterialCategory, Supplier<Predicate<Material>>> rules = new LinkedHashMap<>();
+    private final Map<MxMaterialCategory, Map<Material, Boolean>> overrides = new HashMap<>();
+
+    /**
+     * Constructs a classifier with the built-in categories defined.
+     *
+     * @param provider the provider whose openable and inventory-opening block sets back
+     *                 {@link MxMaterialCategory#OPENABLES} and {@link MxMaterialCategory#CONTAINERS};
+     *                 must not be {@code null}
+     */
+    public MxMaterialClassifier(MxISpawnProtectionProvider provider) {
+        if (provider == null) throw new IllegalArgumentException("provider must not be null");
+        define(MxMaterialCategory.POTTED_PLANTS, m -> m == Material.FLOWER_POT || m == Material.DECORATED_POT
+                || m.name().startsWith("POTTED_"));
+        // read each provider set once per computation, not once per material
+        defineSupplied(MxMaterialCategory.OPENABLES, () -> {
+            Set<Material> openables = provider.getOpenableBlocks();
+            return openables::contains;
+        });
+        defineSupplied(MxMaterialCategory.CONTAINERS, () -> {
+            Set<Material> containers = provider.getInventoryOpeningBlocks();
+            return containers::contains;
+        });
+        define(MxMaterialCategory.TRAMPLE_SENSITIVE, m -> m == Material.FARMLAND || m == Material.TURTLE_EGG);
+    }
+
+    /**
+     * Defines or redefines a category and computes its table. Overrides already made for the
+     * category are kept.
+     *
+     * @param category the category; must not be {@code null}
+     * @param rule     decides membership; evaluated once per material; must not be {@code null}
+     */
+    public synchronized void define(MxMaterialCategory category, Predicate<Material> rule) {
+        if (rule == null) throw new IllegalArgumentException("rule must not be null");
+        defineSupplied(category, () -> rule);
+    }
+
+    /**
+     * Defines or redefines a category whose rule is created anew for every computation of its
+     * table, so state the rule depends on is read once per computation instead of once per material.
+     */
+    private synchronized void defineSupplied(MxMaterialCategory category, Supplier<Predicate<Material>> rule) {
+        if (category == null) throw new IllegalArgumentException("category must not be null");
+        rules.put(category, rule);
+        publish(category, compute(category));
+    }
+
+    /**
+     * Forces a material into or out of a category, regardless of the category's rule.
+     *
+     * @param category the category; must be defined
+     * @param material the material; must not be {@code null}
+     * @param member   whether the material belongs to the category
+     * @throws IllegalArgumentException if the category is not defined
+     */
+    public synchronized void override(MxMaterialCategory category, Material material, boolean member) {
+        if (material == null) throw new IllegalArgumentException("material must not be null");
+        requireDefined(category);
+        overrides.computeIfAbsent(category, c -> new EnumMap<>(Material.class)).put(material, member);
+        publish(category, get(category).with(material, member));
+    }
+
+    /**
+     * Removes all overrides of a category and recomputes it from its rule.
+     *
+     * @param category the category; must be defined
+     * @throws IllegalArgumentException if the category is not defined
+     */
+    public synchronized void clearOverrides(MxMaterialCategory category) {
+        requireDefined(category);
+        overrides.remove(category);
+        publish(category, compute(category));
+    }
+
+    /**
+     * Recomputes every category from its rule and overrides, e.g. after the provider's block
+     * sets were reloaded.
+     */
+    public synchronized void recompute() {
+        for (MxMaterialCategory category : rules.keySet()) {
+            publish(category, compute(category));
+        }
+    }
+
+    /**
+     * Returns whether a material belongs to a category. Undefined categories contain nothing.
+     *
+     * @param category the category; must not be {@code null}
+     * @param material the material; {@code null} belongs to no category
+     * @return {@code true} if the material is in the category
+     */
+    public boolean is(MxMaterialCategory category, Material material) {
+        MxMaterialSet[] t = tables;
+        int id = category.id();
+        return id < t.length && t[id] != null && t[id].contains(material);
+    }
+
+    /**
+     * Returns the table of a category.
+     *
+     * @param category the category; must not be {@code null}
+     * @return the materials in the category; empty if it is not defined
+     */
+    public MxMaterialSet get(MxMaterialCategory category) {
+        MxMaterialSet[] t = tables;
+        int id = category.id();
+        return id < t.length && t[id] != null ? t[id] : MxMaterialSet.empty();
+    }
+
+    /**
+     * Returns the defined category with the given name, e.g. to resolve a category named in a
+     * config file. Names are compared ignoring case.
+     *
+     * @param name the category name; must not be {@code null}
+     * @return the category, or {@code null} if no category with that name is defined
+     */
+    public synchronized MxMaterialCategory find(String name) {
+        if (name == null) throw new IllegalArgumentException("name must not be null");
+        for (MxMaterialCategory category : rules.keySet()) {
+            if (category.getName().equalsIgnoreCase(name)) return category;
+        }
+        return null;
+    }
+
+    private MxMaterialSet compute(MxMaterialCategory category) {
+        Predicate<Material> rule = rules.get(category).get();
+        Map<Material, Boolean> forced = overrides.getOrDefault(category, Map.of());
+        return MxMaterialSet.of(m -> forced.getOrDefault(m, rule.test(m)));
+    }
+
+    private void publish(MxMaterialCategory category, MxMaterialSet table) {
+        MxMaterialSet[] t = tables;
+        int id = category.id();
+        MxMaterialSet[] copy = Arrays.copyOf(t, Math.max(t.length, id + 1));
+        copy[id] = table;
+        tables = copy;
+    }
+
+    private void requireDefined(MxMaterialCategory category) {
+        if (category == null) throw new IllegalArgumentException("category must not be null");
+        if (!rules.containsKey(category)) throw new IllegalArgumentException(category + " is not defined");
+    }
+}
@@ -0,0 +1,162 @@
+package nl.mxndarijn.mxlib.spawnprotection.spawn;
+
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Event-driven index of the players that have spawn-modify mode active, and of how many of them
+ * are in each world.
+ *
+ * <p>{@link MxISpawnProtectionProvider} implementations call {@link #enter(Player)} and
+ * {@link #leave(Player)} whenever they toggle a player's modify mode; the index follows those
+ * players across worlds, quits and rejoins through its own Bukkit listener. Handed to
+ * {@link MxSpawnProtectionListener}, it turns every modify-mode check into a map lookup and the
+ * "anyone in modify mode in this world?" check for entity spawns into a single counter read.</p>
+ *
+ * <p>Updates must be made on the main thread. Lookups may be made from any thread.</p>
+ */
+public final class MxModifyModeIndex implements Listener {
+
+    /** World UID recorded for modify-mode players that are offline. */
+    private static final UUID OFFLINE = new UUID(0L, 0L);
+
+    /** Modify-mode players mapped to the UID of the world they are in, or {@link #OFFLINE}. */
+    private final Map<UUID, UUID> players = new ConcurrentHashMap<>();
+    /** Number of online modify-mode players per world UID. */
+    private final Map<UUID, AtomicInteger> worldCounts = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a new {@code MxModifyModeIndex} and registers its world-change, join and quit
+     * listener. Must be called on the main thread.
+     *
+     * @param plugin the plugin to register the listener for; must not be {@code null}
+     */
+    public MxModifyModeIndex(JavaPlugin plugin) {
+        if (plugin == null) throw new IllegalArgumentException("plugin must not be null");
+        plugin.getServer().getPluginManager().registerEvents(this, plugin);
+    }
+
+    /**
+     * Records that the given player turned on modify mode. Does nothing if it already was on.
+     *
+     * @param player the player; must not be {@code null}
+     */
+    public void enter(Player player) {
+        if (player == null) throw new IllegalArgumentException("player must not be null");
+        UUID world = player.getWorld().getUID();
+        if (players.putIfAbsent(player.getUniqueId(), world) == null) increment(world);
+    }
+
+    /**
+     * Records that the given player turned off modify mode. Does nothing if it was not on.
+     *
+     * @param player the player; must not be {@code null}
+     */
+    public void leave(Player player) {
+        if (player == null) throw new IllegalArgumentException("player must not be null");
+        leave(player.getUniqueId());
+    }
+
+    /**
+     * Records that the player with the given UUID turned off modify mode, online or not.
+     *
+     * @param playerId the player's UUID; must not be {@code null}
+     */
+    public void leave(UUID playerId) {
+        if (playerId == null) throw new IllegalArgumentException("playerId must not be null");
+        UUID world = players.remove(playerId);
+        if (world != null) decrement(world);
+    }
+
+    /**
+     * Returns whether the given player has modify mode active.
+     *
+     * @param player the player; must not be {@code null}
+     * @return {@code true} if the player is in modify mode
+     */
+    public boolean isInModifyMode(Player player) {
+        return players.containsKey(player.getUniqueId());
+    }
+
+    /**
+     * Returns whether at least one online player in the given world has modify mode active.
+     *
+     * @param world the world; must not be {@code null}
+     * @return {@code true} if any player in the world is in modify mode
+     */
+    public boolean hasModifyPlayers(World world) {
+        return getModifyPlayerCount(world) > 0;
+    }
+
+    /**
+     * Returns the number of online players in the given world with modify mode active.
+     *
+     * @param world the world; must not be {@code null}
+     * @return the count
+     */
+    public int getModifyPlayerCount(World world) {
+        AtomicInteger count = worldCounts.get(world.getUID());
+        return count == null ? 0 : count.get();
+    }
+
+    /**
+     * Moves a modify-mode player's count to the world they changed to.
+     *
+     * @param e the world change event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onWorldChange(PlayerChangedWorldEvent e) {
+        move(e.getPlayer().getUniqueId(), e.getPlayer().getWorld().getUID());
+    }
+
+    /**
+     * Counts a modify-mode player again once they rejoin.
+     *
+     * @param e the join event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onJoin(PlayerJoinEvent e) {
+        move(e.getPlayer().getUniqueId(), e.getPlayer().getWorld().getUID());
+    }
+
+    /**
+     * Stops counting a modify-mode player while they are offline; they keep modify mode.
+     *
+     * @param e the quit event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent e) {
+        move(e.getPlayer().getUniqueId(), OFFLINE);
+    }
+
+    private void move(UUID playerId, UUID world) {
+        UUID old = players.get(playerId);
+        if (old == null || old.equals(world)) return;
+        players.put(playerId, world);
+        decrement(old);
+        increment(world);
+    }
+
+    private void increment(UUID world) {
+        if (world.equals(OFFLINE)) return;
+        worldCounts.computeIfAbsent(world, w -> new AtomicInteger()).incrementAndGet();
+    }
+
+    private void decrement(UUID world) {
+        if (world.equals(OFFLINE)) return;
+        AtomicInteger count = worldCounts.get(world);
+        if (count != null && count.decrementAndGet() <= 0) worldCounts.remove(world, count);
+    }
+}
@@ -0,0 +1,66 @@
+package nl.mxndarijn.mxlib.spawnprotection.spawn;
+
+import org.bukkit.event.player.PlayerMoveEvent;
+
+/**
+ * Decides which Bukkit {@link PlayerMoveEvent}s {@link MxSpawnBukkitBridge} forwards to the bus.
+ *
+ * <p>Paper fires a move event for every position or rotation packet, so most of them are head
+ * turns or sub-block steps that spawn handlers do not care about. Events rejected by the filter are
+ * dropped before a wrapper event is built and counted in
+ * {@link MxSpawnBukkitBridge#getFilteredMoveEvents()}.</p>
+ */
+public enum MxMoveFilter {
+
+    /** Forwards every move event, including pure head rotations. */
+    ALL {
+        @Override
+        boolean accepts(PlayerMoveEvent event, double voidY) {
+            return true;
+        }
+    },
+
+    /** Drops pure head rotations; forwards any change of position. */
+    ROTATION_IGNORED {
+        @Override
+        boolean accepts(PlayerMoveEvent event, double voidY) {
+            return event.hasChangedPosition();
+        }
+    },
+
+    /** Forwards only moves that enter a different block. */
+    BLOCK_CHANGE {
+        @Override
+        boolean accepts(PlayerMoveEvent event, double voidY) {
+            return event.hasChangedBlock();
+        }
+    },
+
+    /** Forwards only moves that end below the void threshold; enough for void rescue alone. */
+    BELOW_Y {
+        @Override
+        boolean accepts(PlayerMoveEvent event, double voidY) {
+            return event.getTo().getY() < voidY;
+        }
+    },
+
+    /**
+     * Forwards nothing. Use with {@link MxSpawnVoidSweeper}, which rescues players on a fixed
+     * interval instead; the bridge keeps counting the dropped events.
+     */
+    NONE {
+        @Override
+        boolean accepts(PlayerMoveEvent event, double voidY) {
+            return false;
+        }
+    };
+
+    /**
+     * Returns whether the event should be forwarded to the bus.
+     *
+     * @param event the Bukkit event
+     * @param voidY the void threshold used by {@link #BELOW_Y}
+     * @return {@code true} to forward the event
+     */
+    abstract boolean accepts(PlayerMoveEvent event, double voidY);
+}
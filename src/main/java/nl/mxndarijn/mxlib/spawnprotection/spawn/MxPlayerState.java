@@ -0,0 +1,153 @@
+package nl.mxndarijn.mxlib.spawnprotection.spawn;
+
+import nl.mxndarijn.mxlib.mxeventbus.global.MxWorldType;
+
+import java.util.UUID;
+
+/**
+ * Immutable snapshot of the facts about one player that the async chat pipeline needs: the world
+ * they are in, its {@link MxWorldType}, whether they are in a game or spectating one, and how their
+ * spawn chat is routed.
+ *
+ * <p>Instances are published by {@link MxPlayerStateIndex} on the main thread and replaced as a
+ * whole on every change, so a reader always sees the fields of one consistent moment.</p>
+ */
+public final class MxPlayerState {
+
+    private final UUID worldUid;
+    private final MxWorldType worldType;
+    private final boolean inGame;
+    private final boolean spectator;
+    private final boolean privateMapChat;
+    private final boolean excludedFromGlobalChat;
+
+    /**
+     * Constructs a new {@code MxPlayerState} whose chat is routed globally.
+     *
+     * @param worldUid  the UID of the player's world; must not be {@code null}
+     * @param worldType the type of the player's world; must not be {@code null}
+     * @param inGame    whether the player is in a game, including as a spectator
+     * @param spectator whether the player is spectating a game; implies {@code inGame}
+     */
+    public MxPlayerState(UUID worldUid, MxWorldType worldType, boolean inGame, boolean spectator) {
+        this(worldUid, worldType, inGame, spectator, false, false);
+    }
+
+    /**
+     * Constructs a new {@code MxPlayerState}.
+     *
+     * @param worldUid               the UID of the player's world; must not be {@code null}
+     * @param worldType              the type of the player's world; must not be {@code null}
+     * @param inGame                 whether the player is in a game, including as a spectator
+     * @param spectator              whether the player is spectating a game; implies {@code inGame}
+     * @param privateMapChat         whether the player's chat is scoped to their map world
+     * @param excludedFromGlobalChat whether the player does not receive global spawn chat
+     */
+    public MxPlayerState(UUID worldUid, MxWorldType worldType, boolean inGame, boolean spectator,
+                         boolean privateMapChat, boolean excludedFromGlobalChat) {
+        if (worldUid == null)  throw new IllegalArgumentException("worldUid must not be null");
+        if (worldType == null) throw new IllegalArgumentException("worldType must not be null");
+        this.worldUid = worldUid;
+        this.worldType = worldType;
+        this.inGame = inGame || spectator;
+        this.spectator = spectator;
+        this.privateMapChat = privateMapChat;
+        this.excludedFromGlobalChat = excludedFromGlobalChat;
+    }
+
+    /**
+     * Returns the UID of the world the player was in when this snapshot was taken.
+     *
+     * @return the world UID; never {@code null}
+     */
+    public UUID getWorldUid() {
+        return worldUid;
+    }
+
+    /**
+     * Returns the type of the player's world.
+     *
+     * @return the world type; never {@code null}
+     */
+    public MxWorldType getWorldType() {
+        return worldType;
+    }
+
+    /**
+     * Returns whether the player is in a game, including as a spectator.
+     *
+     * @return {@code true} if the player is in a game
+     */
+    public boolean isInGame() {
+        return inGame;
+    }
+
+    /**
+     * Returns whether the player is spectating a game.
+     *
+     * @return {@code true} if the player is a spectator
+     */
+    public boolean isSpectator() {
+        return spectator;
+    }
+
+    /**
+     * Returns whether the player is in a map world with private map chat enabled, so their chat is
+     * only delivered to players in the same world.
+     *
+     * @return {@code true} if the player's chat is scoped to their map world
+     */
+    public boolean hasPrivateMapChat() {
+        return privateMapChat;
+    }
+
+    /**
+     * Returns whether the player is left out of global spawn chat, e.g. because they are in a map
+     * world with private map chat.
+     *
+     * @return {@code true} if the player does not receive global spawn chat
+     */
+    public boolean isExcludedFromGlobalChat() {
+        return excludedFromGlobalChat;
+    }
+
+    /**
+     * Returns a copy of this snapshot in another world.
+     *
+     * @param worldUid  the new world UID; must not be {@code null}
+     * @param worldType the new world type; must not be {@code null}
+     * @return the new snapshot; never {@code null}
+     */
+    public MxPlayerState withWorld(UUID worldUid, MxWorldType worldType) {
+        return new MxPlayerState(worldUid, worldType, inGame, spectator, privateMapChat, excludedFromGlobalChat);
+    }
+
+    /**
+     * Returns a copy of this snapshot with another game membership.
+     *
+     * @param inGame    whether the player is in a game
+     * @param spectator whether the player is spectating a game
+     * @return the new snapshot; never {@code null}
+     */
+    public MxPlayerState withGame(boolean inGame, boolean spectator) {
+        return new MxPlayerState(worldUid, worldType, inGame, spectator, privateMapChat, excludedFromGlobalChat);
+    }
+
+    /**
+     * Returns a copy of this snapshot with other chat routing.
+     *
+     * @param privateMapChat         whether the player's chat is scoped to their map world
+     * @param excludedFromGlobalChat whether the player does not receive global spawn chat
+     * @return the new snapshot; never {@code null}
+     */
+    public MxPlayerState withChat(boolean privateMapChat, boolean excludedFromGlobalChat) {
+        return new MxPlayerState(worldUid, worldType, inGame, spectator, privateMapChat, excludedFromGlobalChat);
+    }
+
+    @Override
+    public String toString() {
+        return "MxPlayerState{world=" + worldUid + ", type=" + worldType
+                + ", inGame=" + inGame + ", spectator=" + spectator
+                + ", privateMapChat=" + privateMapChat + ", excludedFromGlobalChat=" + excludedFromGlobalChat + '}';
+    }
+}
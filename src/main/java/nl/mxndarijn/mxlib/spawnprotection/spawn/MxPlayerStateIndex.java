@@ -0,0 +1,293 @@
+package nl.mxndarijn.mxlib.spawnprotection.spawn;
+
+import nl.mxndarijn.mxlib.mxeventbus.global.MxWorldType;
+import nl.mxndarijn.mxlib.spawnprotection.events.base.MxSpawnEventRegistry;
+import nl.mxndarijn.mxlib.spawnprotection.events.base.MxWorldTypeCache;
+import nl.mxndarijn.mxlib.spawnprotection.events.base.MxWorldTypeListener;
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Main-thread owned index of one {@link MxPlayerState} per online player, readable without locks
+ * from the async chat thread.
+ *
+ * <p>Async chat must not read Bukkit world state or plugin game state, both of which belong to the
+ * main thread. The index captures those facts on the main thread whenever they change (join, quit
+ * and world change through its own Bukkit listener, game changes through
+ * {@link #setGameState(Player, boolean, boolean)}) and publishes them as immutable snapshots. A
+ * lookup is a single {@link ConcurrentHashMap} read that always returns one complete snapshot.</p>
+ *
+ * <p>The index is the single writer of per-player state. Views derived from it, such as
+ * {@link MxChatAudienceIndex}, follow every published snapshot through
+ * {@link #addListener(MxPlayerStateListener)} instead of tracking players themselves.</p>
+ *
+ * <p>The index is itself an {@link MxISpawnChatGuard}; hand it to
+ * {@link MxSpawnBukkitBridge#MxSpawnBukkitBridge(nl.mxndarijn.mxlib.mxeventbus.global.MxGlobalEventBus, MxISpawnChatGuard, MxPlayerStateIndex)}
+ * so the chat bridge neither calls {@link Player#getWorld()} nor runs the world-type resolver off
+ * the main thread:</p>
+ * <pre>{@code
+ * MxPlayerStateIndex states = new MxPlayerStateIndex(plugin, gameGuard, chatProvider);
+ * new MxSpawnBukkitBridge(bus, states, states).enable(plugin);
+ * }</pre>
+ *
+ * <p>World types are read from {@link MxSpawnEventRegistry#getWorldTypeResolver()} when a player
+ * enters a world. When that resolver is a {@link MxWorldTypeCache}, add the index as one of its
+ * listeners so {@link MxWorldTypeCache#reclassify(World)} also updates the players in that world:</p>
+ * <pre>{@code
+ * worldTypes.addListener(states);
+ * }</pre>
+ *
+ * <p>Without a cache, call {@link #reclassify(World)} after a world's type changed. All updates
+ * must be made on the main thread.</p>
+ */
+public final class MxPlayerStateIndex implements MxISpawnChatGuard, MxWorldTypeListener, Listener {
+
+    private final MxISpawnChatGuard gameState;
+    private final MxISpawnChatProvider chat;
+    private final Map<UUID, MxPlayerState> states = new ConcurrentHashMap<>();
+
+    /** Notified on the main thread after every published snapshot; see {@link #addListener}. */
+    private final List<MxPlayerStateListener> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Constructs a new {@code MxPlayerStateIndex} whose snapshots route all chat globally.
+     * See {@link #MxPlayerStateIndex(JavaPlugin, MxISpawnChatGuard, MxISpawnChatProvider)}.
+     *
+     * @param plugin    the plugin to register the listener for; must not be {@code null}
+     * @param gameState the main-thread guard that tells whether a player is in a game; must not be
+     *                  {@code null}
+     */
+    public MxPlayerStateIndex(JavaPlugin plugin, MxISpawnChatGuard gameState) {
+        this(plugin, gameState, null);
+    }
+
+    /**
+     * Constructs a new {@code MxPlayerStateIndex}, registers its join, quit and world-change
+     * listener and captures every player already online. Must be called on the main thread.
+     *
+     * @param plugin    the plugin to register the listener for; must not be {@code null}
+     * @param gameState the main-thread guard that tells whether a player is in a game; consulted
+     *                  only on the main thread, on join and {@link #refresh(Player)}; must not be
+     *                  {@code null}
+     * @param chat      the chat provider whose map lookups and preferences decide the chat routing
+     *                  of a snapshot; consulted only on the main thread, whenever a player is
+     *                  captured or changes world; {@code null} to route all chat globally
+     */
+    public MxPlayerStateIndex(JavaPlugin plugin, MxISpawnChatGuard gameState, MxISpawnChatProvider chat) {
+        this(gameState, chat);
+        if (plugin == null) throw new IllegalArgumentException("plugin must not be null");
+        plugin.getServer().getPluginManager().registerEvents(this, plugin);
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            capture(player);
+        }
+    }
+
+    /**
+     * Constructs an empty index that is not registered with Bukkit; players are added through
+     * {@link #capture(Player)}.
+     *
+     * @param gameState the main-thread guard that tells whether a player is in a game; must not be
+     *                  {@code null}
+     * @param chat      the chat provider deciding chat routing, or {@code null} to route all chat
+     *                  globally
+     */
+    MxPlayerStateIndex(MxISpawnChatGuard gameState, MxISpawnChatProvider chat) {
+        if (gameState == null) throw new IllegalArgumentException("gameState must not be null");
+        this.gameState = gameState;
+        this.chat = chat;
+    }
+
+    /**
+     * Returns the latest snapshot of a player. Safe to call from any thread.
+     *
+     * @param uuid the player UUID; must not be {@code null}
+     * @return the snapshot, or {@code null} if the player is not online
+     */
+    public MxPlayerState get(UUID uuid) {
+        return states.get(uuid);
+    }
+
+    /**
+     * Returns whether the player is in a game according to the latest snapshot. Safe to call from
+     * any thread.
+     *
+     * @param uuid the player UUID; must not be {@code null}
+     * @return {@code true} if the player is in a game or spectating one; {@code false} if not, or
+     *         if the player is not online
+     */
+    @Override
+    public boolean isPlayerInGame(UUID uuid) {
+        MxPlayerState state = states.get(uuid);
+        return state != null && state.isInGame();
+    }
+
+    /**
+     * Adds a listener notified after every published snapshot. Main thread only.
+     *
+     * @param listener the listener; must not be {@code null}
+     */
+    public void addListener(MxPlayerStateListener listener) {
+        if (listener == null) throw new IllegalArgumentException("listener must not be null");
+        listeners.add(listener);
+    }
+
+    /**
+     * Removes a listener added with {@link #addListener}.
+     *
+     * @param listener the listener to remove
+     */
+    public void removeListener(MxPlayerStateListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Publishes a player's game membership, e.g. when they join, leave or start spectating a game.
+     * Does nothing if the player is not online. Must be called on the main thread.
+     *
+     * @param player    the player; must not be {@code null}
+     * @param inGame    whether the player is in a game
+     * @param spectator whether the player is spectating a game; implies {@code inGame}
+     */
+    public void setGameState(Player player, boolean inGame, boolean spectator) {
+        if (player == null) throw new IllegalArgumentException("player must not be null");
+        MxPlayerState state = states.get(player.getUniqueId());
+        if (state == null) return;
+        publish(player, state.withGame(inGame, spectator));
+    }
+
+    /**
+     * Captures a player's world, game membership and chat routing again, e.g. after their private
+     * map chat preference changed. The spectator flag is kept while the game guard still reports
+     * the player in a game. Must be called on the main thread.
+     *
+     * @param player the player; must not be {@code null}
+     */
+    public void refresh(Player player) {
+        if (player == null) throw new IllegalArgumentException("player must not be null");
+        if (!states.containsKey(player.getUniqueId())) return;
+        capture(player);
+    }
+
+    /**
+     * Re-reads the world type and chat routing of every player in the given world, e.g. after the
+     * world was registered as a map. Not needed when the index listens to a
+     * {@link MxWorldTypeCache} that is reclassified instead. Must be called on the main thread.
+     *
+     * @param world the world whose type changed; must not be {@code null}
+     */
+    public void reclassify(World world) {
+        if (world == null) throw new IllegalArgumentException("world must not be null");
+        reclassify(world, worldTypeOf(world));
+    }
+
+    /**
+     * Publishes the world type the cache just resolved, and the chat routing, for every player in
+     * the reclassified world. Called by {@link MxWorldTypeCache} on the main thread.
+     *
+     * @param world    the reclassified world
+     * @param previous the previously cached world type, or {@code null}
+     * @param current  the new world type
+     */
+    @Override
+    public void worldTypeChanged(World world, MxWorldType previous, MxWorldType current) {
+        reclassify(world, current);
+    }
+
+    private void reclassify(World world, MxWorldType worldType) {
+        UUID worldUid = world.getUID();
+        for (Player player : world.getPlayers()) {
+            MxPlayerState state = states.get(player.getUniqueId());
+            if (state == null) continue;
+            publish(player, withChat(player, world, state.withWorld(worldUid, worldType)));
+        }
+    }
+
+    /**
+     * Captures a player as soon as they join.
+     *
+     * @param e the join event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onJoin(PlayerJoinEvent e) {
+        capture(e.getPlayer());
+    }
+
+    /**
+     * Drops a player's snapshot when they quit.
+     *
+     * @param e the quit event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent e) {
+        publish(e.getPlayer(), null);
+    }
+
+    /**
+     * Publishes a player's new world and its chat routing.
+     *
+     * @param e the world change event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onWorldChange(PlayerChangedWorldEvent e) {
+        Player player = e.getPlayer();
+        MxPlayerState state = states.get(player.getUniqueId());
+        if (state == null) return;
+        World world = player.getWorld();
+        publish(player, withChat(player, world, state.withWorld(world.getUID(), worldTypeOf(world))));
+    }
+
+    /**
+     * Captures a player's world, game membership and chat routing and publishes the snapshot.
+     * Main thread only.
+     *
+     * @param player the player
+     */
+    void capture(Player player) {
+        World world = player.getWorld();
+        boolean inGame = gameState.isPlayerInGame(player.getUniqueId());
+        MxPlayerState previous = states.get(player.getUniqueId());
+        boolean spectator = inGame && previous != null && previous.isSpectator();
+        publish(player, withChat(player, world, new MxPlayerState(world.getUID(), worldTypeOf(world), inGame, spectator)));
+    }
+
+    /**
+     * Returns the state with the chat routing the provider reports for the player in the world.
+     */
+    private MxPlayerState withChat(Player player, World world, MxPlayerState state) {
+        if (chat == null) return state;
+        boolean privateMapChat = chat.getMapWorldUid(world).isPresent() && chat.hasPrivateMapChat(player.getUniqueId());
+        return state.withChat(privateMapChat, chat.shouldExcludeFromGlobalBroadcast(player));
+    }
+
+    /**
+     * Replaces the player's snapshot, or drops it if {@code state} is {@code null}, and notifies
+     * the listeners.
+     */
+    private void publish(Player player, MxPlayerState state) {
+        MxPlayerState previous = state == null
+                ? states.remove(player.getUniqueId())
+                : states.put(player.getUniqueId(), state);
+        if (previous == null && state == null) return;
+        for (MxPlayerStateListener listener : listeners) {
+            listener.stateChanged(player, previous, state);
+        }
+    }
+
+    private static MxWorldType worldTypeOf(World world) {
+        return MxSpawnEventRegistry.getWorldTypeResolver().resolve(world);
+    }
+}
@@ -0,0 +1,26 @@
+package nl.mxndarijn.mxlib.spawnprotection.spawn;
+
+import org.bukkit.entity.Player;
+
+/**
+ * Callback notified by {@link MxPlayerStateIndex} whenever it publishes a new snapshot of a player.
+ *
+ * <p>Use it to keep views derived from player state, such as the chat audiences of
+ * {@link MxChatAudienceIndex}, in step with the index instead of tracking joins, quits, world
+ * changes and game changes separately. It runs on the main thread, right after the snapshot was
+ * published.</p>
+ *
+ * @see MxPlayerStateIndex#addListener(MxPlayerStateListener)
+ */
+@FunctionalInterface
+public interface MxPlayerStateListener {
+
+    /**
+     * Called once per published snapshot.
+     *
+     * @param player   the player whose snapshot changed; never {@code null}
+     * @param previous the previous snapshot, or {@code null} if the player was not indexed
+     * @param current  the new snapshot, or {@code null} if the player quit
+     */
+    void stateChanged(Player player, MxPlayerState previous, MxPlayerState current);
+}
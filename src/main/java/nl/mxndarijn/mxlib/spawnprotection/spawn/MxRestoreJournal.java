@@ -0,0 +1,428 @@
+package nl.mxndarijn.mxlib.spawnprotection.spawn;
+
+import nl.mxndarijn.mxlib.util.MxLongObjectMap;
+import org.bukkit.block.data.BlockData;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only, crash-safe journal of pending block restores, used by {@link MxBlockRestoreService}.
+ *
+ * <p>Callers on the main thread only enqueue {@link #put} and {@link #remove} records; a single
+ * background writer thread appends them to the file in batches, fsyncs at most once per
+ * configured interval, and periodically compacts the file down to one record per live entry.</p>
+ *
+ * <p>Records use the same keyspace as the service: a world UID plus a packed
+ * {@link nl.mxndarijn.mxlib.util.MxBlockPos} key. {@link BlockData} is only serialized to its
+ * string form on the writer thread.</p>
+ *
+ * <p>On disk the journal is a 5-byte header followed by frames of
+ * {@code [int length][payload][int crc32(payload)]}, where the payload is
+ * {@code [byte op][long uidMost][long uidLeast][long blockKey]} plus {@code [utf blockData]} for puts. {@link #open()} replays the longest valid
+ * prefix and truncates everything after it, so a frame torn by a crash mid-write is dropped
+ * instead of corrupting later appends. A file whose header is not recognised is left untouched
+ * and {@link #open()} fails. Compaction writes a fresh file next to the journal and
+ * atomically moves it into place, so a crash mid-compaction leaves the old journal intact.</p>
+ *
+ * <p>Records queued while the journal is not open are dropped, so a journal that failed to open
+ * simply persists nothing.</p>
+ */
+final class MxRestoreJournal {
+
+    private static final int MAGIC = 0x4D58524A; // "MXRJ"
+    private static final byte VERSION = 1;
+    private static final int HEADER_LENGTH = 5;
+    private static final int MAX_PAYLOAD = 1 << 16;
+
+    private static final byte OP_PUT = 1;
+    private static final byte OP_REMOVE = 2;
+
+    /** Stops the writer thread once every record queued before it has been written. */
+    private static final Record SHUTDOWN = new Record(OP_REMOVE, new UUID(0, 0), 0, null);
+
+    private final File file;
+    private final File compactFile;
+    private final long fsyncIntervalMillis;
+    private final long compactIntervalMillis;
+    private final Logger logger;
+    private final BlockingQueue<Record> queue = new LinkedBlockingQueue<>();
+
+    /** Live entries as seen by the writer; only touched by the writer thread after {@link #open()}. */
+    private final Map<UUID, MxLongObjectMap<String>> live = new HashMap<>();
+    private int liveCount;
+
+    private FileOutputStream fileOut;
+    private DataOutputStream out;
+    private Thread writer;
+
+    /** Whether {@link #put} and {@link #remove} queue records; set once {@link #open()} succeeded. */
+    private volatile boolean accepting;
+
+    /** Frames in the file; compaction is due once this exceeds the live entries. Writer thread only. */
+    private long frames;
+
+    /**
+     * Constructs a new {@code MxRestoreJournal}. Nothing is read or written until {@link #open()}.
+     *
+     * @param file                  the journal file; must not be {@code null}
+     * @param fsyncIntervalMillis   the maximum time written records may wait for an fsync; must be positive
+     * @param compactIntervalMillis the minimum time between compactions; must be positive
+     * @param logger                the logger for I/O failures; must not be {@code null}
+     */
+    MxRestoreJournal(File file, long fsyncIntervalMillis, long compactIntervalMillis, Logger logger) {
+        if (file == null)               throw new IllegalArgumentException("file must not be null");
+        if (fsyncIntervalMillis <= 0)   throw new IllegalArgumentException("fsyncIntervalMillis must be positive");
+        if (compactIntervalMillis <= 0) throw new IllegalArgumentException("compactIntervalMillis must be positive");
+        if (logger == null)             throw new IllegalArgumentException("logger must not be null");
+        this.file = file;
+        this.compactFile = new File(file.getParentFile(), file.getName() + ".compact");
+        this.fsyncIntervalMillis = fsyncIntervalMillis;
+        this.compactIntervalMillis = compactIntervalMillis;
+        this.logger = logger;
+    }
+
+    /**
+     * Replays the journal, rewrites it compacted and starts the background writer.
+     *
+     * @return the entries that were pending when the journal was last written
+     * @throws IOException if the journal cannot be read or rewritten
+     */
+    synchronized List<Entry> open() throws IOException {
+        if (writer != null) throw new IllegalStateException("journal is already open");
+        Files.deleteIfExists(compactFile.toPath());
+        List<Entry> entries = replay(file);
+        for (Entry entry : entries) {
+            if (live.computeIfAbsent(entry.world, w -> new MxLongObjectMap<>()).put(entry.key, entry.data) == null) liveCount++;
+        }
+        compact();
+
+        writer = new Thread(this::runWriter, "MxRestoreJournal-writer");
+        writer.setDaemon(true);
+        writer.start();
+        accepting = true;
+        return entries;
+    }
+
+    /**
+     * Returns whether the journal has been opened and is persisting records.
+     *
+     * @return {@code true} if {@link #put} and {@link #remove} are being written
+     */
+    boolean isOpen() {
+        return accepting;
+    }
+
+    /**
+     * Queues a record that a block has a pending restore to {@code data}.
+     * Ignored while the journal is not open.
+     *
+     * @param world the world UID; must not be {@code null}
+     * @param key   the packed block key
+     * @param data  the block data to restore; must not be {@code null} nor modified afterwards
+     */
+    void put(UUID world, long key, BlockData data) {
+        if (world == null) throw new IllegalArgumentException("world must not be null");
+        if (data == null)  throw new IllegalArgumentException("data must not be null");
+        if (!accepting) return;
+        queue.add(new Record(OP_PUT, world, key, data));
+    }
+
+    /**
+     * Queues a record that a block no longer has a pending restore.
+     * Ignored while the journal is not open.
+     *
+     * @param world the world UID; must not be {@code null}
+     * @param key   the packed block key
+     */
+    void remove(UUID world, long key) {
+        if (world == null) throw new IllegalArgumentException("world must not be null");
+        if (!accepting) return;
+        queue.add(new Record(OP_REMOVE, world, key, null));
+    }
+
+    /**
+     * Writes and fsyncs every queued record, then stops the writer thread.
+     *
+     * @param timeoutMillis the maximum time to wait for the writer to finish
+     */
+    synchronized void close(long timeoutMillis) {
+        if (writer == null) return;
+        accepting = false;
+        queue.add(SHUTDOWN);
+        try {
+            writer.join(timeoutMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (writer.isAlive()) logger.warning("[MxRestoreJournal] Writer did not finish within " + timeoutMillis + "ms");
+        writer = null;
+    }
+
+    /**
+     * Reads the longest valid prefix of a journal file and truncates the file after it.
+     * An empty file is treated as an empty journal.
+     *
+     * @param file the journal file; need not exist
+     * @return the live entries described by the valid prefix
+     * @throws IOException if the file exists but cannot be read or truncated, or if its header is
+     *                     not a journal header, in which case the file is left untouched
+     */
+    static List<Entry> replay(File file) throws IOException {
+        Map<UUID, MxLongObjectMap<String>> entries = new HashMap<>();
+        if (!file.exists() || file.length() == 0) return new ArrayList<>();
+
+        long valid = HEADER_LENGTH;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file.toPath())))) {
+            int magic;
+            byte version;
+            try {
+                magic = in.readInt();
+                version = in.readByte();
+            } catch (EOFException e) {
+                throw new IOException("Journal " + file.getName() + " has a truncated header");
+            }
+            if (magic != MAGIC || version != VERSION) {
+                throw new IOException("Journal " + file.getName() + " has an unrecognised header (version " + version + ")");
+            }
+            CRC32 crc = new CRC32();
+            try {
+                while (true) {
+                    int length = in.readInt();
+                    if (length <= 0 || length > MAX_PAYLOAD) break;
+                    byte[] payload = new byte[length];
+                    in.readFully(payload);
+                    crc.reset();
+                    crc.update(payload);
+                    if (in.readInt() != (int) crc.getValue()) break;
+                    apply(entries, payload);
+                    valid += 4L + length + 4L;
+                }
+            } catch (EOFException ignored) {
+                // a torn frame at the tail; everything before it is valid
+            }
+        }
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.WRITE)) {
+            if (channel.size() > valid) channel.truncate(valid);
+        }
+        List<Entry> result = new ArrayList<>();
+        entries.forEach((world, blocks) -> blocks.forEach((key, data) -> result.add(new Entry(world, key, data))));
+        return result;
+    }
+
+    private static void apply(Map<UUID, MxLongObjectMap<String>> entries, byte[] payload) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            byte op = in.readByte();
+            UUID world = new UUID(in.readLong(), in.readLong());
+            long key = in.readLong();
+            if (op == OP_PUT) {
+                entries.computeIfAbsent(world, w -> new MxLongObjectMap<>()).put(key, in.readUTF());
+            } else if (op == OP_REMOVE) {
+                MxLongObjectMap<String> blocks = entries.get(world);
+                if (blocks != null) blocks.remove(key);
+            }
+        }
+    }
+
+    private void runWriter() {
+        List<Record> batch = new ArrayList<>();
+        long nextSync = 0;
+        long nextCompact = System.currentTimeMillis() + compactIntervalMillis;
+        boolean unsynced = false;
+        boolean rewrite = false;
+        boolean running = true;
+        while (running) {
+            try {
+                long wait = unsynced ? Math.max(0, nextSync - System.currentTimeMillis()) : compactIntervalMillis;
+                Record first = queue.poll(wait, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    if (rewrite) {
+                        // a failed write may have left a partial frame behind; rebuild the file from live
+                        compact();
+                        rewrite = false;
+                    }
+                    batch.add(first);
+                    queue.drainTo(batch);
+                    for (Record record : batch) {
+                        if (record == SHUTDOWN) {
+                            running = false;
+                            continue;
+                        }
+                        write(record);
+                    }
+                    batch.clear();
+                    out.flush();
+                    if (!unsynced) nextSync = System.currentTimeMillis() + fsyncIntervalMillis;
+                    unsynced = true;
+                }
+                long now = System.currentTimeMillis();
+                if (unsynced && (now >= nextSync || !running)) {
+                    fileOut.getFD().sync();
+                    unsynced = false;
+                }
+                if (now >= nextCompact) {
+                    if (frames > liveCount) compact();
+                    nextCompact = now + compactIntervalMillis;
+                }
+            } catch (InterruptedException e) {
+                running = false;
+            } catch (IOException e) {
+                logger.log(Level.WARNING, "[MxRestoreJournal] Could not write restore journal: " + e.getMessage());
+                rewrite = true;
+            }
+        }
+        try {
+            out.close();
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "[MxRestoreJournal] Could not close restore journal: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Appends a record unless it does not change the live entries. {@link #live} is only updated
+     * once the frame was written, so a record whose write failed is written again on retry.
+     */
+    private void write(Record record) throws IOException {
+        MxLongObjectMap<String> blocks = live.get(record.world);
+        String previous = blocks != null ? blocks.get(record.key) : null;
+        String data = null;
+        if (record.op == OP_PUT) {
+            data = record.data.getAsString();
+            if (data.equals(previous)) return;
+        } else if (previous == null) {
+            return;
+        }
+        writeFrame(out, record.op, record.world, record.key, data);
+        frames++;
+        if (record.op == OP_PUT) {
+            live.computeIfAbsent(record.world, w -> new MxLongObjectMap<>()).put(record.key, data);
+            if (previous == null) liveCount++;
+        } else {
+            blocks.remove(record.key);
+            liveCount--;
+        }
+    }
+
+    /**
+     * Rewrites the journal with one record per live entry and reopens it for appending.
+     * The stream to the compacted file is kept open across the move and only replaces
+     * {@link #out} once the move succeeded, so a failed compaction leaves the old stream usable.
+     */
+    private void compact() throws IOException {
+        FileOutputStream compactOut = new FileOutputStream(compactFile);
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(compactOut));
+        try {
+            data.writeInt(MAGIC);
+            data.writeByte(VERSION);
+            for (Map.Entry<UUID, MxLongObjectMap<String>> world : live.entrySet()) {
+                IOException[] failure = new IOException[1];
+                world.getValue().forEach((key, blockData) -> {
+                    if (failure[0] != null) return;
+                    try {
+                        writeFrame(data, OP_PUT, world.getKey(), key, blockData);
+                    } catch (IOException e) {
+                        failure[0] = e;
+                    }
+                });
+                if (failure[0] != null) throw failure[0];
+            }
+            data.flush();
+            compactOut.getFD().sync();
+            Files.move(compactFile.toPath(), file.toPath(),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            try {
+                data.close();
+            } catch (IOException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+            Files.deleteIfExists(compactFile.toPath());
+            throw e;
+        }
+        DataOutputStream previous = out;
+        fileOut = compactOut;
+        out = data;
+        frames = liveCount;
+        if (previous != null) {
+            try {
+                previous.close();
+            } catch (IOException e) {
+                // the stream belongs to the replaced file, whose contents no longer matter
+            }
+        }
+    }
+
+    private static void writeFrame(DataOutputStream target, byte op, UUID world, long key, String data) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        try (DataOutputStream payload = new DataOutputStream(bytes)) {
+            payload.writeByte(op);
+            payload.writeLong(world.getMostSignificantBits());
+            payload.writeLong(world.getLeastSignificantBits());
+            payload.writeLong(key);
+            if (op == OP_PUT) payload.writeUTF(data);
+        }
+        byte[] buf = bytes.toByteArray();
+        CRC32 crc = new CRC32();
+        crc.update(buf);
+        target.writeInt(buf.length);
+        target.write(buf);
+        target.writeInt((int) crc.getValue());
+    }
+
+    /**
+     * A pending restore read back from the journal.
+     */
+    static final class Entry {
+
+        final UUID world;
+        final long key;
+        final String data;
+
+        Entry(UUID world, long key, String data) {
+            this.world = world;
+            this.key = key;
+            this.data = data;
+        }
+    }
+
+    /**
+     * A single queued journal record.
+     */
+    private static final class Record {
+
+        private final byte op;
+        private final UUID world;
+        private final long key;
+        private final BlockData data;
+
+        Record(byte op, UUID world, long key, BlockData data) {
+            this.op = op;
+            this.world = world;
+            this.key = key;
+            this.data = data;
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package nl.mxndarijn.mxlib.spawnprotection.spawn;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Hashed timing wheel of pending block restores, advanced once per server tick by
+ * {@link MxBlockRestoreService}.
+ *
+ * <p>Each slot holds a doubly linked list of entries plus the number of full wheel rotations they
+ * still have to wait. {@link #schedule} returns the entry as a handle that the caller keeps next
+ * to its own record of the restore, so scheduling and {@link #cancel} are O(1) without any
+ * lookup, regardless of how many restores are pending. Entries that fall due are sorted by chunk and applied in
+ * order until the per-tick time budget is spent; the rest carry over to the next tick.</p>
+ *
+ * <p>Not thread-safe; only use from the main thread.</p>
+ *
+ * @param <V> the restore payload handed to the apply action
+ */
+final class MxRestoreWheel<V> {
+
+    private final Entry<V>[] slots;
+    private final int mask;
+
+    /** Entries that are due but were not applied yet, grouped by chunk. */
+    private final ArrayDeque<Entry<V>> ready = new ArrayDeque<>();
+
+    private final List<Entry<V>> due = new ArrayList<>();
+    private int size;
+    private int cursor;
+    private int lastTickApplied;
+    private long totalApplied;
+
+    /**
+     * Constructs a new {@code MxRestoreWheel}.
+     *
+     * @param slotCount the number of slots; rounded up to a power of two, must be positive
+     */
+    @SuppressWarnings("unchecked")
+    MxRestoreWheel(int slotCount) {
+        if (slotCount <= 0) throw new IllegalArgumentException("slotCount must be positive");
+        int size = slotCount == 1 ? 1 : Integer.highestOneBit(slotCount - 1) << 1;
+        slots = new Entry[size];
+        for (int i = 0; i < size; i++) {
+            Entry<V> head = new Entry<>(null, 0);
+            head.prev = head;
+            head.next = head;
+            slots[i] = head;
+        }
+        mask = size - 1;
+    }
+
+    /**
+     * Schedules {@code value} to be applied after {@code delayTicks} ticks.
+     *
+     * @param value      the restore payload; must not be {@code null}
+     * @param chunkKey   the chunk the restore belongs to, used to group due restores
+     * @param delayTicks the delay in ticks; values below one are treated as one
+     * @return the handle to pass to {@link #cancel}; never {@code null}
+     */
+    Entry<V> schedule(V value, long chunkKey, long delayTicks) {
+        if (value == null) throw new IllegalArgumentException("value must not be null");
+        long ticks = Math.max(1L, delayTicks);
+        Entry<V> entry = new Entry<>(value, chunkKey);
+        entry.rounds = (ticks - 1) / slots.length;
+        Entry<V> head = slots[(int) ((cursor + ticks) & mask)];
+        entry.prev = head.prev;
+        entry.next = head;
+        head.prev.next = entry;
+        head.prev = entry;
+        size++;
+        return entry;
+    }
+
+    /**
+     * Cancels a scheduled restore. Reschedule by cancelling and scheduling again.
+     *
+     * @param entry the handle returned by {@link #schedule}; must not be {@code null}
+     * @return {@code true} if the restore was still pending
+     */
+    boolean cancel(Entry<V> entry) {
+        if (entry.done) return false;
+        entry.done = true;
+        if (entry.prev != null) unlink(entry); // otherwise it sits in the ready queue and is skipped there
+        size--;
+        return true;
+    }
+
+    /**
+     * Advances the wheel by one tick and applies due restores, chunk by chunk, until the budget
+     * is spent. At least one restore is applied per tick so the queue always drains.
+     *
+     * @param budgetNanos the time budget for applying restores
+     * @param action      applies one restore; must not be {@code null}
+     * @return the number of restores applied this tick
+     */
+    int tick(long budgetNanos, Consumer<V> action) {
+        cursor = (cursor + 1) & mask;
+        Entry<V> head = slots[cursor];
+        for (Entry<V> node = head.next; node != head; ) {
+            Entry<V> next = node.next;
+            if (node.rounds == 0) {
+                unlink(node);
+                due.add(node);
+            } else {
+                node.rounds--;
+            }
+            node = next;
+        }
+        if (!due.isEmpty()) {
+            due.sort(Comparator.comparingLong(n -> n.chunkKey));
+            ready.addAll(due);
+            due.clear();
+        }
+
+        int applied = 0;
+        long start = System.nanoTime();
+        while (!ready.isEmpty() && (applied == 0 || System.nanoTime() - start < budgetNanos)) {
+            Entry<V> node = ready.poll();
+            if (node.done) continue;
+            node.done = true;
+            size--;
+            action.accept(node.value);
+            applied++;
+        }
+        lastTickApplied = applied;
+        totalApplied += applied;
+        return applied;
+    }
+
+    /**
+     * Returns the number of restores that are scheduled or due.
+     *
+     * @return the queue depth
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of restores that are due but were deferred by the time budget.
+     *
+     * @return the backlog size, including cancelled entries not yet skipped
+     */
+    int backlog() {
+        return ready.size();
+    }
+
+    /**
+     * Returns the number of restores applied during the most recent tick.
+     *
+     * @return the last per-tick restore count
+     */
+    int lastTickApplied() {
+        return lastTickApplied;
+    }
+
+    /**
+     * Returns the number of restores applied since the wheel was created.
+     *
+     * @return the total restore count
+     */
+    long totalApplied() {
+        return totalApplied;
+    }
+
+    private static <V> void unlink(Entry<V> node) {
+        node.prev.next = node.next;
+        node.next.prev = node.prev;
+        node.prev = null;
+        node.next = null;
+    }
+
+    /**
+     * A scheduled restore and the handle callers keep to cancel it. {@code prev} and {@code next}
+     * are {@code null} once the entry left its slot.
+     */
+    static final class Entry<V> {
+
+        private final V value;
+        private final long chunkKey;
+        private long rounds;
+        private boolean done;
+        private Entry<V> prev;
+        private Entry<V> next;
+
+        private Entry(V value, long chunkKey) {
+            this.value = value;
+            this.chunkKey = chunkKey;
+        }
+    }
+}
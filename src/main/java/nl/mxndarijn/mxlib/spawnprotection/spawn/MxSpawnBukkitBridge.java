@@ -1,12 +1,24 @@
 package nl.mxndarijn.mxlib.spawnprotection.spawn;
 
 import io.papermc.paper.event.player.AsyncChatEvent;
+import nl.mxndarijn.mxlib.logger.MxLogLevel;
 import nl.mxndarijn.mxlib.logger.MxLogger;
+import nl.mxndarijn.mxlib.mxeventbus.core.MxBaseContext;
+import nl.mxndarijn.mxlib.mxeventbus.core.MxCancellationState;
 import nl.mxndarijn.mxlib.mxeventbus.global.MxGlobalEventBus;
+import nl.mxndarijn.mxlib.mxeventbus.global.MxWorldType;
+import nl.mxndarijn.mxlib.spawnprotection.events.base.MxSpawnEventRegistry;
 import nl.mxndarijn.mxlib.spawnprotection.events.pipeline.events.*;
+import nl.mxndarijn.mxlib.mxeventbus.global.MxGlobalEvent;
+import nl.mxndarijn.mxlib.mxeventbus.global.MxGlobalSubscriptionListener;
+import org.bukkit.Bukkit;
+import org.bukkit.World;
 import org.bukkit.entity.Player;
+import org.bukkit.event.Cancellable;
+import org.bukkit.event.Event;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
 import org.bukkit.event.Listener;
 import org.bukkit.event.block.BlockBreakEvent;
 import org.bukkit.event.block.BlockPlaceEvent;
@@ -15,9 +27,20 @@ import org.bukkit.event.entity.*;
 import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.event.inventory.InventoryOpenEvent;
 import org.bukkit.event.player.*;
+import org.bukkit.plugin.EventExecutor;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.RegisteredListener;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
 
 /**
- * Thin Bukkit {@link Listener} bridge that translates raw Bukkit events into
+ * Thin Bukkit bridge that translates raw Bukkit events into
  * {@link nl.mxndarijn.mxlib.mxeventbus.global.MxGlobalEvent} instances and posts them
  * to the {@link MxGlobalEventBus}.
  *
@@ -25,15 +48,73 @@ import org.bukkit.event.player.*;
  * ({@link MxSpawnProtectionListener}, {@link MxSpawnChatListener},
  * {@link MxSpawnPlayerLifecycleListener}) registered on the bus.</p>
  *
- * <p>Cancellation of underlying Bukkit events is handled exclusively by
- * {@link nl.mxndarijn.mxlib.spawnprotection.spawn.MxSpawnBukkitBridge}
- * in the MONITOR phase, which reads the resolved verdict from the context and calls
- * {@code getPaperEvent().setCancelled(true)} when denied.</p>
+ * <p>Each handler resolves the world type once and asks {@link MxGlobalEventBus#hasSubscribers}
+ * (and the rule table, if any) before building a wrapper event, so Bukkit events that no handler
+ * or rule is interested in (including everything in game worlds) are dropped without allocating
+ * anything.</p>
+ *
+ * <p>Bukkit executors are attached on demand: after {@link #enable(Plugin)} the bridge watches the
+ * bus through a {@link MxGlobalSubscriptionListener} and registers an {@link EventExecutor} for a
+ * Bukkit event only while its wrapper event has at least one handler, removing it again when the
+ * last handler goes away. When every handler of a wrapper event opted into
+ * {@code doNotRunWhenEventCanceled}, the executor is registered with {@code ignoreCancelled} so
+ * Paper does not call the bridge for events another plugin already cancelled.</p>
+ *
+ * <p>Player move events first pass the configured {@link MxMoveFilter}; see
+ * {@link #setMoveFilter(MxMoveFilter, double)}. The bridge counts forwarded and filtered move
+ * events so the effect of a filter can be measured.</p>
+ *
+ * <p>With a {@link MxSpawnRuleEngine} set, the bridge also translates events that only rules
+ * cover, looks up their verdict in the compiled rule table and hands it to the bus as the
+ * initial verdict, so static policy costs one array read instead of a handler per rule.</p>
+ *
+ * <p>Chat arrives on Paper's async chat thread. Given a {@link MxPlayerStateIndex}, the chat
+ * route reads the sender's world type from the index instead of from Bukkit.</p>
+ *
+ * <p>Cancellation of underlying Bukkit events is handled by the bridge itself: once
+ * {@link MxGlobalEventBus#post} returns, it reads the resolved verdict from the context and
+ * cancels the source event when denied. Whether a route's Bukkit event is {@link Cancellable} is
+ * decided once when the route is built, so no MONITOR handler is needed to apply verdicts.
+ * Verdicts can be observed through {@link #addVerdictListener(MxSpawnVerdictListener)}.</p>
+ *
+ * <p><b>Migrating from {@code registerEvents}</b></p>
+ * <p>Older code registered the bridge itself with
+ * {@code Bukkit.getPluginManager().registerEvents(bridge, plugin)}. That still works but is
+ * deprecated and will be removed: the bridge then receives every Bukkit event it translates, for
+ * the whole lifetime of the plugin, as it did before executors were registered on demand, and it
+ * logs a warning the first time it does. Replace the call with {@link #enable(Plugin)} in
+ * {@code onEnable} and call {@link #disable()} in {@code onDisable}. Do not combine both;
+ * {@link #enable(Plugin)} refuses to start while the bridge is registered as a listener.</p>
  */
 @SuppressWarnings({"rawtypes", "unchecked"})
 public final class MxSpawnBukkitBridge implements Listener {
     private final MxGlobalEventBus bus;
     private final MxISpawnChatGuard chatGuard;
+    private final MxPlayerStateIndex playerStates;
+
+    /** Bukkit routes keyed by the wrapper event class they post. Built once in the constructor. */
+    private final Map<Class<? extends MxGlobalEvent>, Route> routes = new HashMap<>();
+
+    /** Reacts to handler changes on the bus; added in {@link #enable} and removed in {@link #disable}. */
+    private final MxGlobalSubscriptionListener subscriptionListener = this::subscriptionsChanged;
+
+    /** The plugin the executors are registered for, or {@code null} while the bridge is disabled. */
+    private volatile Plugin plugin;
+
+    private volatile MxMoveFilter moveFilter = MxMoveFilter.ALL;
+    private volatile double voidY = MxSpawnProtectionListener.VOID_RESCUE_Y;
+    private final LongAdder forwardedMoveEvents = new LongAdder();
+    private final LongAdder filteredMoveEvents = new LongAdder();
+
+    /** Notified after every dispatch; see {@link #addVerdictListener}. */
+    private final List<MxSpawnVerdictListener> verdictListeners = new CopyOnWriteArrayList<>();
+
+    /** Rule table evaluated before dispatch, or {@code null}; see {@link #setRuleEngine}. */
+    private volatile MxSpawnRuleEngine ruleEngine;
+    private final Runnable ruleListener = this::rulesChanged;
+
+    /** Whether the deprecation warning for a bridge registered with {@code registerEvents} was logged. */
+    private final AtomicBoolean legacyRegistrationWarned = new AtomicBoolean();
 
     /**
      * Constructs a new {@code MxSpawnBukkitBridge}.
@@ -42,8 +123,299 @@ public final class MxSpawnBukkitBridge implements Listener {
      * @param chatGuard the {@link MxISpawnChatGuard} used to skip players already in a game; must not be {@code null}
      */
     public MxSpawnBukkitBridge(MxGlobalEventBus bus, MxISpawnChatGuard chatGuard) {
+        this(bus, chatGuard, null);
+    }
+
+    /**
+     * Constructs a new {@code MxSpawnBukkitBridge} that resolves the world type of chat messages
+     * from main-thread snapshots instead of reading the sender's world on the async chat thread.
+     *
+     * @param bus          the {@link MxGlobalEventBus} to post events to; must not be {@code null}
+     * @param chatGuard    the {@link MxISpawnChatGuard} used to skip players already in a game; must not be {@code null}
+     * @param playerStates the {@link MxPlayerStateIndex} to read chat senders from, or {@code null}
+     *                     to read their world directly
+     */
+    public MxSpawnBukkitBridge(MxGlobalEventBus bus, MxISpawnChatGuard chatGuard, MxPlayerStateIndex playerStates) {
         this.bus = bus;
         this.chatGuard = chatGuard;
+        this.playerStates = playerStates;
+
+        route(MxSpawnBlockBreakEvent.class, BlockBreakEvent.class, this::onBlockBreak);
+        route(MxSpawnBlockPlaceEvent.class, BlockPlaceEvent.class, this::onBlockPlace);
+        route(MxSpawnInventoryOpenEvent.class, InventoryOpenEvent.class, this::onInventoryOpen);
+        route(MxSpawnPlayerMoveEvent.class, PlayerMoveEvent.class, this::onPlayerMove);
+        route(MxSpawnEntityDamageEvent.class, EntityDamageEvent.class, this::onEntityDamage);
+        route(MxSpawnEntityDamageByEntityEvent.class, EntityDamageByEntityEvent.class, this::onEntityDamageByEntity);
+        route(MxSpawnPlayerDropItemEvent.class, PlayerDropItemEvent.class, this::onDropItem);
+        route(MxSpawnEntityPickupItemEvent.class, EntityPickupItemEvent.class, this::onPickupItem);
+        route(MxSpawnInventoryClickEvent.class, InventoryClickEvent.class, this::onInventoryClick);
+        route(MxSpawnFoodLevelChangeEvent.class, FoodLevelChangeEvent.class, this::onFoodLevelChange);
+        route(MxSpawnPlayerInteractEvent.class, PlayerInteractEvent.class, this::onPlayerInteract);
+        route(MxSpawnPlayerInteractAtEntityEvent.class, PlayerInteractAtEntityEvent.class, this::onPlayerInteractAtEntity);
+        route(MxSpawnPlayerPortalEvent.class, PlayerPortalEvent.class, this::onPlayerPortal);
+        route(MxSpawnPlayerArmorStandManipulateEvent.class, PlayerArmorStandManipulateEvent.class, this::onArmorStandManipulate);
+        route(MxSpawnEntityChangeBlockEvent.class, EntityChangeBlockEvent.class, this::onEntityChangeBlock);
+        route(MxSpawnPlayerJoinEvent.class, PlayerJoinEvent.class, this::onPlayerJoin);
+        route(MxSpawnPlayerQuitEvent.class, PlayerQuitEvent.class, this::onPlayerQuit);
+        route(MxSpawnPlayerAdvancementDoneEvent.class, PlayerAdvancementDoneEvent.class, this::onAdvancementDone);
+        route(MxSpawnEntitySpawnEvent.class, EntitySpawnEvent.class, this::onEntitySpawn);
+        route(MxSpawnSignChangeEvent.class, SignChangeEvent.class, this::onSignChange);
+        routes.put(MxGlobalChatEvent.class, new Route(MxGlobalChatEvent.class, AsyncChatEvent.class, true, this::onChat));
+    }
+
+    /**
+     * Starts bridging: registers Bukkit executors for every wrapper event that currently has
+     * handlers and keeps them in sync with the bus from then on. Must be called on the main thread.
+     *
+     * <p>Replaces registering the bridge with {@code registerEvents}; see the class documentation.</p>
+     *
+     * @param plugin the plugin to register the Bukkit executors for; must not be {@code null}
+     * @throws IllegalStateException if the bridge is already enabled or is registered as a Bukkit listener
+     */
+    public void enable(Plugin plugin) {
+        if (plugin == null) throw new IllegalArgumentException("plugin must not be null");
+        if (this.plugin != null) throw new IllegalStateException("MxSpawnBukkitBridge is already enabled");
+        for (RegisteredListener registered : HandlerList.getRegisteredListeners(plugin)) {
+            if (registered.getListener() == this) {
+                throw new IllegalStateException("MxSpawnBukkitBridge is registered with registerEvents;"
+                        + " remove that registration before calling enable");
+            }
+        }
+        this.plugin = plugin;
+        bus.addSubscriptionListener(subscriptionListener);
+        routes.values().forEach(this::sync);
+    }
+
+    /**
+     * Stops bridging: removes every Bukkit executor registered by this bridge and stops watching
+     * the bus. Must be called on the main thread. Does nothing if the bridge is not enabled.
+     */
+    public void disable() {
+        if (plugin == null) return;
+        bus.removeSubscriptionListener(subscriptionListener);
+        plugin = null;
+        for (Route route : routes.values()) {
+            if (route.registeredIgnoreCancelled != null) {
+                HandlerList.unregisterAll(route);
+                route.registeredIgnoreCancelled = null;
+            }
+        }
+    }
+
+    /**
+     * Called by the bus whenever the handlers of a wrapper event change. Syncs the matching route
+     * right away on the main thread, or schedules the sync there when handlers change elsewhere.
+     *
+     * @param eventType the wrapper event class whose handlers changed
+     */
+    private void subscriptionsChanged(Class<? extends MxGlobalEvent> eventType) {
+        Route route = routes.get(eventType);
+        Plugin p = plugin;
+        if (route == null || p == null) return;
+        if (Bukkit.isPrimaryThread()) {
+            sync(route);
+        } else if (p.isEnabled()) {
+            Bukkit.getScheduler().runTask(p, () -> sync(route));
+        }
+    }
+
+    /**
+     * Registers, re-registers or unregisters the Bukkit executor of a route so that it matches the
+     * handlers currently on the bus. Main thread only.
+     *
+     * @param route the route to sync
+     */
+    private void sync(Route route) {
+        Plugin p = plugin;
+        boolean subscribed = bus.hasSubscribers(route.eventType);
+        MxSpawnRuleEngine engine = ruleEngine;
+        boolean ruled = engine != null && engine.getTable().covers(route.ruleEvent);
+        boolean wanted = p != null && (subscribed || ruled);
+        // MxSpawnRule rejects allow verdicts, so rules can only cancel and an event another plugin
+        // already cancelled needs no rule lookup
+        boolean ignoreCancelled = route.alwaysIgnoreCancelled
+                || (subscribed ? bus.allSubscribersIgnoreCancelled(route.eventType) : ruled);
+        Boolean current = route.registeredIgnoreCancelled;
+        if (wanted ? current != null && current == ignoreCancelled : current == null) return;
+
+        if (current != null) {
+            HandlerList.unregisterAll(route);
+            route.registeredIgnoreCancelled = null;
+        }
+        if (wanted) {
+            Bukkit.getPluginManager().registerEvent(route.bukkitType, route, EventPriority.NORMAL,
+                    route.executor, p, ignoreCancelled);
+            route.registeredIgnoreCancelled = ignoreCancelled;
+        }
+    }
+
+    /**
+     * Sets which move events are forwarded to the bus, keeping the current void threshold.
+     *
+     * @param filter the filter; must not be {@code null}
+     */
+    public void setMoveFilter(MxMoveFilter filter) {
+        setMoveFilter(filter, voidY);
+    }
+
+    /**
+     * Sets which move events are forwarded to the bus.
+     *
+     * @param filter the filter; must not be {@code null}
+     * @param voidY  the y coordinate below which {@link MxMoveFilter#BELOW_Y} forwards a move
+     */
+    public void setMoveFilter(MxMoveFilter filter, double voidY) {
+        if (filter == null) throw new IllegalArgumentException("filter must not be null");
+        this.voidY = voidY;
+        this.moveFilter = filter;
+    }
+
+    /**
+     * Returns the active move filter.
+     *
+     * @return the filter; never {@code null}
+     */
+    public MxMoveFilter getMoveFilter() {
+        return moveFilter;
+    }
+
+    /**
+     * Returns how many move events passed the move filter since the bridge was created.
+     *
+     * @return the forwarded count
+     */
+    public long getForwardedMoveEvents() {
+        return forwardedMoveEvents.sum();
+    }
+
+    /**
+     * Returns how many move events the move filter dropped since the bridge was created.
+     *
+     * @return the filtered count
+     */
+    public long getFilteredMoveEvents() {
+        return filteredMoveEvents.sum();
+    }
+
+    /**
+     * Resets the forwarded and filtered move counters.
+     */
+    public void resetMoveCounters() {
+        forwardedMoveEvents.reset();
+        filteredMoveEvents.reset();
+    }
+
+    /**
+     * Sets the rule engine whose verdicts are submitted before the bus handlers run, replacing the
+     * previous one. The bridge follows rule reloads by itself. Must be called on the main thread.
+     *
+     * @param engine the engine, or {@code null} to stop evaluating rules
+     */
+    public void setRuleEngine(MxSpawnRuleEngine engine) {
+        MxSpawnRuleEngine previous = ruleEngine;
+        if (previous == engine) return;
+        if (previous != null) previous.removeReloadListener(ruleListener);
+        ruleEngine = engine;
+        if (engine != null) engine.addReloadListener(ruleListener);
+        routes.values().forEach(this::sync);
+    }
+
+    /**
+     * Returns the rule engine set with {@link #setRuleEngine}.
+     *
+     * @return the engine, or {@code null} if none is set
+     */
+    public MxSpawnRuleEngine getRuleEngine() {
+        return ruleEngine;
+    }
+
+    /**
+     * Called after the rules changed. Syncs every route right away on the main thread, or
+     * schedules the sync there when the rules were loaded elsewhere.
+     */
+    private void rulesChanged() {
+        Plugin p = plugin;
+        if (p == null) return;
+        if (Bukkit.isPrimaryThread()) {
+            routes.values().forEach(this::sync);
+        } else if (p.isEnabled()) {
+            Bukkit.getScheduler().runTask(p, () -> routes.values().forEach(this::sync));
+        }
+    }
+
+    /**
+     * Returns whether an event of the given class and world type has to be translated: either a
+     * bus handler or a rule is interested in it.
+     *
+     * @param eventType the wrapper event class
+     * @param worldType the world type of the event
+     * @return {@code true} if the event must be built and posted
+     */
+    private boolean wants(Class<? extends MxGlobalEvent> eventType, MxWorldType worldType) {
+        // executors only exist while enabled, so without a plugin the event came through registerEvents
+        if (plugin == null && legacyRegistrationWarned.compareAndSet(false, true)) {
+            MxLogger.logMessage(MxLogLevel.WARNING, "[MxSpawnBukkitBridge] Registering the bridge with"
+                    + " registerEvents is deprecated; call enable(plugin) instead");
+        }
+        if (bus.hasSubscribers(eventType, worldType)) return true;
+        MxSpawnRuleEngine engine = ruleEngine;
+        return engine != null && engine.getTable().covers(routes.get(eventType).ruleEvent, worldType);
+    }
+
+    /**
+     * Adds a callback that is notified of the resolved verdict of every spawn event the bridge
+     * posts.
+     *
+     * @param listener the callback; must not be {@code null}
+     */
+    public void addVerdictListener(MxSpawnVerdictListener listener) {
+        if (listener == null) throw new IllegalArgumentException("listener must not be null");
+        verdictListeners.add(listener);
+    }
+
+    /**
+     * Removes a callback previously added with {@link #addVerdictListener}.
+     *
+     * @param listener the callback to remove; ignored if {@code null} or not registered
+     */
+    public void removeVerdictListener(MxSpawnVerdictListener listener) {
+        verdictListeners.remove(listener);
+    }
+
+    /**
+     * Looks up the rule verdict of a wrapper event, posts it with that verdict, cancels the Bukkit
+     * source event if the resolved verdict denies it and notifies the verdict listeners.
+     *
+     * @param source the Bukkit event the wrapper was built from
+     * @param event  the wrapper event to post
+     */
+    private void post(Event source, MxGlobalEvent event) {
+        Route route = routes.get(event.getClass());
+        MxSpawnRuleEngine engine = ruleEngine;
+        MxCancellationState ruled = engine == null || route.ruleEvent == null
+                ? null : engine.evaluate(route.ruleEvent, event);
+        MxBaseContext ctx = bus.post(event, ruled);
+        if (ctx == null) return;
+        if (ctx.isCancelled() && route.cancellable) {
+            ((Cancellable) source).setCancelled(true);
+        }
+        if (verdictListeners.isEmpty()) return;
+        for (MxSpawnVerdictListener listener : verdictListeners) {
+            try {
+                listener.verdictResolved(event, ctx.getCancellationState());
+            } catch (Exception ex) {
+                MxLogger.logMessage(MxLogLevel.ERROR,
+                        "[MxSpawnBukkitBridge] Verdict listener threw an exception: " + ex.getMessage());
+            }
+        }
+    }
+
+    private <B extends Event> void route(Class<? extends MxGlobalEvent> eventType, Class<B> bukkitType, Consumer<B> handler) {
+        routes.put(eventType, new Route(eventType, bukkitType, false, handler));
+    }
+
+    private static MxWorldType worldTypeOf(World world) {
+        return MxSpawnEventRegistry.getWorldTypeResolver().resolve(world);
     }
 
     /**
@@ -53,7 +425,9 @@ public final class MxSpawnBukkitBridge implements Listener {
      */
     @EventHandler
     public void onBlockBreak(BlockBreakEvent e) {
-        bus.post(new MxSpawnBlockBreakEvent(e.getPlayer(), e));
+        MxWorldType worldType = worldTypeOf(e.getPlayer().getWorld());
+        if (!wants(MxSpawnBlockBreakEvent.class, worldType)) return;
+        post(e, new MxSpawnBlockBreakEvent(e.getPlayer(), e, worldType));
     }
 
     /**
@@ -63,7 +437,9 @@ public final class MxSpawnBukkitBridge implements Listener {
      */
     @EventHandler
     public void onBlockPlace(BlockPlaceEvent e) {
-        bus.post(new MxSpawnBlockPlaceEvent(e.getPlayer(), e));
+        MxWorldType worldType = worldTypeOf(e.getPlayer().getWorld());
+        if (!wants(MxSpawnBlockPlaceEvent.class, worldType)) return;
+        post(e, new MxSpawnBlockPlaceEvent(e.getPlayer(), e, worldType));
     }
 
     /**
@@ -74,17 +450,27 @@ public final class MxSpawnBukkitBridge implements Listener {
     @EventHandler
     public void onInventoryOpen(InventoryOpenEvent e) {
         if (!(e.getPlayer() instanceof Player p)) return;
-        bus.post(new MxSpawnInventoryOpenEvent(p, e));
+        MxWorldType worldType = worldTypeOf(p.getWorld());
+        if (!wants(MxSpawnInventoryOpenEvent.class, worldType)) return;
+        post(e, new MxSpawnInventoryOpenEvent(p, e, worldType));
     }
 
     /**
-     * Translates a Bukkit {@link PlayerMoveEvent} and posts it to the bus.
+     * Translates a Bukkit {@link PlayerMoveEvent} and posts it to the bus if it passes the
+     * move filter.
      *
      * @param e the Bukkit event
      */
     @EventHandler
     public void onPlayerMove(PlayerMoveEvent e) {
-        bus.post(new MxSpawnPlayerMoveEvent(e.getPlayer(), e));
+        if (!moveFilter.accepts(e, voidY)) {
+            filteredMoveEvents.increment();
+            return;
+        }
+        forwardedMoveEvents.increment();
+        MxWorldType worldType = worldTypeOf(e.getPlayer().getWorld());
+        if (!wants(MxSpawnPlayerMoveEvent.class, worldType)) return;
+        post(e, new MxSpawnPlayerMoveEvent(e.getPlayer(), e, worldType));
     }
 
     /**
@@ -94,7 +480,9 @@ public final class MxSpawnBukkitBridge implements Listener {
      */
     @EventHandler
     public void onEntityDamage(EntityDamageEvent e) {
-        bus.post(new MxSpawnEntityDamageEvent(e));
+        MxWorldType worldType = worldTypeOf(e.getEntity().getWorld());
+        if (!wants(MxSpawnEntityDamageEvent.class, worldType)) return;
+        post(e, new MxSpawnEntityDamageEvent(e, worldType));
     }
 
     /**
@@ -104,7 +492,9 @@ public final class MxSpawnBukkitBridge implements Listener {
      */
     @EventHandler
     public void onEntityDamageByEntity(EntityDamageByEntityEvent e) {
-        bus.post(new MxSpawnEntityDamageByEntityEvent(e));
+        MxWorldType worldType = worldTypeOf(e.getEntity().getWorld());
+        if (!wants(MxSpawnEntityDamageByEntityEvent.class, worldType)) return;
+        post(e, new MxSpawnEntityDamageByEntityEvent(e, worldType));
     }
 
     /**
@@ -114,7 +504,9 @@ public final class MxSpawnBukkitBridge implements Listener {
      */
     @EventHandler
     public void onDropItem(PlayerDropItemEvent e) {
-        bus.post(new MxSpawnPlayerDropItemEvent(e.getPlayer(), e));
+        MxWorldType worldType = worldTypeOf(e.getPlayer().getWorld());
+        if (!wants(MxSpawnPlayerDropItemEvent.class, worldType)) return;
+        post(e, new MxSpawnPlayerDropItemEvent(e.getPlayer(), e, worldType));
     }
 
     /**
@@ -124,7 +516,9 @@ public final class MxSpawnBukkitBridge implements Listener {
      */
     @EventHandler
     public void onPickupItem(EntityPickupItemEvent e) {
-        bus.post(new MxSpawnEntityPickupItemEvent(e));
+        MxWorldType worldType = worldTypeOf(e.getEntity().getWorld());
+        if (!wants(MxSpawnEntityPickupItemEvent.class, worldType)) return;
+        post(e, new MxSpawnEntityPickupItemEvent(e, worldType));
     }
 
     /**
@@ -134,7 +528,9 @@ public final class MxSpawnBukkitBridge implements Listener {
      */
     @EventHandler
     public void onInventoryClick(InventoryClickEvent e) {
-        bus.post(new MxSpawnInventoryClickEvent(e));
+        MxWorldType worldType = worldTypeOf(e.getWhoClicked().getWorld());
+        if (!wants(MxSpawnInventoryClickEvent.class, worldType)) return;
+        post(e, new MxSpawnInventoryClickEvent(e, worldType));
     }
 
     /**
@@ -144,7 +540,9 @@ public final class MxSpawnBukkitBridge implements Listener {
      */
     @EventHandler
     public void onFoodLevelChange(FoodLevelChangeEvent e) {
-        bus.post(new MxSpawnFoodLevelChangeEvent(e));
+        MxWorldType worldType = worldTypeOf(e.getEntity().getWorld());
+        if (!wants(MxSpawnFoodLevelChangeEvent.class, worldType)) return;
+        post(e, new MxSpawnFoodLevelChangeEvent(e, worldType));
     }
 
     /**
@@ -154,7 +552,9 @@ public final class MxSpawnBukkitBridge implements Listener {
      */
     @EventHandler
     public void onPlayerInteract(PlayerInteractEvent e) {
-        bus.post(new MxSpawnPlayerInteractEvent(e.getPlayer(), e));
+        MxWorldType worldType = worldTypeOf(e.getPlayer().getWorld());
+        if (!wants(MxSpawnPlayerInteractEvent.class, worldType)) return;
+        post(e, new MxSpawnPlayerInteractEvent(e.getPlayer(), e, worldType));
     }
 
     /**
@@ -165,7 +565,9 @@ public final class MxSpawnBukkitBridge implements Listener {
     @EventHandler
     public void onPlayerInteractAtEntity(PlayerInteractAtEntityEvent e) {
         if (!(e.getPlayer() instanceof Player player)) return;
-        bus.post(new MxSpawnPlayerInteractAtEntityEvent(player, e));
+        MxWorldType worldType = worldTypeOf(player.getWorld());
+        if (!wants(MxSpawnPlayerInteractAtEntityEvent.class, worldType)) return;
+        post(e, new MxSpawnPlayerInteractAtEntityEvent(player, e, worldType));
     }
 
     /**
@@ -175,7 +577,9 @@ public final class MxSpawnBukkitBridge implements Listener {
      */
     @EventHandler
     public void onPlayerPortal(PlayerPortalEvent e) {
-        bus.post(new MxSpawnPlayerPortalEvent(e.getPlayer(), e));
+        MxWorldType worldType = worldTypeOf(e.getPlayer().getWorld());
+        if (!wants(MxSpawnPlayerPortalEvent.class, worldType)) return;
+        post(e, new MxSpawnPlayerPortalEvent(e.getPlayer(), e, worldType));
     }
 
     /**
@@ -185,7 +589,9 @@ public final class MxSpawnBukkitBridge implements Listener {
      */
     @EventHandler
     public void onArmorStandManipulate(PlayerArmorStandManipulateEvent e) {
-        bus.post(new MxSpawnPlayerArmorStandManipulateEvent(e.getPlayer(), e));
+        MxWorldType worldType = worldTypeOf(e.getPlayer().getWorld());
+        if (!wants(MxSpawnPlayerArmorStandManipulateEvent.class, worldType)) return;
+        post(e, new MxSpawnPlayerArmorStandManipulateEvent(e.getPlayer(), e, worldType));
     }
 
     /**
@@ -195,7 +601,9 @@ public final class MxSpawnBukkitBridge implements Listener {
      */
     @EventHandler
     public void onEntityChangeBlock(EntityChangeBlockEvent e) {
-        bus.post(new MxSpawnEntityChangeBlockEvent(e));
+        MxWorldType worldType = worldTypeOf(e.getBlock().getWorld());
+        if (!wants(MxSpawnEntityChangeBlockEvent.class, worldType)) return;
+        post(e, new MxSpawnEntityChangeBlockEvent(e, worldType));
     }
 
     /**
@@ -205,7 +613,9 @@ public final class MxSpawnBukkitBridge implements Listener {
      */
     @EventHandler
     public void onPlayerJoin(PlayerJoinEvent e) {
-        bus.post(new MxSpawnPlayerJoinEvent(e.getPlayer(), e));
+        MxWorldType worldType = worldTypeOf(e.getPlayer().getWorld());
+        if (!wants(MxSpawnPlayerJoinEvent.class, worldType)) return;
+        post(e, new MxSpawnPlayerJoinEvent(e.getPlayer(), e, worldType));
     }
 
     /**
@@ -215,7 +625,9 @@ public final class MxSpawnBukkitBridge implements Listener {
      */
     @EventHandler
     public void onPlayerQuit(PlayerQuitEvent e) {
-        bus.post(new MxSpawnPlayerQuitEvent(e.getPlayer(), e));
+        MxWorldType worldType = worldTypeOf(e.getPlayer().getWorld());
+        if (!wants(MxSpawnPlayerQuitEvent.class, worldType)) return;
+        post(e, new MxSpawnPlayerQuitEvent(e.getPlayer(), e, worldType));
     }
 
     /**
@@ -225,7 +637,9 @@ public final class MxSpawnBukkitBridge implements Listener {
      */
     @EventHandler
     public void onAdvancementDone(PlayerAdvancementDoneEvent e) {
-        bus.post(new MxSpawnPlayerAdvancementDoneEvent(e.getPlayer(), e));
+        MxWorldType worldType = worldTypeOf(e.getPlayer().getWorld());
+        if (!wants(MxSpawnPlayerAdvancementDoneEvent.class, worldType)) return;
+        post(e, new MxSpawnPlayerAdvancementDoneEvent(e.getPlayer(), e, worldType));
     }
 
     /**
@@ -235,7 +649,9 @@ public final class MxSpawnBukkitBridge implements Listener {
      */
     @EventHandler
     public void onEntitySpawn(EntitySpawnEvent e) {
-        bus.post(new MxSpawnEntitySpawnEvent(e));
+        MxWorldType worldType = worldTypeOf(e.getEntity().getWorld());
+        if (!wants(MxSpawnEntitySpawnEvent.class, worldType)) return;
+        post(e, new MxSpawnEntitySpawnEvent(e, worldType));
     }
 
     /**
@@ -246,19 +662,66 @@ public final class MxSpawnBukkitBridge implements Listener {
     @EventHandler
     public void onSignChange(SignChangeEvent e) {
         if (!(e.getPlayer() instanceof Player player)) return;
-        bus.post(new MxSpawnSignChangeEvent(player, e));
+        MxWorldType worldType = worldTypeOf(player.getWorld());
+        if (!wants(MxSpawnSignChangeEvent.class, worldType)) return;
+        post(e, new MxSpawnSignChangeEvent(player, e, worldType));
     }
 
     /**
      * Translates a Bukkit {@link AsyncChatEvent} and posts it to the bus.
      * Skips players who are already in a game (they are handled by the game event pipeline).
+     * Cancelled chat events are never delivered to this method.
+     *
+     * <p>When a {@link MxPlayerStateIndex} is set, the sender's world type is taken from their
+     * snapshot, so nothing owned by the main thread is read here. Senders without a snapshot
+     * (not yet indexed) are skipped and their message is left to Paper.</p>
      *
      * @param e the Bukkit async chat event
      */
     @EventHandler(priority = EventPriority.NORMAL, ignoreCancelled = true)
     public void onChat(AsyncChatEvent e) {
         if (chatGuard.isPlayerInGame(e.getPlayer().getUniqueId())) return;
-        bus.post(new MxGlobalChatEvent(e.getPlayer(), e));
+        MxWorldType worldType;
+        if (playerStates != null) {
+            MxPlayerState state = playerStates.get(e.getPlayer().getUniqueId());
+            if (state == null) return;
+            worldType = state.getWorldType();
+        } else {
+            worldType = worldTypeOf(e.getPlayer().getWorld());
+        }
+        if (!wants(MxGlobalChatEvent.class, worldType)) return;
+        post(e, new MxGlobalChatEvent(e.getPlayer(), e, worldType));
     }
-}
 
+    /**
+     * Links one Bukkit event class to the wrapper event it is translated into. Each route is its
+     * own Bukkit {@link Listener}, so its executor can be unregistered without touching the others.
+     */
+    private static final class Route implements Listener {
+
+        private final Class<? extends MxGlobalEvent> eventType;
+        private final Class<? extends Event> bukkitType;
+        private final boolean alwaysIgnoreCancelled;
+        /** Whether a denied verdict is written back onto the Bukkit event. */
+        private final boolean cancellable;
+        /** The rule kind of the wrapper event, or {@code null} if rules cannot target it. */
+        private final MxSpawnRuleEvent ruleEvent;
+        private final EventExecutor executor;
+
+        /** The {@code ignoreCancelled} flag of the current Bukkit registration; {@code null} while unregistered. */
+        private Boolean registeredIgnoreCancelled;
+
+        <B extends Event> Route(Class<? extends MxGlobalEvent> eventType, Class<B> bukkitType,
+                                boolean alwaysIgnoreCancelled, Consumer<B> handler) {
+            this.eventType = eventType;
+            this.bukkitType = bukkitType;
+            this.alwaysIgnoreCancelled = alwaysIgnoreCancelled;
+            this.cancellable = Cancellable.class.isAssignableFrom(bukkitType);
+            this.ruleEvent = MxSpawnRuleEvent.of(eventType);
+            // Bukkit hands subclasses sharing the handler list to every executor, so filter like @EventHandler does
+            this.executor = (listener, event) -> {
+                if (bukkitType.isInstance(event)) handler.accept(bukkitType.cast(event));
+            };
+        }
+    }
+}
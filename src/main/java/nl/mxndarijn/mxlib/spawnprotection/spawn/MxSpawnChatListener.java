@@ -24,18 +24,36 @@ import java.util.UUID;
  *
  * <p>All WIDM-specific logic (language strings, map lookups, host preferences,
  * game-world checks) is delegated to the injected {@link MxISpawnChatProvider}.</p>
+ *
+ * <p>When constructed with a {@link MxChatAudienceIndex}, the listener reads the sender's class,
+ * world and private map chat flag from their {@link MxPlayerState} snapshot and the recipients
+ * from the index, so nothing owned by the main thread is read on the async chat thread and a
+ * message is one audience send instead of a provider call per online player.</p>
  */
 public final class MxSpawnChatListener extends MxGlobalEventListener {
 
     private final MxISpawnChatProvider provider;
+    private final MxChatAudienceIndex audiences;
 
     /**
-     * Constructs a new {@code MxSpawnChatListener}.
+     * Constructs a new {@code MxSpawnChatListener} that filters every online player per message.
      *
      * @param provider the {@link MxISpawnChatProvider} supplying chat-routing dependencies
      */
     public MxSpawnChatListener(MxISpawnChatProvider provider) {
+        this(provider, null);
+    }
+
+    /**
+     * Constructs a new {@code MxSpawnChatListener} that delivers messages through an audience index.
+     *
+     * @param provider  the {@link MxISpawnChatProvider} supplying chat-routing dependencies
+     * @param audiences the {@link MxChatAudienceIndex} to read recipients from, or {@code null} to
+     *                  filter every online player per message
+     */
+    public MxSpawnChatListener(MxISpawnChatProvider provider, MxChatAudienceIndex audiences) {
         this.provider = provider;
+        this.audiences = audiences;
     }
 
     /**
@@ -49,7 +67,7 @@ public final class MxSpawnChatListener extends MxGlobalEventListener {
     public void routeSpawnChat(MxGlobalEventContext<MxGlobalChatEvent, MxWorldType> ctx) {
         MxGlobalChatEvent event = ctx.event();
         Player sender = event.getPlayer();
-        if (provider.isPlayerInGameWithSpectatorCheck(sender.getUniqueId())) return;
+        if (isOutsideSpawnChat(sender)) return;
         event.getPaperEvent().setCancelled(true);
         broadcastGlobalChat(provider.buildGlobalChatMessage(sender, event.getPaperEvent().message()));
     }
@@ -65,7 +83,7 @@ public final class MxSpawnChatListener extends MxGlobalEventListener {
     public void routePresetChat(MxGlobalEventContext<MxGlobalChatEvent, MxWorldType> ctx) {
         MxGlobalChatEvent event = ctx.event();
         Player sender = event.getPlayer();
-        if (provider.isPlayerInGameWithSpectatorCheck(sender.getUniqueId())) return;
+        if (isOutsideSpawnChat(sender)) return;
         event.getPaperEvent().setCancelled(true);
         broadcastGlobalChat(provider.buildGlobalChatMessage(sender, event.getPaperEvent().message()));
     }
@@ -74,6 +92,7 @@ public final class MxSpawnChatListener extends MxGlobalEventListener {
      * Routes chat messages originating from a map world.
      * When private map chat is enabled for the sender,
      * the message is scoped to the map world only; otherwise it is broadcast globally.
+     * Without an audience index, the map world and preference are asked from the provider.
      *
      * @param ctx the event context wrapping a {@link MxGlobalChatEvent}
      */
@@ -82,13 +101,20 @@ public final class MxSpawnChatListener extends MxGlobalEventListener {
     public void routeMapChat(MxGlobalEventContext<MxGlobalChatEvent, MxWorldType> ctx) {
         MxGlobalChatEvent event = ctx.event();
         Player sender = event.getPlayer();
-        if (provider.isPlayerInGameWithSpectatorCheck(sender.getUniqueId())) return;
+        if (isOutsideSpawnChat(sender)) return;
         event.getPaperEvent().setCancelled(true);
-        Optional<UUID> senderMapWorldUid = provider.getMapWorldUid(sender.getWorld());
-        boolean privateMapChat = provider.hasPrivateMapChat(sender.getUniqueId());
-        if (senderMapWorldUid.isPresent() && privateMapChat) {
-            broadcastPrivateMapChat(sender, senderMapWorldUid.get(), event.getPaperEvent().message());
-            return;
+        if (audiences != null) {
+            MxPlayerState state = audiences.getPlayerStates().get(sender.getUniqueId());
+            if (state != null && state.hasPrivateMapChat()) {
+                broadcastPrivateMapChat(sender, state.getWorldUid(), event.getPaperEvent().message());
+                return;
+            }
+        } else {
+            Optional<UUID> senderMapWorldUid = provider.getMapWorldUid(sender.getWorld());
+            if (senderMapWorldUid.isPresent() && provider.hasPrivateMapChat(sender.getUniqueId())) {
+                broadcastPrivateMapChat(sender, senderMapWorldUid.get(), event.getPaperEvent().message());
+                return;
+            }
         }
         broadcastGlobalChat(provider.buildGlobalChatMessage(sender, event.getPaperEvent().message()));
     }
@@ -106,6 +132,10 @@ public final class MxSpawnChatListener extends MxGlobalEventListener {
      */
     private void broadcastPrivateMapChat(Player sender, UUID mapWorldUid, Component message) {
         Component mapChatComponent = provider.buildMapChatMessage(sender, message);
+        if (audiences != null) {
+            audiences.getWorldAudience(mapWorldUid).sendMessage(mapChatComponent);
+            return;
+        }
         for (Player p : Bukkit.getOnlinePlayers()) {
             if (p.getWorld().getUID().equals(mapWorldUid)) {
                 p.sendMessage(mapChatComponent);
@@ -121,6 +151,10 @@ public final class MxSpawnChatListener extends MxGlobalEventListener {
      * @param finalMessage the formatted message component to send
      */
     private void broadcastGlobalChat(Component finalMessage) {
+        if (audiences != null) {
+            audiences.getGlobalAudience().sendMessage(finalMessage);
+            return;
+        }
         for (Player p : Bukkit.getOnlinePlayers()) {
             if (provider.isPlayerInGameWithSpectatorCheck(p.getUniqueId())) continue;
             if (provider.shouldExcludeFromGlobalBroadcast(p)) continue;
@@ -128,5 +162,21 @@ public final class MxSpawnChatListener extends MxGlobalEventListener {
         }
         Bukkit.getConsoleSender().sendMessage(finalMessage);
     }
+
+    /**
+     * Returns whether the sender's message is left alone: they are in a game or spectating one, so
+     * their chat belongs to the game event pipeline, or the audience index has no snapshot of them
+     * yet, so routing them would mean reading main-thread state on the chat thread.
+     *
+     * @param sender the player who sent the message
+     * @return {@code true} if the message is not routed as spawn chat
+     */
+    private boolean isOutsideSpawnChat(Player sender) {
+        if (audiences != null) {
+            MxChatAudienceClass audienceClass = audiences.getAudienceClass(sender.getUniqueId());
+            return audienceClass != MxChatAudienceClass.SPAWN;
+        }
+        return provider.isPlayerInGameWithSpectatorCheck(sender.getUniqueId());
+    }
 }
 
@@ -8,6 +8,7 @@ import nl.mxndarijn.mxlib.mxeventbus.global.MxWorldTypes;
 import nl.mxndarijn.mxlib.spawnprotection.events.base.MxGlobalEventListener;
 import nl.mxndarijn.mxlib.spawnprotection.events.pipeline.events.*;
 import org.bukkit.Material;
+import org.bukkit.World;
 import org.bukkit.block.Block;
 import org.bukkit.block.BlockFace;
 import org.bukkit.block.data.Bisected;
@@ -25,7 +26,7 @@ import org.bukkit.inventory.ItemStack;
  * <p>Responsibilities:
  * <ul>
  *   <li>Cancel block breaking and placing for players not in modify mode.</li>
- *   <li>Teleport players back to spawn when they fall below Y = -50 (void rescue).</li>
+ *   <li>Teleport players back to spawn when they fall below {@link #VOID_RESCUE_Y} (void rescue).</li>
  *   <li>Cancel all entity damage and PvP in the spawn world.</li>
  *   <li>Cancel item dropping and pickup for players without the appropriate permissions.</li>
  *   <li>Cancel inventory clicks on the player's own inventory without permission.</li>
@@ -38,22 +39,73 @@ import org.bukkit.inventory.ItemStack;
  * </ul>
  *
  * <p>All WIDM-specific logic (permissions, block sets, modify-mode checks, teleportation)
- * is delegated to the injected {@link MxISpawnProtectionProvider}.</p>
+ * is delegated to the injected {@link MxISpawnProtectionProvider}. When constructed with a
+ * {@link MxModifyModeIndex}, modify-mode checks read the index instead of calling the provider.</p>
  */
 public final class MxSpawnProtectionListener extends MxGlobalEventListener {
 
+    /** Y coordinate below which a player in the spawn world is teleported back to spawn. */
+    public static final double VOID_RESCUE_Y = 0;
+
     private final MxISpawnProtectionProvider provider;
     private final MxBlockRestoreService blockRestoreService;
+    private final MxModifyModeIndex modifyModeIndex;
+    private final MxMaterialClassifier materials;
 
     /**
-     * Constructs a new {@code MxSpawnProtectionListener}.
+     * Constructs a new {@code MxSpawnProtectionListener} that asks the provider for every
+     * modify-mode check.
      *
      * @param provider            the {@link MxISpawnProtectionProvider} supplying protection rules
      * @param blockRestoreService the {@link MxBlockRestoreService} used to schedule gate/door restores
      */
     public MxSpawnProtectionListener(MxISpawnProtectionProvider provider, MxBlockRestoreService blockRestoreService) {
+        this(provider, blockRestoreService, null);
+    }
+
+    /**
+     * Constructs a new {@code MxSpawnProtectionListener} that reads modify mode from an index kept
+     * up to date by the provider.
+     *
+     * @param provider            the {@link MxISpawnProtectionProvider} supplying protection rules
+     * @param blockRestoreService the {@link MxBlockRestoreService} used to schedule gate/door restores
+     * @param modifyModeIndex     the {@link MxModifyModeIndex} to read modify mode from, or
+     *                            {@code null} to ask the provider
+     */
+    public MxSpawnProtectionListener(MxISpawnProtectionProvider provider, MxBlockRestoreService blockRestoreService,
+                                     MxModifyModeIndex modifyModeIndex) {
+        this(provider, blockRestoreService, modifyModeIndex, new MxMaterialClassifier(provider));
+    }
+
+    /**
+     * Constructs a new {@code MxSpawnProtectionListener} with a custom material classifier, e.g.
+     * one with overrides for custom blocks.
+     *
+     * @param provider            the {@link MxISpawnProtectionProvider} supplying protection rules
+     * @param blockRestoreService the {@link MxBlockRestoreService} used to schedule gate/door restores
+     * @param modifyModeIndex     the {@link MxModifyModeIndex} to read modify mode from, or
+     *                            {@code null} to ask the provider
+     * @param materials           the {@link MxMaterialClassifier} that classifies clicked blocks;
+     *                            must not be {@code null}
+     */
+    public MxSpawnProtectionListener(MxISpawnProtectionProvider provider, MxBlockRestoreService blockRestoreService,
+                                     MxModifyModeIndex modifyModeIndex, MxMaterialClassifier materials) {
+        if (materials == null) throw new IllegalArgumentException("materials must not be null");
         this.provider = provider;
         this.blockRestoreService = blockRestoreService;
+        this.modifyModeIndex = modifyModeIndex;
+        this.materials = materials;
+    }
+
+    /**
+     * Returns the classifier used for interaction rules. The openable and container tables are
+     * built from the provider's block sets when the listener is created; call
+     * {@link MxMaterialClassifier#recompute()} after those sets change.
+     *
+     * @return the classifier; never {@code null}
+     */
+    public MxMaterialClassifier getMaterialClassifier() {
+        return materials;
     }
 
     /**
@@ -64,7 +116,7 @@ public final class MxSpawnProtectionListener extends MxGlobalEventListener {
     @MxSubscribe
     @MxWorldTypes(MxWorldType.SPAWN)
     public void cancelBlockBreak(MxGlobalEventContext<MxSpawnBlockBreakEvent, MxWorldType> ctx) {
-        if (provider.isInModifyMode(ctx.event().getPlayer())) return;
+        if (isInModifyMode(ctx.event().getPlayer())) return;
         ctx.submitVerdict(MxCancellationState.HARD_DENY);
     }
 
@@ -76,12 +128,16 @@ public final class MxSpawnProtectionListener extends MxGlobalEventListener {
     @MxSubscribe
     @MxWorldTypes(MxWorldType.SPAWN)
     public void cancelBlockPlace(MxGlobalEventContext<MxSpawnBlockPlaceEvent, MxWorldType> ctx) {
-        if (provider.isInModifyMode(ctx.event().getPlayer())) return;
+        if (isInModifyMode(ctx.event().getPlayer())) return;
         ctx.submitVerdict(MxCancellationState.HARD_DENY);
     }
 
     /**
-     * Teleports a player back to spawn if they fall below Y = -50 (void rescue).
+     * Teleports a player back to spawn if they fall below {@link #VOID_RESCUE_Y} (void rescue).
+     *
+     * <p>With the bridge's move filter set to {@link MxMoveFilter#BELOW_Y} only moves that can
+     * trigger a rescue reach this handler. To rescue players on a fixed interval instead, set the
+     * filter to {@link MxMoveFilter#NONE} and start a {@link MxSpawnVoidSweeper}.</p>
      *
      * @param ctx the event context wrapping a {@link MxSpawnPlayerMoveEvent}
      */
@@ -89,7 +145,7 @@ public final class MxSpawnProtectionListener extends MxGlobalEventListener {
     @MxWorldTypes(MxWorldType.SPAWN)
     public void rescuePlayerFromVoid(MxGlobalEventContext<MxSpawnPlayerMoveEvent, MxWorldType> ctx) {
         Player player = ctx.event().getPlayer();
-        if (player.getLocation().getY() < 0) {
+        if (player.getLocation().getY() < VOID_RESCUE_Y) {
             provider.teleportToSpawn(player);
         }
     }
@@ -115,7 +171,7 @@ public final class MxSpawnProtectionListener extends MxGlobalEventListener {
     @MxWorldTypes(MxWorldType.SPAWN)
     public void cancelEntityDamageByEntity(MxGlobalEventContext<MxSpawnEntityDamageByEntityEvent, MxWorldType> ctx) {
         if (ctx.event().getPaperEvent().getDamager() instanceof Player player
-                && provider.isInModifyMode(player)) return;
+                && isInModifyMode(player)) return;
         ctx.submitVerdict(MxCancellationState.HARD_DENY);
     }
 
@@ -128,7 +184,7 @@ public final class MxSpawnProtectionListener extends MxGlobalEventListener {
     @MxWorldTypes(MxWorldType.SPAWN)
     public void cancelItemDrop(MxGlobalEventContext<MxSpawnPlayerDropItemEvent, MxWorldType> ctx) {
         Player player = ctx.event().getPlayer();
-        if (provider.isInModifyMode(player)) return;
+        if (isInModifyMode(player)) return;
         if (!provider.hasDropItemPermission(player))
             ctx.submitVerdict(MxCancellationState.HARD_DENY);
     }
@@ -142,7 +198,7 @@ public final class MxSpawnProtectionListener extends MxGlobalEventListener {
     @MxWorldTypes(MxWorldType.SPAWN)
     public void cancelItemPickup(MxGlobalEventContext<MxSpawnEntityPickupItemEvent, MxWorldType> ctx) {
         var entity = ctx.event().getPaperEvent().getEntity();
-        if (entity instanceof Player player && provider.isInModifyMode(player)) return;
+        if (entity instanceof Player player && isInModifyMode(player)) return;
         if (!provider.hasPickupItemPermission(entity))
             ctx.submitVerdict(MxCancellationState.HARD_DENY);
     }
@@ -157,7 +213,7 @@ public final class MxSpawnProtectionListener extends MxGlobalEventListener {
     @MxWorldTypes(MxWorldType.SPAWN)
     public void cancelUnauthorizedInventoryClick(MxGlobalEventContext<MxSpawnInventoryClickEvent, MxWorldType> ctx) {
         var e = ctx.event().getPaperEvent();
-        if (e.getWhoClicked() instanceof Player whoClicked && provider.isInModifyMode(whoClicked)) return;
+        if (e.getWhoClicked() instanceof Player whoClicked && isInModifyMode(whoClicked)) return;
         if (e.getClickedInventory() == e.getWhoClicked().getInventory()) {
             if (!provider.hasChangeInventoryPermission((Player) e.getWhoClicked()))
                 ctx.submitVerdict(MxCancellationState.HARD_DENY);
@@ -181,7 +237,7 @@ public final class MxSpawnProtectionListener extends MxGlobalEventListener {
      * Cancels interactions with flower pots, decorated pots, all potted-plant variants (prevents stealing the planted item), and dragon eggs (prevents teleportation).
      * Cancels interactions with inventory-opening blocks entirely.
      * Allows interactions with openable blocks (gates, doors, trapdoors) but schedules
-     * a state restore via {@link MxBlockRestoreService} after 2 minutes.
+     * a state restore via {@link MxBlockRestoreService} after 1 minute.
      * Players in modify mode bypass all restrictions; any pending restore for a block
      * they interact with is cancelled to make the change permanent.
      *
@@ -195,8 +251,8 @@ public final class MxSpawnProtectionListener extends MxGlobalEventListener {
         if (block == null) return;
         Material type = block.getType();
 
-        if (provider.isInModifyMode(ctx.event().getPlayer())) {
-            if (provider.getOpenableBlocks().contains(type)) {
+        if (isInModifyMode(ctx.event().getPlayer())) {
+            if (materials.is(MxMaterialCategory.OPENABLES, type)) {
                 blockRestoreService.cancelRestore(block);
                 Block otherHalf = getDoorOtherHalf(block);
                 if (otherHalf != null) blockRestoreService.cancelRestore(otherHalf);
@@ -204,18 +260,17 @@ public final class MxSpawnProtectionListener extends MxGlobalEventListener {
             return;
         }
 
-        if (type == Material.FLOWER_POT || type == Material.DECORATED_POT || type.name().startsWith("POTTED_")
-                || type == Material.DRAGON_EGG) {
+        if (materials.is(MxMaterialCategory.POTTED_PLANTS, type) || type == Material.DRAGON_EGG) {
             ctx.submitVerdict(MxCancellationState.HARD_DENY);
             return;
         }
 
-        if (provider.getInventoryOpeningBlocks().contains(type)) {
+        if (materials.is(MxMaterialCategory.CONTAINERS, type)) {
             ctx.submitVerdict(MxCancellationState.HARD_DENY);
             return;
         }
 
-        if (provider.getOpenableBlocks().contains(type)) {
+        if (materials.is(MxMaterialCategory.OPENABLES, type)) {
             BlockData originalData = block.getBlockData().clone();
             Block otherHalf = getDoorOtherHalf(block);
             BlockData otherOriginalData = otherHalf != null ? otherHalf.getBlockData().clone() : null;
@@ -250,7 +305,7 @@ public final class MxSpawnProtectionListener extends MxGlobalEventListener {
     @MxSubscribe
     @MxWorldTypes({MxWorldType.SPAWN, MxWorldType.MAP, MxWorldType.PRESET})
     public void cancelPortalTravel(MxGlobalEventContext<MxSpawnPlayerPortalEvent, MxWorldType> ctx) {
-        if (provider.isInModifyMode(ctx.event().getPlayer())) return;
+        if (isInModifyMode(ctx.event().getPlayer())) return;
         ctx.submitVerdict(MxCancellationState.HARD_DENY);
     }
 
@@ -262,7 +317,7 @@ public final class MxSpawnProtectionListener extends MxGlobalEventListener {
     @MxSubscribe
     @MxWorldTypes(MxWorldType.SPAWN)
     public void cancelArmorStandManipulation(MxGlobalEventContext<MxSpawnPlayerArmorStandManipulateEvent, MxWorldType> ctx) {
-        if (provider.isInModifyMode(ctx.event().getPlayer())) return;
+        if (isInModifyMode(ctx.event().getPlayer())) return;
         ctx.submitVerdict(MxCancellationState.HARD_DENY);
     }
 
@@ -279,29 +334,28 @@ public final class MxSpawnProtectionListener extends MxGlobalEventListener {
     public void cancelEntitySpawn(MxGlobalEventContext<MxSpawnEntitySpawnEvent, MxWorldType> ctx) {
         var entity = ctx.event().getPaperEvent().getEntity();
         if (entity instanceof ArmorStand || entity instanceof TextDisplay || entity instanceof Interaction) return;
-        boolean anyModifyPlayer = ctx.event().getPaperEvent().getEntity().getWorld()
-                .getPlayers().stream()
-                .anyMatch(provider::isInModifyMode);
-        if (anyModifyPlayer) return;
+        if (hasModifyPlayers(entity.getWorld())) return;
         ctx.submitVerdict(MxCancellationState.HARD_DENY);
     }
 
     /**
-     * Cancels farmland trampling in the spawn world, preserving planted crops.
+     * Cancels trampling of {@link MxMaterialCategory#TRAMPLE_SENSITIVE trample-sensitive} blocks by
+     * entities in the spawn world, preserving planted crops and turtle eggs.
      *
      * @param ctx the event context wrapping a {@link MxSpawnEntityChangeBlockEvent}
      */
     @MxSubscribe
     @MxWorldTypes(MxWorldType.SPAWN)
     public void cancelFarmlandTrample(MxGlobalEventContext<MxSpawnEntityChangeBlockEvent, MxWorldType> ctx) {
-        if (ctx.event().getPaperEvent().getBlock().getType() == Material.FARMLAND) {
+        if (materials.is(MxMaterialCategory.TRAMPLE_SENSITIVE, ctx.event().getPaperEvent().getBlock().getType())) {
             ctx.submitVerdict(MxCancellationState.HARD_DENY);
         }
     }
 
     /**
-     * Cancels turtle egg trampling (via physical player interaction) in the spawn world
-     * unless the player has spawn-modify mode active.
+     * Cancels trampling of {@link MxMaterialCategory#TRAMPLE_SENSITIVE trample-sensitive} blocks,
+     * such as turtle eggs, via physical player interaction in the spawn world unless the player
+     * has spawn-modify mode active.
      *
      * @param ctx the event context wrapping a {@link MxSpawnPlayerInteractEvent}
      */
@@ -310,8 +364,8 @@ public final class MxSpawnProtectionListener extends MxGlobalEventListener {
     public void cancelTurtleEggTrample(MxGlobalEventContext<MxSpawnPlayerInteractEvent, MxWorldType> ctx) {
         if (ctx.event().getPaperEvent().getAction() != Action.PHYSICAL) return;
         if (ctx.event().getPaperEvent().getClickedBlock() == null) return;
-        if (ctx.event().getPaperEvent().getClickedBlock().getType() != Material.TURTLE_EGG) return;
-        if (provider.isInModifyMode(ctx.event().getPlayer())) return;
+        if (!materials.is(MxMaterialCategory.TRAMPLE_SENSITIVE, ctx.event().getPaperEvent().getClickedBlock().getType())) return;
+        if (isInModifyMode(ctx.event().getPlayer())) return;
         ctx.submitVerdict(MxCancellationState.HARD_DENY);
     }
 
@@ -324,7 +378,7 @@ public final class MxSpawnProtectionListener extends MxGlobalEventListener {
     @MxSubscribe
     @MxWorldTypes(MxWorldType.SPAWN)
     public void cancelSignEdit(MxGlobalEventContext<MxSpawnSignChangeEvent, MxWorldType> ctx) {
-        if (provider.isInModifyMode(ctx.event().getPlayer())) return;
+        if (isInModifyMode(ctx.event().getPlayer())) return;
         ctx.submitVerdict(MxCancellationState.HARD_DENY);
     }
 
@@ -340,7 +394,7 @@ public final class MxSpawnProtectionListener extends MxGlobalEventListener {
     public void cancelHologramEntityInteract(MxGlobalEventContext<MxSpawnPlayerInteractAtEntityEvent, MxWorldType> ctx) {
         var entity = ctx.event().getPaperEvent().getRightClicked();
         if (!(entity instanceof ArmorStand || entity instanceof TextDisplay || entity instanceof Interaction)) return;
-        if (provider.isInModifyMode(ctx.event().getPlayer())) return;
+        if (isInModifyMode(ctx.event().getPlayer())) return;
         ctx.submitVerdict(MxCancellationState.HARD_DENY);
     }
 
@@ -361,8 +415,17 @@ public final class MxSpawnProtectionListener extends MxGlobalEventListener {
         if (!name.endsWith("_BOAT") && !name.endsWith("_CHEST_BOAT")
                 && !name.endsWith("_MINECART") && !name.equals("MINECART")
                 && !name.endsWith("_SPAWN_EGG")) return;
-        if (provider.isInModifyMode(ctx.event().getPlayer())) return;
+        if (isInModifyMode(ctx.event().getPlayer())) return;
         ctx.submitVerdict(MxCancellationState.HARD_DENY);
     }
+
+    private boolean isInModifyMode(Player player) {
+        return modifyModeIndex != null ? modifyModeIndex.isInModifyMode(player) : provider.isInModifyMode(player);
+    }
+
+    private boolean hasModifyPlayers(World world) {
+        if (modifyModeIndex != null) return modifyModeIndex.hasModifyPlayers(world);
+        return world.getPlayers().stream().anyMatch(provider::isInModifyMode);
+    }
 }
 
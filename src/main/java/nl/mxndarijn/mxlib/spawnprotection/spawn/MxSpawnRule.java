@@ -0,0 +1,224 @@
+package nl.mxndarijn.mxlib.spawnprotection.spawn;
+
+import nl.mxndarijn.mxlib.mxeventbus.core.MxCancellationState;
+import nl.mxndarijn.mxlib.mxeventbus.global.MxWorldType;
+import org.bukkit.Material;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * One line of a spawn rule table: the verdict submitted for an event kind, optionally narrowed to
+ * some world types, to materials (by {@link MxMaterialCategory} or by name) and to players with
+ * or without spawn-modify mode.
+ *
+ * <p>In a rule file a rule is a map:</p>
+ * <pre>{@code
+ * - event: interact
+ *   worlds: [SPAWN]
+ *   category: containers
+ *   materials: [DRAGON_EGG]
+ *   modify-mode: false
+ *   verdict: HARD_DENY
+ * }</pre>
+ *
+ * <p>Only {@code event} and {@code verdict} are required. Omitted conditions match everything;
+ * {@code category} and {@code materials} together match the union of both.</p>
+ *
+ * <p>Rules only deny: the verdict is {@code SOFT_DENY}, {@code HARD_DENY} or {@code PASS}, the
+ * latter for exceptions that lift a denial of an earlier rule. Allowing is left to bus handlers,
+ * which is what lets the bridge skip rule lookups for events another plugin already cancelled.</p>
+ */
+public final class MxSpawnRule {
+
+    private final MxSpawnRuleEvent event;
+    private final Set<MxWorldType> worlds;
+    private final MxMaterialCategory category;
+    private final Set<Material> materials;
+    private final Boolean modifyMode;
+    private final MxCancellationState verdict;
+
+    /**
+     * Constructs a new {@code MxSpawnRule}.
+     *
+     * @param event      the event kind; must not be {@code null}
+     * @param worlds     the world types the rule applies to; empty or {@code null} for all
+     * @param category   the material category the rule applies to, or {@code null}
+     * @param materials  additional materials the rule applies to; empty or {@code null} for none.
+     *                   Without a category and materials the rule applies to every material.
+     * @param modifyMode {@code true} or {@code false} to apply only to players with or without
+     *                   spawn-modify mode, or {@code null} for both
+     * @param verdict    the verdict to submit; must not be {@code null} nor an allow verdict
+     * @throws IllegalArgumentException if {@code verdict} is {@code SOFT_ALLOW} or {@code HARD_ALLOW}
+     */
+    public MxSpawnRule(MxSpawnRuleEvent event, Collection<MxWorldType> worlds, MxMaterialCategory category,
+                       Collection<Material> materials, Boolean modifyMode, MxCancellationState verdict) {
+        if (event == null)   throw new IllegalArgumentException("event must not be null");
+        if (verdict == null) throw new IllegalArgumentException("verdict must not be null");
+        if (verdict.isAllowed()) throw new IllegalArgumentException("rules cannot allow, got verdict " + verdict);
+        this.event = event;
+        this.worlds = worlds == null || worlds.isEmpty()
+                ? EnumSet.allOf(MxWorldType.class) : EnumSet.copyOf(worlds);
+        this.category = category;
+        this.materials = materials == null || materials.isEmpty()
+                ? EnumSet.noneOf(Material.class) : EnumSet.copyOf(materials);
+        this.modifyMode = modifyMode;
+        this.verdict = verdict;
+    }
+
+    /**
+     * Parses a rule from its map form in a rule file.
+     *
+     * @param map        the rule map; must not be {@code null}
+     * @param categories resolves category names, e.g. {@link MxMaterialClassifier#find(String)};
+     *                   must not be {@code null}
+     * @return the rule; never {@code null}
+     * @throws IllegalArgumentException if a key is missing, a value is not recognised or the
+     *                                  verdict is an allow verdict
+     */
+    public static MxSpawnRule fromMap(Map<?, ?> map, Function<String, MxMaterialCategory> categories) {
+        Object eventKey = map.get("event");
+        if (eventKey == null) throw new IllegalArgumentException("event is missing");
+        MxSpawnRuleEvent event = MxSpawnRuleEvent.byKey(eventKey.toString());
+        if (event == null) throw new IllegalArgumentException("unknown event: " + eventKey);
+
+        Object verdictName = map.get("verdict");
+        if (verdictName == null) throw new IllegalArgumentException("verdict is missing");
+        MxCancellationState verdict = parseEnum(MxCancellationState.class, verdictName, "verdict");
+
+        Set<MxWorldType> worlds = EnumSet.noneOf(MxWorldType.class);
+        for (Object world : asList(map.get("worlds"))) {
+            worlds.add(parseEnum(MxWorldType.class, world, "world type"));
+        }
+
+        MxMaterialCategory category = null;
+        Object categoryName = map.get("category");
+        if (categoryName != null) {
+            category = categories.apply(categoryName.toString());
+            if (category == null) throw new IllegalArgumentException("unknown category: " + categoryName);
+        }
+
+        Set<Material> materials = EnumSet.noneOf(Material.class);
+        for (Object material : asList(map.get("materials"))) {
+            materials.add(parseEnum(Material.class, material, "material"));
+        }
+
+        Object modify = map.get("modify-mode");
+        Boolean modifyMode = modify == null ? null : Boolean.valueOf(modify.toString());
+
+        return new MxSpawnRule(event, worlds, category, materials, modifyMode, verdict);
+    }
+
+    /**
+     * Returns the event kind of this rule.
+     *
+     * @return the event kind; never {@code null}
+     */
+    public MxSpawnRuleEvent getEvent() {
+        return event;
+    }
+
+    /**
+     * Returns the world types this rule applies to.
+     *
+     * @return a copy; never empty
+     */
+    public Set<MxWorldType> getWorlds() {
+        return EnumSet.copyOf(worlds);
+    }
+
+    /**
+     * Returns the material category this rule applies to.
+     *
+     * @return the category, or {@code null} if the rule names none
+     */
+    public MxMaterialCategory getCategory() {
+        return category;
+    }
+
+    /**
+     * Returns the materials this rule names explicitly.
+     *
+     * @return a copy; empty if the rule names none
+     */
+    public Set<Material> getMaterials() {
+        return EnumSet.copyOf(materials);
+    }
+
+    /**
+     * Returns whether this rule is narrowed to some materials.
+     *
+     * @return {@code true} if a category or materials are set
+     */
+    public boolean hasMaterialCondition() {
+        return category != null || !materials.isEmpty();
+    }
+
+    /**
+     * Returns the modify-mode condition of this rule.
+     *
+     * @return {@code true} or {@code false} for players with or without modify mode, or
+     *         {@code null} if the rule applies to both
+     */
+    public Boolean getModifyMode() {
+        return modifyMode;
+    }
+
+    /**
+     * Returns the verdict this rule submits.
+     *
+     * @return the verdict; never {@code null}
+     */
+    public MxCancellationState getVerdict() {
+        return verdict;
+    }
+
+    /**
+     * Returns whether the world type is covered by this rule.
+     *
+     * @param worldType the world type
+     * @return {@code true} if the rule applies in that world type
+     */
+    boolean appliesIn(MxWorldType worldType) {
+        return worlds.contains(worldType);
+    }
+
+    /**
+     * Returns whether the material is covered by this rule's material condition.
+     *
+     * @param classifier the classifier that resolves the category
+     * @param material   the material
+     * @return {@code true} if the rule names the material or its category contains it
+     */
+    boolean appliesTo(MxMaterialClassifier classifier, Material material) {
+        return materials.contains(material) || (category != null && classifier.is(category, material));
+    }
+
+    @Override
+    public String toString() {
+        return "MxSpawnRule{" + event.getKey() + " " + worlds
+                + (category != null ? " category=" + category.getName() : "")
+                + (materials.isEmpty() ? "" : " materials=" + materials)
+                + (modifyMode != null ? " modify-mode=" + modifyMode : "")
+                + " -> " + verdict.name() + '}';
+    }
+
+    private static <T extends Enum<T>> T parseEnum(Class<T> type, Object value, String what) {
+        try {
+            return Enum.valueOf(type, value.toString().toUpperCase(Locale.ROOT).replace('-', '_'));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("unknown " + what + ": " + value);
+        }
+    }
+
+    private static Collection<?> asList(Object value) {
+        if (value == null) return List.of();
+        if (value instanceof Collection<?> collection) return collection;
+        return List.of(value);
+    }
+}
@@ -0,0 +1,209 @@
+package nl.mxndarijn.mxlib.spawnprotection.spawn;
+
+import nl.mxndarijn.mxlib.configfiles.MxConfigFileType;
+import nl.mxndarijn.mxlib.configfiles.MxConfigService;
+import nl.mxndarijn.mxlib.logger.MxLogLevel;
+import nl.mxndarijn.mxlib.logger.MxLogger;
+import nl.mxndarijn.mxlib.logger.MxStandardPrefix;
+import nl.mxndarijn.mxlib.mxeventbus.core.MxCancellationState;
+import nl.mxndarijn.mxlib.mxeventbus.global.MxGlobalEvent;
+import nl.mxndarijn.mxlib.mxeventbus.global.MxWorldType;
+import org.bukkit.Material;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Predicate;
+
+/**
+ * Declarative spawn protection: holds the current {@link MxSpawnRuleTable} and evaluates it for
+ * {@link MxSpawnBukkitBridge}, which submits the result as the initial verdict of every covered
+ * event before the bus runs its handlers.
+ *
+ * <p>Rules are loaded from the {@code rules} list of a YAML file (see {@link MxSpawnRule} for the
+ * format) or set in code. Every load compiles a new table and swaps it in atomically, so rules
+ * can be reloaded at runtime without touching any bus listener. Invalid rules are logged and
+ * skipped. {@link #defaultRules()} covers the static rules of {@link MxSpawnProtectionListener}:</p>
+ * <pre>{@code
+ * MxSpawnRuleEngine rules = new MxSpawnRuleEngine(classifier, modifyModeIndex::isInModifyMode);
+ * rules.load(MyConfigFile.SPAWN_RULES);
+ * bridge.setRuleEngine(rules);
+ * // later, e.g. from a reload command
+ * rules.load(MyConfigFile.SPAWN_RULES);
+ * }</pre>
+ *
+ * <p>The engine does not use the server, so it can be compiled and evaluated in a plain unit
+ * test. Loads should be made on the main thread; evaluation may happen on any thread.</p>
+ */
+public final class MxSpawnRuleEngine {
+
+    private final MxMaterialClassifier materials;
+    private final Predicate<Player> modifyMode;
+    private final List<Runnable> reloadListeners = new CopyOnWriteArrayList<>();
+
+    private volatile List<MxSpawnRule> rules = List.of();
+    private volatile MxSpawnRuleTable table = MxSpawnRuleTable.EMPTY;
+
+    /**
+     * Constructs a new {@code MxSpawnRuleEngine} without rules.
+     *
+     * @param materials  the classifier that resolves material categories; must not be {@code null}
+     * @param modifyMode tells whether a player has spawn-modify mode, e.g.
+     *                   {@link MxModifyModeIndex#isInModifyMode(Player)}; must not be {@code null}
+     */
+    public MxSpawnRuleEngine(MxMaterialClassifier materials, Predicate<Player> modifyMode) {
+        if (materials == null)  throw new IllegalArgumentException("materials must not be null");
+        if (modifyMode == null) throw new IllegalArgumentException("modifyMode must not be null");
+        this.materials = materials;
+        this.modifyMode = modifyMode;
+    }
+
+    /**
+     * Returns rules equivalent to the handlers of {@link MxSpawnProtectionListener} whose outcome
+     * depends only on the event, the world type, the material and modify mode. Handlers that check
+     * permissions or have side effects are not covered; hunger, for example, is left to
+     * {@link MxSpawnProtectionListener#preventHungerLoss}, which also refills the food level.
+     *
+     * @return a new list of rules; never {@code null}
+     */
+    public static List<MxSpawnRule> defaultRules() {
+        Set<MxWorldType> spawn = Set.of(MxWorldType.SPAWN);
+        MxCancellationState deny = MxCancellationState.HARD_DENY;
+        List<MxSpawnRule> rules = new ArrayList<>();
+        rules.add(new MxSpawnRule(MxSpawnRuleEvent.BLOCK_BREAK, spawn, null, null, false, deny));
+        rules.add(new MxSpawnRule(MxSpawnRuleEvent.BLOCK_PLACE, spawn, null, null, false, deny));
+        rules.add(new MxSpawnRule(MxSpawnRuleEvent.ENTITY_DAMAGE, spawn, null, null, null, deny));
+        rules.add(new MxSpawnRule(MxSpawnRuleEvent.ENTITY_DAMAGE_BY_ENTITY, spawn, null, null, false, deny));
+        rules.add(new MxSpawnRule(MxSpawnRuleEvent.INTERACT, spawn, MxMaterialCategory.POTTED_PLANTS,
+                List.of(Material.DRAGON_EGG), false, deny));
+        rules.add(new MxSpawnRule(MxSpawnRuleEvent.INTERACT, spawn, MxMaterialCategory.CONTAINERS, null, false, deny));
+        rules.add(new MxSpawnRule(MxSpawnRuleEvent.PORTAL,
+                Set.of(MxWorldType.SPAWN, MxWorldType.MAP, MxWorldType.PRESET), null, null, false, deny));
+        rules.add(new MxSpawnRule(MxSpawnRuleEvent.ARMOR_STAND_MANIPULATE, spawn, null, null, false, deny));
+        rules.add(new MxSpawnRule(MxSpawnRuleEvent.ENTITY_CHANGE_BLOCK, spawn, null, List.of(Material.FARMLAND), null, deny));
+        rules.add(new MxSpawnRule(MxSpawnRuleEvent.SIGN_CHANGE, spawn, null, null, false, deny));
+        return rules;
+    }
+
+    /**
+     * Replaces the rules and publishes the compiled table.
+     *
+     * @param rules the rules, in order; must not be {@code null}
+     */
+    public void setRules(List<MxSpawnRule> rules) {
+        if (rules == null) throw new IllegalArgumentException("rules must not be null");
+        List<MxSpawnRule> copy = List.copyOf(rules);
+        MxSpawnRuleTable compiled = MxSpawnRuleTable.compile(copy, materials);
+        this.rules = copy;
+        this.table = compiled;
+        notifyReloadListeners();
+    }
+
+    /**
+     * Loads the rules from the {@code rules} list of a configuration section, replacing the
+     * current ones. Invalid rules are logged and skipped.
+     *
+     * @param section the section; must not be {@code null}
+     * @return the number of rules loaded
+     */
+    public int load(ConfigurationSection section) {
+        if (section == null) throw new IllegalArgumentException("section must not be null");
+        List<MxSpawnRule> loaded = new ArrayList<>();
+        List<Map<?, ?>> maps = section.getMapList("rules");
+        for (int i = 0; i < maps.size(); i++) {
+            try {
+                loaded.add(MxSpawnRule.fromMap(maps.get(i), materials::find));
+            } catch (IllegalArgumentException e) {
+                MxLogger.logMessage(MxLogLevel.WARNING, MxStandardPrefix.CONFIG_FILES,
+                        "Skipping spawn rule " + (i + 1) + ": " + e.getMessage());
+            }
+        }
+        setRules(loaded);
+        MxLogger.logMessage(MxLogLevel.DEBUG, MxStandardPrefix.CONFIG_FILES,
+                "Loaded " + loaded.size() + " spawn rule(s)");
+        return loaded.size();
+    }
+
+    /**
+     * Reads the rules from a config file registered with {@link MxConfigService}, replacing the
+     * current ones. The file is read from disk again on every call, so this also reloads it.
+     *
+     * @param type the config file; must not be {@code null}
+     * @return the number of rules loaded
+     */
+    public int load(MxConfigFileType type) {
+        if (type == null) throw new IllegalArgumentException("type must not be null");
+        return load(YamlConfiguration.loadConfiguration(MxConfigService.getInstance().get(type).getFile()));
+    }
+
+    /**
+     * Compiles the current rules again, e.g. after the classifier's categories changed.
+     */
+    public void recompile() {
+        setRules(rules);
+    }
+
+    /**
+     * Returns the current rules.
+     *
+     * @return an unmodifiable list; never {@code null}
+     */
+    public List<MxSpawnRule> getRules() {
+        return rules;
+    }
+
+    /**
+     * Returns the current compiled table.
+     *
+     * @return the table; never {@code null}
+     */
+    public MxSpawnRuleTable getTable() {
+        return table;
+    }
+
+    /**
+     * Returns the verdict the current rules give an event.
+     *
+     * @param kind  the kind of the event; must not be {@code null}
+     * @param event the event; must not be {@code null}
+     * @return the verdict, or {@code null} if no rule covers the event
+     */
+    public MxCancellationState evaluate(MxSpawnRuleEvent kind, MxGlobalEvent<MxWorldType> event) {
+        return table.evaluate(kind, event, modifyMode);
+    }
+
+    /**
+     * Adds a callback that runs after every change of the rules, on the thread that made it.
+     *
+     * @param listener the callback; must not be {@code null}
+     */
+    public void addReloadListener(Runnable listener) {
+        if (listener == null) throw new IllegalArgumentException("listener must not be null");
+        reloadListeners.add(listener);
+    }
+
+    /**
+     * Removes a callback previously added with {@link #addReloadListener}.
+     *
+     * @param listener the callback to remove; ignored if {@code null} or not registered
+     */
+    public void removeReloadListener(Runnable listener) {
+        reloadListeners.remove(listener);
+    }
+
+    private void notifyReloadListeners() {
+        for (Runnable listener : reloadListeners) {
+            try {
+                listener.run();
+            } catch (Exception e) {
+                MxLogger.logMessage(MxLogLevel.ERROR, MxStandardPrefix.CONFIG_FILES,
+                        "Spawn rule reload listener threw an exception: " + e.getMessage());
+            }
+        }
+    }
+}
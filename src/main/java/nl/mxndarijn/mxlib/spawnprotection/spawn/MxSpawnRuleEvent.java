@@ -0,0 +1,199 @@
+package nl.mxndarijn.mxlib.spawnprotection.spawn;
+
+import nl.mxndarijn.mxlib.mxeventbus.global.MxGlobalEvent;
+import nl.mxndarijn.mxlib.spawnprotection.events.pipeline.events.*;
+import org.bukkit.Material;
+import org.bukkit.block.Block;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * The spawn events a {@link MxSpawnRule} can target, with the key used for them in rule files.
+ *
+ * <p>Each kind knows how to read the two facts a rule can be conditioned on from its wrapper
+ * event: the player whose modify mode is checked, and the material the event is about. Kinds
+ * without a player (entity spawns) never match a rule that requires modify mode; kinds without a
+ * material never match a rule that names a category or materials.</p>
+ */
+public enum MxSpawnRuleEvent {
+
+    /** {@link MxSpawnBlockBreakEvent}; material is the broken block. */
+    BLOCK_BREAK(MxSpawnBlockBreakEvent.class,
+            e -> ((MxSpawnBlockBreakEvent) e).getPlayer(),
+            e -> ((MxSpawnBlockBreakEvent) e).getPaperEvent().getBlock().getType()),
+
+    /** {@link MxSpawnBlockPlaceEvent}; material is the placed block. */
+    BLOCK_PLACE(MxSpawnBlockPlaceEvent.class,
+            e -> ((MxSpawnBlockPlaceEvent) e).getPlayer(),
+            e -> ((MxSpawnBlockPlaceEvent) e).getPaperEvent().getBlockPlaced().getType()),
+
+    /** {@link MxSpawnInventoryOpenEvent}; no material. */
+    INVENTORY_OPEN(MxSpawnInventoryOpenEvent.class,
+            e -> ((MxSpawnInventoryOpenEvent) e).getPlayer(),
+            e -> null),
+
+    /** {@link MxSpawnEntityDamageEvent}; the player is the damaged entity, if it is one. */
+    ENTITY_DAMAGE(MxSpawnEntityDamageEvent.class,
+            e -> asPlayer(((MxSpawnEntityDamageEvent) e).getPaperEvent().getEntity()),
+            e -> null),
+
+    /** {@link MxSpawnEntityDamageByEntityEvent}; the player is the damager, if it is one. */
+    ENTITY_DAMAGE_BY_ENTITY(MxSpawnEntityDamageByEntityEvent.class,
+            e -> asPlayer(((MxSpawnEntityDamageByEntityEvent) e).getPaperEvent().getDamager()),
+            e -> null),
+
+    /** {@link MxSpawnPlayerDropItemEvent}; material is the dropped item. */
+    DROP_ITEM(MxSpawnPlayerDropItemEvent.class,
+            e -> ((MxSpawnPlayerDropItemEvent) e).getPlayer(),
+            e -> ((MxSpawnPlayerDropItemEvent) e).getPaperEvent().getItemDrop().getItemStack().getType()),
+
+    /** {@link MxSpawnEntityPickupItemEvent}; material is the picked up item. */
+    PICKUP_ITEM(MxSpawnEntityPickupItemEvent.class,
+            e -> asPlayer(((MxSpawnEntityPickupItemEvent) e).getPaperEvent().getEntity()),
+            e -> ((MxSpawnEntityPickupItemEvent) e).getPaperEvent().getItem().getItemStack().getType()),
+
+    /** {@link MxSpawnInventoryClickEvent}; material is the clicked item, if any. */
+    INVENTORY_CLICK(MxSpawnInventoryClickEvent.class,
+            e -> asPlayer(((MxSpawnInventoryClickEvent) e).getPaperEvent().getWhoClicked()),
+            e -> typeOf(((MxSpawnInventoryClickEvent) e).getPaperEvent().getCurrentItem())),
+
+    /** {@link MxSpawnFoodLevelChangeEvent}; no material. */
+    FOOD_LEVEL_CHANGE(MxSpawnFoodLevelChangeEvent.class,
+            e -> asPlayer(((MxSpawnFoodLevelChangeEvent) e).getPaperEvent().getEntity()),
+            e -> null),
+
+    /** {@link MxSpawnPlayerInteractEvent}; material is the clicked block, if any. */
+    INTERACT(MxSpawnPlayerInteractEvent.class,
+            e -> ((MxSpawnPlayerInteractEvent) e).getPlayer(),
+            e -> typeOf(((MxSpawnPlayerInteractEvent) e).getPaperEvent().getClickedBlock())),
+
+    /** {@link MxSpawnPlayerInteractAtEntityEvent}; no material. */
+    INTERACT_AT_ENTITY(MxSpawnPlayerInteractAtEntityEvent.class,
+            e -> ((MxSpawnPlayerInteractAtEntityEvent) e).getPlayer(),
+            e -> null),
+
+    /** {@link MxSpawnPlayerPortalEvent}; no material. */
+    PORTAL(MxSpawnPlayerPortalEvent.class,
+            e -> ((MxSpawnPlayerPortalEvent) e).getPlayer(),
+            e -> null),
+
+    /** {@link MxSpawnPlayerArmorStandManipulateEvent}; no material. */
+    ARMOR_STAND_MANIPULATE(MxSpawnPlayerArmorStandManipulateEvent.class,
+            e -> ((MxSpawnPlayerArmorStandManipulateEvent) e).getPlayer(),
+            e -> null),
+
+    /** {@link MxSpawnEntityChangeBlockEvent}; material is the changed block. */
+    ENTITY_CHANGE_BLOCK(MxSpawnEntityChangeBlockEvent.class,
+            e -> asPlayer(((MxSpawnEntityChangeBlockEvent) e).getPaperEvent().getEntity()),
+            e -> ((MxSpawnEntityChangeBlockEvent) e).getPaperEvent().getBlock().getType()),
+
+    /** {@link MxSpawnEntitySpawnEvent}; no player and no material. */
+    ENTITY_SPAWN(MxSpawnEntitySpawnEvent.class,
+            e -> null,
+            e -> null),
+
+    /** {@link MxSpawnSignChangeEvent}; material is the sign block. */
+    SIGN_CHANGE(MxSpawnSignChangeEvent.class,
+            e -> ((MxSpawnSignChangeEvent) e).getPlayer(),
+            e -> ((MxSpawnSignChangeEvent) e).getPaperEvent().getBlock().getType());
+
+    private static final Map<Class<?>, MxSpawnRuleEvent> BY_TYPE = new HashMap<>();
+    private static final Map<String, MxSpawnRuleEvent> BY_KEY = new HashMap<>();
+
+    static {
+        for (MxSpawnRuleEvent kind : values()) {
+            BY_TYPE.put(kind.eventType, kind);
+            BY_KEY.put(kind.key, kind);
+        }
+    }
+
+    private final Class<? extends MxGlobalEvent<?>> eventType;
+    private final String key;
+    private final Function<MxGlobalEvent<?>, Player> subject;
+    private final Function<MxGlobalEvent<?>, Material> material;
+
+    MxSpawnRuleEvent(Class<? extends MxGlobalEvent<?>> eventType,
+                     Function<MxGlobalEvent<?>, Player> subject,
+                     Function<MxGlobalEvent<?>, Material> material) {
+        this.eventType = eventType;
+        this.key = name().toLowerCase(Locale.ROOT).replace('_', '-');
+        this.subject = subject;
+        this.material = material;
+    }
+
+    /**
+     * Returns the kind that handles the given wrapper event class.
+     *
+     * @param eventType the wrapper event class
+     * @return the kind, or {@code null} if rules cannot target that event
+     */
+    public static MxSpawnRuleEvent of(Class<?> eventType) {
+        return BY_TYPE.get(eventType);
+    }
+
+    /**
+     * Returns the kind with the given rule-file key, e.g. {@code block-break}.
+     *
+     * @param key the key; matched ignoring case, with {@code _} accepted for {@code -}
+     * @return the kind, or {@code null} if there is none with that key
+     */
+    public static MxSpawnRuleEvent byKey(String key) {
+        return BY_KEY.get(key.toLowerCase(Locale.ROOT).replace('_', '-'));
+    }
+
+    /**
+     * Returns the wrapper event class of this kind.
+     *
+     * @return the event class; never {@code null}
+     */
+    public Class<? extends MxGlobalEvent<?>> getEventType() {
+        return eventType;
+    }
+
+    /**
+     * Returns the key of this kind in rule files, e.g. {@code block-break}.
+     *
+     * @return the key; never {@code null}
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Returns the player whose modify mode decides rules on the given event.
+     *
+     * @param event an event of this kind; must not be {@code null}
+     * @return the player, or {@code null} if the event has none
+     */
+    public Player subjectOf(MxGlobalEvent<?> event) {
+        return subject.apply(event);
+    }
+
+    /**
+     * Returns the material the given event is about.
+     *
+     * @param event an event of this kind; must not be {@code null}
+     * @return the material, or {@code null} if the event has none
+     */
+    public Material materialOf(MxGlobalEvent<?> event) {
+        return material.apply(event);
+    }
+
+    private static Player asPlayer(Entity entity) {
+        return entity instanceof Player player ? player : null;
+    }
+
+    private static Material typeOf(Block block) {
+        return block == null ? null : block.getType();
+    }
+
+    private static Material typeOf(ItemStack item) {
+        return item == null ? null : item.getType();
+    }
+}
@@ -0,0 +1,187 @@
+package nl.mxndarijn.mxlib.spawnprotection.spawn;
+
+import nl.mxndarijn.mxlib.mxeventbus.core.MxCancellationState;
+import nl.mxndarijn.mxlib.mxeventbus.global.MxGlobalEvent;
+import nl.mxndarijn.mxlib.mxeventbus.global.MxWorldType;
+import org.bukkit.Material;
+import org.bukkit.entity.Player;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * An immutable, compiled list of {@link MxSpawnRule}s.
+ *
+ * <p>Compiling expands every rule into a dense {@code byte} array per {@link MxSpawnRuleEvent},
+ * indexed by world type, modify-mode flag and material ordinal, so evaluating an event is one
+ * array read however many rules there are. Material categories are resolved against the
+ * {@link MxMaterialClassifier} at compile time; kinds whose rules name no materials get a single
+ * column, and the modify-mode check is only made for kinds that have a rule depending on it.</p>
+ *
+ * <p>Rules are applied in list order and a later rule overwrites the cells of an earlier one, so
+ * general rules go first and exceptions after them. A cell no rule covers yields no verdict.</p>
+ */
+public final class MxSpawnRuleTable {
+
+    /** A table without rules. */
+    public static final MxSpawnRuleTable EMPTY = compile(List.of(), null);
+
+    private static final MxCancellationState[] STATES = MxCancellationState.values();
+    private static final Material[] MATERIALS = Material.values();
+    private static final int KINDS = MxSpawnRuleEvent.values().length;
+    private static final int WORLDS = MxWorldType.values().length;
+    private static final byte NONE = -1;
+
+    /** Per kind: verdict ordinals, or {@code null} if the kind has no rules. */
+    private final byte[][] cells = new byte[KINDS][];
+    /** Per kind: number of material columns; 1 if no rule of the kind names materials. */
+    private final int[] widths = new int[KINDS];
+    private final boolean[] modifySensitive = new boolean[KINDS];
+    private final boolean[][] covered = new boolean[KINDS][WORLDS];
+    private final int ruleCount;
+
+    private MxSpawnRuleTable(int ruleCount) {
+        this.ruleCount = ruleCount;
+    }
+
+    /**
+     * Compiles a list of rules.
+     *
+     * @param rules      the rules, in order; must not be {@code null}
+     * @param classifier resolves the material categories of the rules; may be {@code null} only if
+     *                   no rule names a category
+     * @return the compiled table; never {@code null}
+     * @throws IllegalArgumentException if a rule names a category and no classifier is given
+     */
+    public static MxSpawnRuleTable compile(List<MxSpawnRule> rules, MxMaterialClassifier classifier) {
+        if (rules == null) throw new IllegalArgumentException("rules must not be null");
+        MxSpawnRuleTable table = new MxSpawnRuleTable(rules.size());
+        Arrays.fill(table.widths, 1);
+        for (MxSpawnRule rule : rules) {
+            if (rule.getCategory() != null && classifier == null) {
+                throw new IllegalArgumentException("classifier must not be null for " + rule);
+            }
+            int k = rule.getEvent().ordinal();
+            if (rule.hasMaterialCondition()) table.widths[k] = MATERIALS.length + 1;
+            if (rule.getModifyMode() != null) table.modifySensitive[k] = true;
+        }
+        for (MxSpawnRule rule : rules) {
+            table.apply(rule, classifier);
+        }
+        return table;
+    }
+
+    private void apply(MxSpawnRule rule, MxMaterialClassifier classifier) {
+        int k = rule.getEvent().ordinal();
+        int width = widths[k];
+        if (cells[k] == null) {
+            cells[k] = new byte[WORLDS * 2 * width];
+            Arrays.fill(cells[k], NONE);
+        }
+
+        boolean[] columns = new boolean[width];
+        if (rule.hasMaterialCondition()) {
+            for (Material material : MATERIALS) {
+                columns[material.ordinal() + 1] = rule.appliesTo(classifier, material);
+            }
+        } else {
+            Arrays.fill(columns, true);
+        }
+
+        byte verdict = (byte) rule.getVerdict().ordinal();
+        Boolean modifyMode = rule.getModifyMode();
+        for (MxWorldType worldType : MxWorldType.values()) {
+            if (!rule.appliesIn(worldType)) continue;
+            covered[k][worldType.ordinal()] = true;
+            for (int modify = 0; modify < 2; modify++) {
+                if (modifyMode != null && modifyMode != (modify == 1)) continue;
+                int base = (worldType.ordinal() * 2 + modify) * width;
+                for (int column = 0; column < width; column++) {
+                    if (columns[column]) cells[k][base + column] = verdict;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the verdict the rules give an event.
+     *
+     * @param kind       the kind of the event; must not be {@code null}
+     * @param event      the event; must not be {@code null}
+     * @param modifyMode tells whether a player has spawn-modify mode; only asked if a rule of the
+     *                   kind depends on it; must not be {@code null}
+     * @return the verdict, or {@code null} if no rule covers the event
+     */
+    public MxCancellationState evaluate(MxSpawnRuleEvent kind, MxGlobalEvent<MxWorldType> event,
+                                        Predicate<Player> modifyMode) {
+        int k = kind.ordinal();
+        byte[] c = cells[k];
+        if (c == null) return null;
+        int w = event.worldType().ordinal();
+        if (!covered[k][w]) return null;
+        int width = widths[k];
+        int row = w * 2;
+        if (modifySensitive[k]) {
+            Player player = kind.subjectOf(event);
+            if (player != null && modifyMode.test(player)) row++;
+        }
+        int column = 0;
+        if (width > 1) {
+            Material material = kind.materialOf(event);
+            if (material != null) column = material.ordinal() + 1;
+        }
+        byte verdict = c[row * width + column];
+        return verdict == NONE ? null : STATES[verdict];
+    }
+
+    /**
+     * Returns the verdict the rules give an event with the given facts.
+     *
+     * @param kind      the event kind; must not be {@code null}
+     * @param worldType the world type; must not be {@code null}
+     * @param modify    whether the player has spawn-modify mode
+     * @param material  the material of the event, or {@code null} if it has none
+     * @return the verdict, or {@code null} if no rule covers these facts
+     */
+    public MxCancellationState lookup(MxSpawnRuleEvent kind, MxWorldType worldType, boolean modify, Material material) {
+        int k = kind.ordinal();
+        byte[] c = cells[k];
+        if (c == null) return null;
+        int width = widths[k];
+        int row = worldType.ordinal() * 2 + (modify && modifySensitive[k] ? 1 : 0);
+        int column = width > 1 && material != null ? material.ordinal() + 1 : 0;
+        byte verdict = c[row * width + column];
+        return verdict == NONE ? null : STATES[verdict];
+    }
+
+    /**
+     * Returns whether any rule covers the given kind in the given world type.
+     *
+     * @param kind      the event kind, or {@code null}
+     * @param worldType the world type; must not be {@code null}
+     * @return {@code true} if events of the kind in that world type must be evaluated
+     */
+    public boolean covers(MxSpawnRuleEvent kind, MxWorldType worldType) {
+        return kind != null && covered[kind.ordinal()][worldType.ordinal()];
+    }
+
+    /**
+     * Returns whether any rule covers the given kind.
+     *
+     * @param kind the event kind, or {@code null}
+     * @return {@code true} if the kind has at least one rule
+     */
+    public boolean covers(MxSpawnRuleEvent kind) {
+        return kind != null && cells[kind.ordinal()] != null;
+    }
+
+    /**
+     * Returns the number of rules this table was compiled from.
+     *
+     * @return the rule count
+     */
+    public int getRuleCount() {
+        return ruleCount;
+    }
+}
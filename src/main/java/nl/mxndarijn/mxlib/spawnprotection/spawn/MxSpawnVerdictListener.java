@@ -0,0 +1,27 @@
+package nl.mxndarijn.mxlib.spawnprotection.spawn;
+
+import nl.mxndarijn.mxlib.mxeventbus.core.MxCancellationState;
+import nl.mxndarijn.mxlib.mxeventbus.global.MxGlobalEvent;
+import nl.mxndarijn.mxlib.mxeventbus.global.MxWorldType;
+
+/**
+ * Callback notified by {@link MxSpawnBukkitBridge} after a spawn event went through the bus and
+ * its verdict was written back onto the Bukkit event.
+ *
+ * <p>Use it to observe final verdicts (logging, metrics, feedback messages) without registering
+ * a MONITOR handler on the bus. It runs on the thread that posted the event, right after
+ * dispatch, so it should be cheap.</p>
+ *
+ * @see MxSpawnBukkitBridge#addVerdictListener(MxSpawnVerdictListener)
+ */
+@FunctionalInterface
+public interface MxSpawnVerdictListener {
+
+    /**
+     * Called once per dispatched spawn event.
+     *
+     * @param event the wrapper event that was posted; never {@code null}
+     * @param state the resolved cancellation state; never {@code null}
+     */
+    void verdictResolved(MxGlobalEvent<MxWorldType> event, MxCancellationState state);
+}
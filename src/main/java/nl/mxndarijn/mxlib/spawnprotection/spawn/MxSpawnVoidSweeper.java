@@ -0,0 +1,118 @@
+package nl.mxndarijn.mxlib.spawnprotection.spawn;
+
+import nl.mxndarijn.mxlib.mxeventbus.global.MxWorldType;
+import nl.mxndarijn.mxlib.spawnprotection.events.base.MxSpawnEventRegistry;
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+/**
+ * Void rescue on a fixed interval, as an alternative to checking every player move.
+ *
+ * <p>Every {@code intervalTicks} the sweeper walks the players of all spawn worlds and teleports
+ * those below the void threshold back to spawn through
+ * {@link MxISpawnProtectionProvider#teleportToSpawn(Player)}. Combined with
+ * {@link MxMoveFilter#NONE} on the {@link MxSpawnBukkitBridge}, no move event reaches the bus at
+ * all; a falling player is rescued at most {@code intervalTicks} later.</p>
+ *
+ * <p>Runs on the main thread. Not thread-safe.</p>
+ */
+public final class MxSpawnVoidSweeper implements Runnable {
+
+    private final MxISpawnProtectionProvider provider;
+    private final double voidY;
+    private BukkitTask task;
+    private long sweeps;
+    private long playersChecked;
+    private long rescues;
+
+    /**
+     * Creates a sweeper using {@link MxSpawnProtectionListener#VOID_RESCUE_Y} as threshold.
+     *
+     * @param provider the provider that teleports players to spawn; must not be {@code null}
+     */
+    public MxSpawnVoidSweeper(MxISpawnProtectionProvider provider) {
+        this(provider, MxSpawnProtectionListener.VOID_RESCUE_Y);
+    }
+
+    /**
+     * Creates a sweeper.
+     *
+     * @param provider the provider that teleports players to spawn; must not be {@code null}
+     * @param voidY    the y coordinate below which players are rescued
+     */
+    public MxSpawnVoidSweeper(MxISpawnProtectionProvider provider, double voidY) {
+        if (provider == null) throw new IllegalArgumentException("provider must not be null");
+        this.provider = provider;
+        this.voidY = voidY;
+    }
+
+    /**
+     * Schedules the sweep. Does nothing if it is already running.
+     *
+     * @param plugin        the owning plugin; must not be {@code null}
+     * @param intervalTicks ticks between sweeps; must be positive
+     */
+    public void start(Plugin plugin, long intervalTicks) {
+        if (plugin == null) throw new IllegalArgumentException("plugin must not be null");
+        if (intervalTicks <= 0) throw new IllegalArgumentException("intervalTicks must be positive");
+        if (task != null) return;
+        task = Bukkit.getScheduler().runTaskTimer(plugin, this, intervalTicks, intervalTicks);
+    }
+
+    /**
+     * Cancels the scheduled sweep. Does nothing if it is not running.
+     */
+    public void stop() {
+        if (task == null) return;
+        task.cancel();
+        task = null;
+    }
+
+    /**
+     * Sweeps all spawn worlds once.
+     */
+    @Override
+    public void run() {
+        sweeps++;
+        for (World world : Bukkit.getWorlds()) {
+            if (MxSpawnEventRegistry.getWorldTypeResolver().resolve(world) != MxWorldType.SPAWN) continue;
+            for (Player player : world.getPlayers()) {
+                playersChecked++;
+                if (player.getLocation().getY() < voidY) {
+                    rescues++;
+                    provider.teleportToSpawn(player);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns how many sweeps have run.
+     *
+     * @return the sweep count
+     */
+    public long getSweeps() {
+        return sweeps;
+    }
+
+    /**
+     * Returns how many player positions the sweeps have checked in total.
+     *
+     * @return the number of checks
+     */
+    public long getPlayersChecked() {
+        return playersChecked;
+    }
+
+    /**
+     * Returns how many players the sweeps have teleported back to spawn.
+     *
+     * @return the rescue count
+     */
+    public long getRescues() {
+        return rescues;
+    }
+}
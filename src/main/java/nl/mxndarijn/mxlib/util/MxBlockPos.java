@@ -0,0 +1,86 @@
+package nl.mxndarijn.mxlib.util;
+
+import org.bukkit.block.Block;
+
+/**
+ * Packs block coordinates into a single {@code long}, for use as a primitive map key
+ * (see {@link MxLongObjectMap}).
+ *
+ * <p>The layout matches Minecraft's own block position encoding: 26 bits of x, 26 bits of z and
+ * 12 bits of y, each two's complement. That covers x and z within ±33,554,431 and y within
+ * -2048..2047, which includes every buildable height. Keys do not include the world; keep one map
+ * per world.</p>
+ */
+public final class MxBlockPos {
+
+    private static final int XZ_BITS = 26;
+    private static final int Y_BITS = 12;
+    private static final int X_SHIFT = Y_BITS + XZ_BITS;
+    private static final int Z_SHIFT = Y_BITS;
+    private static final long XZ_MASK = (1L << XZ_BITS) - 1;
+    private static final long Y_MASK = (1L << Y_BITS) - 1;
+
+    private MxBlockPos() {}
+
+    /**
+     * Packs the given coordinates.
+     *
+     * @param x the block x coordinate
+     * @param y the block y coordinate
+     * @param z the block z coordinate
+     * @return the packed key
+     */
+    public static long pack(int x, int y, int z) {
+        return ((x & XZ_MASK) << X_SHIFT) | ((z & XZ_MASK) << Z_SHIFT) | (y & Y_MASK);
+    }
+
+    /**
+     * Packs the coordinates of the given block.
+     *
+     * @param block the block; must not be {@code null}
+     * @return the packed key
+     */
+    public static long pack(Block block) {
+        return pack(block.getX(), block.getY(), block.getZ());
+    }
+
+    /**
+     * Returns the x coordinate of a packed key.
+     *
+     * @param key the packed key
+     * @return the block x coordinate
+     */
+    public static int x(long key) {
+        return (int) (key >> X_SHIFT);
+    }
+
+    /**
+     * Returns the y coordinate of a packed key.
+     *
+     * @param key the packed key
+     * @return the block y coordinate
+     */
+    public static int y(long key) {
+        return (int) (key << (64 - Y_BITS) >> (64 - Y_BITS));
+    }
+
+    /**
+     * Returns the z coordinate of a packed key.
+     *
+     * @param key the packed key
+     * @return the block z coordinate
+     */
+    public static int z(long key) {
+        return (int) (key << (64 - X_SHIFT) >> (64 - XZ_BITS));
+    }
+
+    /**
+     * Returns a key identifying the chunk that contains the packed block position.
+     *
+     * @param key the packed block key
+     * @return the packed chunk key
+     */
+    public static long chunkKey(long key) {
+        return ((long) (x(key) >> 4) << 32) | ((z(key) >> 4) & 0xFFFFFFFFL);
+    }
+}
@@ -0,0 +1,231 @@
+package nl.mxndarijn.mxlib.util;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash map from primitive {@code long} keys to object values.
+ *
+ * <p>Keys are stored unboxed in a {@code long[]} with linear probing, so lookups on hot paths
+ * (such as packed {@link MxBlockPos} keys) neither box the key nor allocate entry objects.
+ * Removal uses backward shifting, so the table never accumulates tombstones.
+ * {@code null} values are not supported.</p>
+ *
+ * <p>Not thread-safe.</p>
+ *
+ * @param <V> the value type
+ */
+public final class MxLongObjectMap<V> {
+
+    private static final int MIN_CAPACITY = 8;
+
+    private long[] keys;
+    private Object[] values;
+    private int mask;
+    private int size;
+    private int resizeAt;
+
+    /**
+     * Constructs an empty {@code MxLongObjectMap}.
+     */
+    public MxLongObjectMap() {
+        this(MIN_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty {@code MxLongObjectMap} sized for the given number of entries.
+     *
+     * @param expectedSize the number of entries to hold without resizing; must not be negative
+     */
+    public MxLongObjectMap(int expectedSize) {
+        if (expectedSize < 0) throw new IllegalArgumentException("expectedSize must not be negative");
+        allocate(tableSizeFor(expectedSize));
+    }
+
+    /**
+     * Returns the value mapped to {@code key}.
+     *
+     * @param key the key
+     * @return the value, or {@code null} if the key is not mapped
+     */
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        int i = indexOf(key);
+        return i < 0 ? null : (V) values[i];
+    }
+
+    /**
+     * Returns whether {@code key} is mapped.
+     *
+     * @param key the key
+     * @return {@code true} if the key has a value
+     */
+    public boolean containsKey(long key) {
+        return indexOf(key) >= 0;
+    }
+
+    /**
+     * Maps {@code key} to {@code value}.
+     *
+     * @param key   the key
+     * @param value the value; must not be {@code null}
+     * @return the previous value, or {@code null} if the key was not mapped
+     */
+    @SuppressWarnings("unchecked")
+    public V put(long key, V value) {
+        if (value == null) throw new IllegalArgumentException("value must not be null");
+        int i = slot(key);
+        while (values[i] != null) {
+            if (keys[i] == key) {
+                V previous = (V) values[i];
+                values[i] = value;
+                return previous;
+            }
+            i = (i + 1) & mask;
+        }
+        keys[i] = key;
+        values[i] = value;
+        if (++size > resizeAt) allocateAndRehash(keys.length << 1);
+        return null;
+    }
+
+    /**
+     * Maps {@code key} to {@code value} unless the key is already mapped.
+     *
+     * @param key   the key
+     * @param value the value; must not be {@code null}
+     * @return the existing value, or {@code null} if {@code value} was inserted
+     */
+    public V putIfAbsent(long key, V value) {
+        V existing = get(key);
+        return existing != null ? existing : put(key, value);
+    }
+
+    /**
+     * Removes the mapping for {@code key}.
+     *
+     * @param key the key
+     * @return the removed value, or {@code null} if the key was not mapped
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(long key) {
+        int i = indexOf(key);
+        if (i < 0) return null;
+        V removed = (V) values[i];
+        shiftBack(i);
+        size--;
+        return removed;
+    }
+
+    /**
+     * Returns the number of mappings.
+     *
+     * @return the size
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns whether the map has no mappings.
+     *
+     * @return {@code true} if the map is empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all mappings, keeping the current capacity.
+     */
+    public void clear() {
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    /**
+     * Calls {@code action} for every mapping. The map must not be modified during iteration.
+     *
+     * @param action the action to run; must not be {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super V> action) {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) action.accept(keys[i], (V) values[i]);
+        }
+    }
+
+    /**
+     * Receives one mapping of a {@link MxLongObjectMap}.
+     *
+     * @param <V> the value type
+     */
+    @FunctionalInterface
+    public interface Consumer<V> {
+
+        /**
+         * Accepts one mapping.
+         *
+         * @param key   the key
+         * @param value the value; never {@code null}
+         */
+        void accept(long key, V value);
+    }
+
+    private int indexOf(long key) {
+        int i = slot(key);
+        while (values[i] != null) {
+            if (keys[i] == key) return i;
+            i = (i + 1) & mask;
+        }
+        return -1;
+    }
+
+    private int slot(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    /**
+     * Closes the gap at {@code gap} by moving later entries of the same probe run back into it.
+     */
+    private void shiftBack(int gap) {
+        int i = gap;
+        while (true) {
+            i = (i + 1) & mask;
+            if (values[i] == null) break;
+            int home = slot(keys[i]);
+            // move the entry unless its home slot lies cyclically in (gap, i]
+            if (((i - home) & mask) >= ((i - gap) & mask)) {
+                keys[gap] = keys[i];
+                values[gap] = values[i];
+                gap = i;
+            }
+        }
+        values[gap] = null;
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        resizeAt = capacity - (capacity >>> 2);
+    }
+
+    private void allocateAndRehash(int capacity) {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(capacity);
+        for (int j = 0; j < oldValues.length; j++) {
+            if (oldValues[j] == null) continue;
+            int i = slot(oldKeys[j]);
+            while (values[i] != null) i = (i + 1) & mask;
+            keys[i] = oldKeys[j];
+            values[i] = oldValues[j];
+        }
+    }
+
+    private static int tableSizeFor(int expectedSize) {
+        int needed = (int) Math.min(1L << 30, (long) Math.ceil(expectedSize / 0.75) + 1);
+        return Math.max(MIN_CAPACITY, Integer.highestOneBit(needed - 1) << 1);
+    }
+}
@@ -0,0 +1,119 @@
+package nl.mxndarijn.mxlib.util;
+
+import org.bukkit.Material;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.function.Predicate;
+
+/**
+ * Immutable set of {@link Material}s stored as a bitset indexed by {@link Material#ordinal()}.
+ *
+ * <p>A membership test is one array read and a bit mask, with no hashing and no boxing, which makes
+ * it suitable for classifying blocks on every interact event. Build sets once, e.g. at startup, and
+ * share them; instances are thread-safe.</p>
+ */
+public final class MxMaterialSet {
+
+    private static final Material[] MATERIALS = Material.values();
+    private static final MxMaterialSet EMPTY = new MxMaterialSet(new long[(MATERIALS.length + 63) >>> 6]);
+
+    private final long[] bits;
+
+    private MxMaterialSet(long[] bits) {
+        this.bits = bits;
+    }
+
+    /**
+     * Returns the empty set.
+     *
+     * @return the empty set; never {@code null}
+     */
+    public static MxMaterialSet empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns the set of all materials matching the given predicate. The predicate is evaluated
+     * once per material.
+     *
+     * @param predicate the membership rule; must not be {@code null}
+     * @return the set; never {@code null}
+     */
+    public static MxMaterialSet of(Predicate<Material> predicate) {
+        if (predicate == null) throw new IllegalArgumentException("predicate must not be null");
+        long[] bits = new long[EMPTY.bits.length];
+        for (Material material : MATERIALS) {
+            if (predicate.test(material)) bits[material.ordinal() >>> 6] |= 1L << material.ordinal();
+        }
+        return new MxMaterialSet(bits);
+    }
+
+    /**
+     * Returns the set containing the given materials.
+     *
+     * @param materials the materials; must not be {@code null}
+     * @return the set; never {@code null}
+     */
+    public static MxMaterialSet of(Collection<Material> materials) {
+        if (materials == null) throw new IllegalArgumentException("materials must not be null");
+        long[] bits = new long[EMPTY.bits.length];
+        for (Material material : materials) {
+            bits[material.ordinal() >>> 6] |= 1L << material.ordinal();
+        }
+        return new MxMaterialSet(bits);
+    }
+
+    /**
+     * Returns whether the set contains the given material.
+     *
+     * @param material the material; {@code null} is never contained
+     * @return {@code true} if the material is in the set
+     */
+    public boolean contains(Material material) {
+        if (material == null) return false;
+        int ordinal = material.ordinal();
+        return (bits[ordinal >>> 6] & (1L << ordinal)) != 0;
+    }
+
+    /**
+     * Returns a copy of this set with the given material added or removed.
+     *
+     * @param material the material; must not be {@code null}
+     * @param member   {@code true} to add the material, {@code false} to remove it
+     * @return the resulting set; {@code this} if nothing changed
+     */
+    public MxMaterialSet with(Material material, boolean member) {
+        if (material == null) throw new IllegalArgumentException("material must not be null");
+        if (contains(material) == member) return this;
+        long[] copy = bits.clone();
+        copy[material.ordinal() >>> 6] ^= 1L << material.ordinal();
+        return new MxMaterialSet(copy);
+    }
+
+    /**
+     * Returns the number of materials in the set.
+     *
+     * @return the size
+     */
+    public int size() {
+        int size = 0;
+        for (long word : bits) {
+            size += Long.bitCount(word);
+        }
+        return size;
+    }
+
+    /**
+     * Returns the materials in the set as a new mutable {@link EnumSet}.
+     *
+     * @return the materials; never {@code null}
+     */
+    public EnumSet<Material> toEnumSet() {
+        EnumSet<Material> set = EnumSet.noneOf(Material.class);
+        for (Material material : MATERIALS) {
+            if (contains(material)) set.add(material);
+        }
+        return set;
+    }
+}
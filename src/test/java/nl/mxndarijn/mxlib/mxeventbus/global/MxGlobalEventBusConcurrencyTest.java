@@ -0,0 +1,141 @@
+package nl.mxndarijn.mxlib.mxeventbus.global;
+
+import nl.mxndarijn.mxlib.configfiles.MxConfigFileType;
+import nl.mxndarijn.mxlib.mxeventbus.core.MxBaseContext;
+import nl.mxndarijn.mxlib.mxeventbus.core.MxCancellationState;
+import nl.mxndarijn.mxlib.mxeventbus.core.MxPriority;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Stress test for the lock-free post path of {@link MxGlobalEventBus}: posting threads must
+ * always see a complete, priority-sorted handler set while other threads register and
+ * unregister listeners.
+ */
+class MxGlobalEventBusConcurrencyTest {
+
+    private static final MxConfigFileType CONFIG = new MxConfigFileType() {
+        @Override
+        public String fileName() {
+            return "test.yml";
+        }
+
+        @Override
+        public String path() {
+            return "test.yml";
+        }
+
+        @Override
+        public boolean autoSave() {
+            return false;
+        }
+    };
+
+    private static final int POSTERS = 4;
+    private static final int CHURNERS = 2;
+    private static final long RUN_MILLIS = 1_000;
+
+    /** Event that records the priorities of the handlers that ran for it. */
+    static final class RecordingEvent extends MxGlobalEvent<MxWorldType> {
+        final List<MxPriority> ran = new ArrayList<>();
+
+        RecordingEvent() {
+            super(MxWorldType.SPAWN);
+        }
+    }
+
+    @Test
+    void postsStayConsistentDuringConcurrentRegistration() throws Exception {
+        MxGlobalEventBus<MxWorldType> bus = new MxGlobalEventBus<>(MxWorldType.GAME, CONFIG);
+        Object permanent = new Object();
+        bus.register(RecordingEvent.class, "permanent", MxPriority.NORMAL, Set.of(), false, ctx -> {
+            ctx.event().ran.add(MxPriority.NORMAL);
+            ctx.submitVerdict(MxCancellationState.SOFT_DENY);
+        }, permanent);
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicLong posts = new AtomicLong();
+        AtomicLong churns = new AtomicLong();
+        Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+
+        for (int i = 0; i < POSTERS; i++) {
+            threads.add(new Thread(() -> {
+                try {
+                    start.await();
+                    while (running.get()) {
+                        RecordingEvent event = new RecordingEvent();
+                        MxBaseContext<MxGlobalEvent<MxWorldType>> ctx = bus.post(event);
+                        assertTrue(event.ran.contains(MxPriority.NORMAL), "permanent handler missing");
+                        for (int j = 1; j < event.ran.size(); j++) {
+                            assertTrue(event.ran.get(j - 1).ordinal() <= event.ran.get(j).ordinal(),
+                                    () -> "handlers out of priority order: " + event.ran);
+                        }
+                        assertTrue(ctx.getCancellationState().isDenied(), "verdict of permanent handler lost");
+                        posts.incrementAndGet();
+                    }
+                } catch (Throwable t) {
+                    failures.add(t);
+                }
+            }, "poster-" + i));
+        }
+
+        MxPriority[] priorities = {MxPriority.LOWEST, MxPriority.LOW, MxPriority.HIGH, MxPriority.HIGHEST};
+        for (int i = 0; i < CHURNERS; i++) {
+            int seed = i;
+            threads.add(new Thread(() -> {
+                try {
+                    start.await();
+                    int round = seed;
+                    while (running.get()) {
+                        Object listener = new Object();
+                        for (int j = 0; j < 3; j++) {
+                            MxPriority priority = priorities[(round + j) % priorities.length];
+                            bus.register(RecordingEvent.class, "churn", priority, Set.of(), false,
+                                    ctx -> ctx.event().ran.add(priority), listener);
+                        }
+                        bus.unregisterListener(listener);
+                        round++;
+                        churns.incrementAndGet();
+                    }
+                } catch (Throwable t) {
+                    failures.add(t);
+                }
+            }, "churner-" + i));
+        }
+
+        threads.forEach(Thread::start);
+        start.countDown();
+        TimeUnit.MILLISECONDS.sleep(RUN_MILLIS);
+        running.set(false);
+        for (Thread thread : threads) {
+            thread.join(TimeUnit.SECONDS.toMillis(10));
+        }
+
+        if (!failures.isEmpty()) {
+            AssertionError error = new AssertionError(failures.size() + " thread(s) failed");
+            failures.forEach(error::addSuppressed);
+            throw error;
+        }
+        assertTrue(posts.get() > 0, "no posts were made");
+        assertTrue(churns.get() > 0, "no listeners were registered");
+        assertEquals(1, bus.getDispatchPlan(RecordingEvent.class).normalCount());
+        assertTrue(bus.hasSubscribers(RecordingEvent.class, MxWorldType.SPAWN));
+
+        bus.unregisterListener(permanent);
+        assertTrue(bus.getDispatchPlan(RecordingEvent.class).isEmpty());
+    }
+}
@@ -0,0 +1,110 @@
+package nl.mxndarijn.mxlib.mxeventbus.global;
+
+import nl.mxndarijn.mxlib.configfiles.MxConfigFileType;
+import nl.mxndarijn.mxlib.logger.MxLogLevel;
+import nl.mxndarijn.mxlib.logger.MxLogger;
+import nl.mxndarijn.mxlib.mxeventbus.core.MxBaseContext;
+import nl.mxndarijn.mxlib.mxeventbus.core.MxCancellationState;
+import nl.mxndarijn.mxlib.mxeventbus.core.MxPriority;
+import nl.mxndarijn.mxlib.mxeventbus.core.MxSubscribe;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that a handler of {@link MxGlobalEventBus} that throws, whether an exception or an
+ * {@link Error}, is logged and skipped without stopping the handlers after it or the verdict.
+ */
+class MxGlobalEventBusHandlerFailureTest {
+
+    private static final MxConfigFileType CONFIG = new MxConfigFileType() {
+        @Override
+        public String fileName() {
+            return "test.yml";
+        }
+
+        @Override
+        public String path() {
+            return "test.yml";
+        }
+
+        @Override
+        public boolean autoSave() {
+            return false;
+        }
+    };
+
+    /** Event that records the names of the handlers that ran for it. */
+    static final class RecordingEvent extends MxGlobalEvent<MxWorldType> {
+        final List<String> ran = new ArrayList<>();
+
+        RecordingEvent() {
+            super(MxWorldType.SPAWN);
+        }
+    }
+
+    /** Annotated listener, so the throwing handlers are called through spun invokers. */
+    public static final class ThrowingListener {
+
+        @MxSubscribe(priority = MxPriority.LOWEST)
+        public void assertionFails(MxGlobalEventContext<RecordingEvent, MxWorldType> ctx) {
+            ctx.event().ran.add("assertion");
+            throw new AssertionError("handler assertion");
+        }
+
+        @MxSubscribe(priority = MxPriority.LOW)
+        public void classMissing(MxGlobalEventContext<RecordingEvent, MxWorldType> ctx) {
+            ctx.event().ran.add("class");
+            throw new NoClassDefFoundError("nl/mxndarijn/Missing");
+        }
+
+        @MxSubscribe(priority = MxPriority.NORMAL)
+        public void runtimeFails(MxGlobalEventContext<RecordingEvent, MxWorldType> ctx) {
+            ctx.event().ran.add("runtime");
+            throw new IllegalStateException("handler state");
+        }
+
+        @MxSubscribe(priority = MxPriority.HIGH)
+        public void denies(MxGlobalEventContext<RecordingEvent, MxWorldType> ctx) {
+            ctx.event().ran.add("deny");
+            ctx.submitVerdict(MxCancellationState.HARD_DENY);
+        }
+    }
+
+    @BeforeEach
+    void silenceLogger() {
+        // MxLogger writes to the server console, which does not exist in unit tests
+        MxLogger.setLogLevel(MxLogLevel.FATAL);
+    }
+
+    @AfterEach
+    void restoreLogger() {
+        MxLogger.setLogLevel(MxLogLevel.DEBUG);
+    }
+
+    @Test
+    void errorInOneHandlerDoesNotStopTheOthers() {
+        MxGlobalEventBus<MxWorldType> bus = new MxGlobalEventBus<>(MxWorldType.GAME, CONFIG);
+        new MxGlobalAnnotationBinder<MxWorldType>(method -> EnumSet.allOf(MxWorldType.class))
+                .bind(bus, new ThrowingListener());
+        bus.register(RecordingEvent.class, "overflow", MxPriority.LOWEST, Set.of(), false, ctx -> {
+            ctx.event().ran.add("overflow");
+            throw new StackOverflowError();
+        }, new Object());
+
+        RecordingEvent event = new RecordingEvent();
+        MxBaseContext<MxGlobalEvent<MxWorldType>> ctx = bus.post(event);
+
+        assertEquals(Set.of("overflow", "assertion", "class", "runtime", "deny"), Set.copyOf(event.ran));
+        assertEquals("deny", event.ran.get(event.ran.size() - 1), "the handler after the failures must still run");
+        assertTrue(ctx.getCancellationState().isDenied(), "verdict after the failures must be kept");
+    }
+}
@@ -0,0 +1,88 @@
+package nl.mxndarijn.mxlib.spawnprotection.spawn;
+
+import org.bukkit.Material;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the precomputed tables of {@link MxMaterialClassifier} against the checks they replaced
+ * in {@link MxSpawnProtectionListener}: the {@code POTTED_} name prefix, the provider's
+ * openable and inventory-opening block sets and the farmland and turtle egg comparisons.
+ */
+class MxMaterialClassifierTest {
+
+    private final Set<Material> openables = EnumSet.of(Material.OAK_DOOR, Material.OAK_FENCE_GATE, Material.OAK_TRAPDOOR);
+    private final Set<Material> containers = EnumSet.of(Material.CHEST, Material.BARREL);
+    private final AtomicInteger providerReads = new AtomicInteger();
+
+    @Test
+    void matchesPreviousChecksForEveryMaterial() {
+        MxMaterialClassifier classifier = new MxMaterialClassifier(provider());
+        for (Material material : Material.values()) {
+            boolean potted = material == Material.FLOWER_POT || material == Material.DECORATED_POT
+                    || material.name().startsWith("POTTED_");
+            assertEquals(potted, classifier.is(MxMaterialCategory.POTTED_PLANTS, material), material.name());
+            assertEquals(openables.contains(material), classifier.is(MxMaterialCategory.OPENABLES, material), material.name());
+            assertEquals(containers.contains(material), classifier.is(MxMaterialCategory.CONTAINERS, material), material.name());
+            assertEquals(material == Material.FARMLAND || material == Material.TURTLE_EGG,
+                    classifier.is(MxMaterialCategory.TRAMPLE_SENSITIVE, material), material.name());
+        }
+        assertFalse(classifier.is(MxMaterialCategory.OPENABLES, null));
+    }
+
+    @Test
+    void recomputePicksUpChangedProviderSets() {
+        MxMaterialClassifier classifier = new MxMaterialClassifier(provider());
+        openables.add(Material.BARREL);
+        assertFalse(classifier.is(MxMaterialCategory.OPENABLES, Material.BARREL));
+
+        classifier.recompute();
+        for (Material material : Material.values()) {
+            assertEquals(openables.contains(material), classifier.is(MxMaterialCategory.OPENABLES, material), material.name());
+        }
+    }
+
+    @Test
+    void readsProviderSetsOncePerComputation() {
+        MxMaterialClassifier classifier = new MxMaterialClassifier(provider());
+        assertEquals(2, providerReads.get(), "one read per provider-backed category");
+        classifier.recompute();
+        assertEquals(4, providerReads.get(), "one read per provider-backed category");
+        classifier.override(MxMaterialCategory.OPENABLES, Material.STONE, true);
+        assertEquals(4, providerReads.get(), "an override reuses the current table");
+    }
+
+    @Test
+    void overridesWinOverRulesUntilCleared() {
+        MxMaterialClassifier classifier = new MxMaterialClassifier(provider());
+        classifier.override(MxMaterialCategory.CONTAINERS, Material.CHEST, false);
+        classifier.override(MxMaterialCategory.CONTAINERS, Material.STONE, true);
+        classifier.recompute();
+        assertFalse(classifier.is(MxMaterialCategory.CONTAINERS, Material.CHEST));
+        assertTrue(classifier.is(MxMaterialCategory.CONTAINERS, Material.STONE));
+        assertTrue(classifier.is(MxMaterialCategory.CONTAINERS, Material.BARREL));
+
+        classifier.clearOverrides(MxMaterialCategory.CONTAINERS);
+        assertEquals(containers, classifier.get(MxMaterialCategory.CONTAINERS).toEnumSet());
+    }
+
+    private MxISpawnProtectionProvider provider() {
+        return MxTestFakes.fake(MxISpawnProtectionProvider.class, "provider", Map.of(
+                "getOpenableBlocks", args -> {
+                    providerReads.incrementAndGet();
+                    return openables;
+                },
+                "getInventoryOpeningBlocks", args -> {
+                    providerReads.incrementAndGet();
+                    return containers;
+                }));
+    }
+}
@@ -0,0 +1,195 @@
+package nl.mxndarijn.mxlib.spawnprotection.spawn;
+
+import nl.mxndarijn.mxlib.mxeventbus.global.MxWorldType;
+import nl.mxndarijn.mxlib.spawnprotection.events.base.MxSpawnEventRegistry;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Stress test for {@link MxPlayerStateIndex}: reader threads standing in for the async chat thread
+ * must always see one complete snapshot per player while a single writer standing in for the main
+ * thread keeps moving players between worlds and games and republishing their snapshots. Also checks
+ * that the index follows world types reported by {@code MxWorldTypeCache}.
+ */
+class MxPlayerStateIndexTest {
+
+    private static final int PLAYERS = 16;
+    private static final int READERS = 4;
+    private static final long RUN_MILLIS = 1_000;
+
+    private final World spawn = world(new UUID(0, 1));
+    private final World map = world(new UUID(0, 2));
+    private final Map<UUID, Boolean> inGame = new ConcurrentHashMap<>();
+    private final Set<UUID> privateChat = ConcurrentHashMap.newKeySet();
+
+    @Test
+    void readersSeeConsistentSnapshotsWhileWriterRepublishes() throws Exception {
+        MxSpawnEventRegistry.setWorldTypeResolver(w -> w == map ? MxWorldType.MAP : MxWorldType.SPAWN);
+        MxPlayerStateIndex index = new MxPlayerStateIndex(uuid -> inGame.getOrDefault(uuid, false), chatProvider());
+
+        List<Player> players = new ArrayList<>();
+        List<AtomicReference<World>> locations = new ArrayList<>();
+        for (int i = 0; i < PLAYERS; i++) {
+            AtomicReference<World> location = new AtomicReference<>(spawn);
+            Player player = player(new UUID(1, i), location);
+            players.add(player);
+            locations.add(location);
+            privateChat.add(player.getUniqueId());
+            index.capture(player);
+        }
+
+        // the writer is the only publisher, so every notification must continue the previous one
+        Map<UUID, MxPlayerState> lastSeen = new ConcurrentHashMap<>();
+        Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        AtomicLong notifications = new AtomicLong();
+        index.addListener((player, previous, current) -> {
+            try {
+                assertSame(lastSeen.get(player.getUniqueId()), previous, "listener missed a snapshot");
+                assertSame(index.get(player.getUniqueId()), current, "listener saw an unpublished snapshot");
+                lastSeen.put(player.getUniqueId(), current);
+                notifications.incrementAndGet();
+            } catch (Throwable t) {
+                failures.add(t);
+            }
+        });
+        for (Player player : players) {
+            lastSeen.put(player.getUniqueId(), index.get(player.getUniqueId()));
+        }
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicLong reads = new AtomicLong();
+        AtomicLong writes = new AtomicLong();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+
+        for (int i = 0; i < READERS; i++) {
+            threads.add(new Thread(() -> {
+                try {
+                    start.await();
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    while (running.get()) {
+                        UUID uuid = players.get(random.nextInt(PLAYERS)).getUniqueId();
+                        MxPlayerState state = index.get(uuid);
+                        assertNotNull(state, "online player lost their snapshot");
+                        boolean inMap = state.getWorldUid().equals(map.getUID());
+                        assertEquals(inMap ? MxWorldType.MAP : MxWorldType.SPAWN, state.getWorldType(),
+                                () -> "world type torn from world: " + state);
+                        assertEquals(inMap, state.hasPrivateMapChat(), () -> "chat routing torn from world: " + state);
+                        assertEquals(inMap, state.isExcludedFromGlobalChat(), () -> "exclusion torn from world: " + state);
+                        assertTrue(!state.isSpectator() || state.isInGame(), () -> "spectator outside a game: " + state);
+                        reads.incrementAndGet();
+                    }
+                } catch (Throwable t) {
+                    failures.add(t);
+                }
+            }, "reader-" + i));
+        }
+
+        threads.add(new Thread(() -> {
+            try {
+                start.await();
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                while (running.get()) {
+                    int i = random.nextInt(PLAYERS);
+                    Player player = players.get(i);
+                    switch (random.nextInt(3)) {
+                        case 0 -> {
+                            locations.get(i).set(random.nextBoolean() ? map : spawn);
+                            index.refresh(player);
+                        }
+                        case 1 -> {
+                            boolean playing = random.nextBoolean();
+                            inGame.put(player.getUniqueId(), playing);
+                            index.setGameState(player, playing, playing && random.nextBoolean());
+                        }
+                        default -> index.capture(player);
+                    }
+                    writes.incrementAndGet();
+                }
+            } catch (Throwable t) {
+                failures.add(t);
+            }
+        }, "writer"));
+
+        threads.forEach(Thread::start);
+        start.countDown();
+        TimeUnit.MILLISECONDS.sleep(RUN_MILLIS);
+        running.set(false);
+        for (Thread thread : threads) {
+            thread.join(TimeUnit.SECONDS.toMillis(10));
+        }
+
+        if (!failures.isEmpty()) {
+            AssertionError error = new AssertionError(failures.size() + " failure(s)");
+            failures.forEach(error::addSuppressed);
+            throw error;
+        }
+        assertTrue(reads.get() > 0, "no snapshots were read");
+        assertTrue(writes.get() > 0, "no snapshots were published");
+        assertEquals(writes.get(), notifications.get(), "one notification per published snapshot");
+        for (Player player : players) {
+            MxPlayerState state = index.get(player.getUniqueId());
+            assertEquals(player.getWorld().getUID(), state.getWorldUid());
+            assertSame(lastSeen.get(player.getUniqueId()), state);
+        }
+    }
+
+    @Test
+    void followsTheWorldTypeOfAReclassifiedWorld() {
+        MxSpawnEventRegistry.setWorldTypeResolver(w -> MxWorldType.SPAWN);
+        MxPlayerStateIndex index = new MxPlayerStateIndex(uuid -> false, chatProvider());
+        AtomicReference<World> location = new AtomicReference<>(map);
+        Player player = player(new UUID(1, 0), location);
+        index.capture(player);
+        assertEquals(MxWorldType.SPAWN, index.get(player.getUniqueId()).getWorldType());
+        World reclassified = MxTestFakes.fake(World.class, "map", Map.of(
+                "getUID", args -> map.getUID(),
+                "getPlayers", args -> List.of(player)));
+
+        // the cache reports the type it resolved; the index must not resolve the world again
+        index.worldTypeChanged(reclassified, MxWorldType.SPAWN, MxWorldType.MAP);
+
+        MxPlayerState state = index.get(player.getUniqueId());
+        assertEquals(MxWorldType.MAP, state.getWorldType());
+        assertEquals(map.getUID(), state.getWorldUid());
+    }
+
+    private MxISpawnChatProvider chatProvider() {
+        return MxTestFakes.fake(MxISpawnChatProvider.class, "chatProvider", Map.of(
+                "getMapWorldUid", args -> args[0] == map ? Optional.of(map.getUID()) : Optional.empty(),
+                "hasPrivateMapChat", args -> privateChat.contains((UUID) args[0]),
+                "shouldExcludeFromGlobalBroadcast", args -> ((Player) args[0]).getWorld() == map));
+    }
+
+    private static World world(UUID uid) {
+        return MxTestFakes.fake(World.class, "World[" + uid + "]", Map.of("getUID", args -> uid));
+    }
+
+    private static Player player(UUID uuid, AtomicReference<World> location) {
+        return MxTestFakes.fake(Player.class, "Player[" + uuid + "]", Map.of(
+                "getUniqueId", args -> uuid,
+                "getWorld", args -> location.get()));
+    }
+}
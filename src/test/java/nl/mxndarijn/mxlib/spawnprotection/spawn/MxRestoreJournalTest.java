@@ -0,0 +1,160 @@
+package nl.mxndarijn.mxlib.spawnprotection.spawn;
+
+import org.bukkit.block.data.BlockData;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Crash-safety test for {@link MxRestoreJournal}: a journal cut off at any byte must replay to
+ * exactly the records whose frames were complete, and a file that is not a journal must be kept.
+ */
+class MxRestoreJournalTest {
+
+    private static final int HEADER_LENGTH = 5;
+    private static final UUID WORLD_A = new UUID(1, 2);
+    private static final UUID WORLD_B = new UUID(3, 4);
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void replaysLongestValidPrefixAtEveryOffset() throws IOException {
+        File file = dir.resolve("restores.journal").toFile();
+        MxRestoreJournal journal = new MxRestoreJournal(file, 10, 60_000, Logger.getLogger("MxRestoreJournalTest"));
+        assertTrue(journal.open().isEmpty());
+
+        // every operation changes the live entries, so each one is written as exactly one frame
+        List<Op> ops = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            ops.add(new Op(i % 2 == 0 ? WORLD_A : WORLD_B, i, "minecraft:oak_door[open=" + (i % 3 == 0) + "]"));
+        }
+        ops.add(new Op(WORLD_A, 0, null));
+        ops.add(new Op(WORLD_B, 1, "minecraft:oak_fence_gate[open=true]"));
+        ops.add(new Op(WORLD_B, 3, null));
+        for (Op op : ops) {
+            if (op.data == null) {
+                journal.remove(op.world, op.key);
+            } else {
+                journal.put(op.world, op.key, blockData(op.data));
+            }
+        }
+        journal.close(5000);
+
+        byte[] full = Files.readAllBytes(file.toPath());
+        List<Integer> boundaries = frameBoundaries(full);
+        assertEquals(ops.size(), boundaries.size() - 1, "one frame per operation");
+
+        File cut = dir.resolve("cut.journal").toFile();
+        for (int length = 0; length <= full.length; length++) {
+            Files.write(cut.toPath(), Arrays.copyOf(full, length));
+            if (length > 0 && length < HEADER_LENGTH) {
+                assertThrows(IOException.class, () -> MxRestoreJournal.replay(cut));
+                assertEquals(length, cut.length(), "a torn header must not be truncated");
+                continue;
+            }
+            int complete = 0;
+            while (complete + 1 < boundaries.size() && boundaries.get(complete + 1) <= length) complete++;
+
+            Map<String, String> expected = new HashMap<>();
+            for (Op op : ops.subList(0, length == 0 ? 0 : complete)) {
+                if (op.data == null) {
+                    expected.remove(op.id());
+                } else {
+                    expected.put(op.id(), op.data);
+                }
+            }
+            Map<String, String> replayed = new HashMap<>();
+            for (MxRestoreJournal.Entry entry : MxRestoreJournal.replay(cut)) {
+                replayed.put(entry.world + "/" + entry.key, entry.data);
+            }
+            assertEquals(expected, replayed, "replay of the first " + length + " bytes");
+            long truncated = length == 0 ? 0 : boundaries.get(complete);
+            assertEquals(truncated, cut.length(), "file truncated after the valid prefix of " + length + " bytes");
+        }
+    }
+
+    @Test
+    void keepsFileWithUnrecognisedHeader() throws IOException {
+        File file = dir.resolve("foreign.journal").toFile();
+        byte[] contents = {0x4D, 0x58, 0x52, 0x4A, 99, 0, 0, 0, 7, 1, 2, 3};
+        Files.write(file.toPath(), contents);
+
+        MxRestoreJournal journal = new MxRestoreJournal(file, 10, 60_000, Logger.getLogger("MxRestoreJournalTest"));
+        assertThrows(IOException.class, journal::open);
+        assertArrayEquals(contents, Files.readAllBytes(file.toPath()));
+    }
+
+    @Test
+    void reopenedJournalKeepsLiveEntries() throws IOException {
+        File file = dir.resolve("restores.journal").toFile();
+        Logger logger = Logger.getLogger("MxRestoreJournalTest");
+        MxRestoreJournal journal = new MxRestoreJournal(file, 10, 60_000, logger);
+        journal.open();
+        journal.put(WORLD_A, 7, blockData("minecraft:oak_door[open=false]"));
+        journal.put(WORLD_A, 8, blockData("minecraft:oak_trapdoor[open=false]"));
+        journal.remove(WORLD_A, 7);
+        journal.close(5000);
+
+        MxRestoreJournal reopened = new MxRestoreJournal(file, 10, 60_000, logger);
+        List<MxRestoreJournal.Entry> entries = reopened.open();
+        reopened.close(5000);
+        assertEquals(1, entries.size());
+        assertEquals(8L, entries.get(0).key);
+        assertEquals("minecraft:oak_trapdoor[open=false]", entries.get(0).data);
+        // the reopen compacted the file down to the header and the single live entry
+        assertEquals(2, frameBoundaries(Files.readAllBytes(file.toPath())).size());
+    }
+
+    /**
+     * Returns the offsets at which each frame ends, starting with the end of the header.
+     */
+    private static List<Integer> frameBoundaries(byte[] journal) {
+        List<Integer> boundaries = new ArrayList<>();
+        int offset = HEADER_LENGTH;
+        boundaries.add(offset);
+        while (offset < journal.length) {
+            offset += 4 + ByteBuffer.wrap(journal, offset, 4).getInt() + 4;
+            boundaries.add(offset);
+        }
+        return boundaries;
+    }
+
+    private static BlockData blockData(String asString) {
+        return MxTestFakes.fake(BlockData.class, asString, Map.of("getAsString", args -> asString));
+    }
+
+    private static final class Op {
+
+        private final UUID world;
+        private final long key;
+        private final String data;
+
+        Op(UUID world, long key, String data) {
+            this.world = world;
+            this.key = key;
+            this.data = data;
+        }
+
+        String id() {
+            return world + "/" + key;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package nl.mxndarijn.mxlib.spawnprotection.spawn;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the slot and rotation arithmetic of {@link MxRestoreWheel}: every restore must fire on
+ * exactly the tick it was scheduled for, whether its delay is shorter than, equal to or longer
+ * than one rotation and whether it was scheduled between ticks or by a restore being applied.
+ */
+class MxRestoreWheelTest {
+
+    private static final int SLOTS = 8;
+    private static final long UNLIMITED = Long.MAX_VALUE;
+
+    private final MxRestoreWheel<String> wheel = new MxRestoreWheel<>(SLOTS);
+    private final Map<String, Long> firedAt = new HashMap<>();
+    private long now;
+
+    @Test
+    void firesExactlyAfterTheDelayFromEveryCursorPosition() {
+        long[] delays = {0, 1, 2, SLOTS - 1, SLOTS, SLOTS + 1, 2 * SLOTS - 1, 2 * SLOTS, 2 * SLOTS + 1, 5 * SLOTS + 3};
+        Map<String, Long> expected = new HashMap<>();
+        for (int start = 0; start <= SLOTS; start++) {
+            for (long delay : delays) {
+                String name = start + "+" + delay;
+                wheel.schedule(name, 0, delay);
+                expected.put(name, now + Math.max(1, delay));
+            }
+            tick();
+        }
+        while (wheel.size() > 0) tick();
+        assertEquals(expected, firedAt);
+    }
+
+    @Test
+    void restoresScheduledWhileApplyingCountFromTheCurrentTick() {
+        Map<String, Long> expected = new HashMap<>();
+        wheel.schedule("first", 0, 3);
+        for (int i = 0; i < 3; i++) {
+            wheel.tick(UNLIMITED, value -> {
+                firedAt.put(value, now + 1);
+                if (!value.equals("first")) return;
+                for (long delay : new long[]{1, SLOTS - 1, SLOTS, SLOTS + 1, 2 * SLOTS}) {
+                    wheel.schedule("then+" + delay, 0, delay);
+                    expected.put("then+" + delay, now + 1 + delay);
+                }
+            });
+            now++;
+        }
+        expected.put("first", 3L);
+        while (wheel.size() > 0) tick();
+        assertEquals(expected, firedAt);
+    }
+
+    @Test
+    void cancellingARestoreInTheReadyQueueSkipsIt() {
+        MxRestoreWheel.Entry<String> a = wheel.schedule("a", 1, 2);
+        MxRestoreWheel.Entry<String> b = wheel.schedule("b", 2, 2);
+        MxRestoreWheel.Entry<String> c = wheel.schedule("c", 3, 2);
+        List<String> applied = new ArrayList<>();
+
+        // a budget of zero still applies one restore per tick, leaving the rest in the ready queue
+        wheel.tick(0, applied::add);
+        wheel.tick(0, applied::add);
+        assertEquals(List.of("a"), applied);
+        assertEquals(2, wheel.backlog());
+        assertEquals(2, wheel.size());
+
+        assertTrue(wheel.cancel(b));
+        assertFalse(wheel.cancel(b), "a restore can only be cancelled once");
+        assertEquals(1, wheel.size());
+
+        wheel.tick(0, applied::add);
+        assertEquals(List.of("a", "c"), applied);
+        assertEquals(0, wheel.size());
+        assertEquals(0, wheel.backlog());
+        assertFalse(wheel.cancel(a), "an applied restore is no longer pending");
+        assertFalse(wheel.cancel(c), "an applied restore is no longer pending");
+        assertEquals(2, wheel.totalApplied());
+    }
+
+    @Test
+    void cancellingAScheduledRestoreUnlinksIt() {
+        MxRestoreWheel.Entry<String> early = wheel.schedule("early", 0, SLOTS);
+        wheel.schedule("late", 0, 2 * SLOTS);
+        assertTrue(wheel.cancel(early));
+        while (wheel.size() > 0) tick();
+        assertEquals(Map.of("late", (long) 2 * SLOTS), firedAt);
+    }
+
+    private void tick() {
+        now++;
+        wheel.tick(UNLIMITED, value -> assertNull(firedAt.put(value, now), "restore fired twice"));
+    }
+}
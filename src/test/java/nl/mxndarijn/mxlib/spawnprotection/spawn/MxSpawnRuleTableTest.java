@@ -0,0 +1,133 @@
+package nl.mxndarijn.mxlib.spawnprotection.spawn;
+
+import nl.mxndarijn.mxlib.mxeventbus.core.MxCancellationState;
+import nl.mxndarijn.mxlib.mxeventbus.global.MxWorldType;
+import org.bukkit.Material;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the compiled lookup arrays of {@link MxSpawnRuleTable} cell by cell against the rules
+ * they were compiled from, and the parsing of rules from their rule-file form.
+ */
+class MxSpawnRuleTableTest {
+
+    private final Set<Material> containers = EnumSet.of(Material.CHEST, Material.BARREL);
+    private final MxMaterialClassifier classifier = new MxMaterialClassifier(provider());
+
+    @Test
+    void defaultRulesCompileToTheirConditions() {
+        MxSpawnRuleTable table = MxSpawnRuleTable.compile(MxSpawnRuleEngine.defaultRules(), classifier);
+        for (MxWorldType worldType : MxWorldType.values()) {
+            for (boolean modify : new boolean[]{false, true}) {
+                boolean denied = worldType == MxWorldType.SPAWN && !modify;
+                assertEquals(denied ? MxCancellationState.HARD_DENY : null,
+                        table.lookup(MxSpawnRuleEvent.BLOCK_BREAK, worldType, modify, Material.STONE),
+                        worldType + " modify=" + modify);
+                for (Material material : Material.values()) {
+                    boolean protectedBlock = classifier.is(MxMaterialCategory.POTTED_PLANTS, material)
+                            || material == Material.DRAGON_EGG || containers.contains(material);
+                    assertEquals(denied && protectedBlock ? MxCancellationState.HARD_DENY : null,
+                            table.lookup(MxSpawnRuleEvent.INTERACT, worldType, modify, material),
+                            () -> "interact with " + material + " in " + worldType + " modify=" + modify);
+                }
+            }
+        }
+        assertTrue(table.covers(MxSpawnRuleEvent.INTERACT, MxWorldType.SPAWN));
+        assertFalse(table.covers(MxSpawnRuleEvent.INTERACT, MxWorldType.GAME));
+        assertFalse(table.covers(MxSpawnRuleEvent.INVENTORY_CLICK));
+        // hunger is left to the listener, which refills the food level as well as cancelling
+        assertFalse(table.covers(MxSpawnRuleEvent.FOOD_LEVEL_CHANGE));
+        assertNull(table.lookup(MxSpawnRuleEvent.INVENTORY_CLICK, MxWorldType.SPAWN, false, Material.CHEST));
+    }
+
+    @Test
+    void laterRulesOverrideEarlierOnes() {
+        Set<MxWorldType> spawn = Set.of(MxWorldType.SPAWN);
+        MxSpawnRuleTable table = MxSpawnRuleTable.compile(List.of(
+                new MxSpawnRule(MxSpawnRuleEvent.BLOCK_PLACE, spawn, null, null, null, MxCancellationState.SOFT_DENY),
+                new MxSpawnRule(MxSpawnRuleEvent.BLOCK_PLACE, spawn, null, List.of(Material.LAVA), null, MxCancellationState.HARD_DENY),
+                new MxSpawnRule(MxSpawnRuleEvent.BLOCK_PLACE, spawn, null, null, true, MxCancellationState.PASS)
+        ), null);
+
+        assertEquals(MxCancellationState.SOFT_DENY, table.lookup(MxSpawnRuleEvent.BLOCK_PLACE, MxWorldType.SPAWN, false, Material.STONE));
+        assertEquals(MxCancellationState.HARD_DENY, table.lookup(MxSpawnRuleEvent.BLOCK_PLACE, MxWorldType.SPAWN, false, Material.LAVA));
+        assertEquals(MxCancellationState.PASS, table.lookup(MxSpawnRuleEvent.BLOCK_PLACE, MxWorldType.SPAWN, true, Material.LAVA));
+        assertEquals(MxCancellationState.SOFT_DENY, table.lookup(MxSpawnRuleEvent.BLOCK_PLACE, MxWorldType.SPAWN, false, null));
+        assertNull(table.lookup(MxSpawnRuleEvent.BLOCK_PLACE, MxWorldType.MAP, false, Material.LAVA));
+        assertEquals(3, table.getRuleCount());
+    }
+
+    @Test
+    void parsesRulesFromTheirMapForm() {
+        MxSpawnRule rule = MxSpawnRule.fromMap(Map.of(
+                "event", "interact",
+                "worlds", List.of("SPAWN", "map"),
+                "category", "containers",
+                "materials", List.of("DRAGON_EGG"),
+                "modify-mode", false,
+                "verdict", "hard_deny"), classifier::find);
+
+        assertSame(MxSpawnRuleEvent.INTERACT, rule.getEvent());
+        assertSame(MxMaterialCategory.CONTAINERS, rule.getCategory());
+        assertEquals(Boolean.FALSE, rule.getModifyMode());
+        assertSame(MxCancellationState.HARD_DENY, rule.getVerdict());
+        assertTrue(rule.appliesIn(MxWorldType.MAP));
+        assertFalse(rule.appliesIn(MxWorldType.GAME));
+        assertTrue(rule.appliesTo(classifier, Material.CHEST));
+        assertTrue(rule.appliesTo(classifier, Material.DRAGON_EGG));
+        assertFalse(rule.appliesTo(classifier, Material.STONE));
+    }
+
+    @Test
+    void rejectsInvalidRules() {
+        assertThrows(IllegalArgumentException.class,
+                () -> MxSpawnRule.fromMap(Map.of("event", "block-break", "verdict", "SOFT_ALLOW"), classifier::find));
+        assertThrows(IllegalArgumentException.class,
+                () -> MxSpawnRule.fromMap(Map.of("event", "block-break", "verdict", "HARD_ALLOW"), classifier::find));
+        assertThrows(IllegalArgumentException.class,
+                () -> MxSpawnRule.fromMap(Map.of("event", "no-such-event", "verdict", "HARD_DENY"), classifier::find));
+        assertThrows(IllegalArgumentException.class,
+                () -> MxSpawnRule.fromMap(Map.of("event", "block-break"), classifier::find));
+        assertThrows(IllegalArgumentException.class,
+                () -> MxSpawnRule.fromMap(Map.of("event", "interact", "category", "unknown", "verdict", "HARD_DENY"),
+                        classifier::find));
+    }
+
+    @Test
+    void engineRepublishesTableOnReload() {
+        MxSpawnRuleEngine engine = new MxSpawnRuleEngine(classifier, player -> false);
+        AtomicInteger reloads = new AtomicInteger();
+        engine.addReloadListener(reloads::incrementAndGet);
+
+        engine.setRules(MxSpawnRuleEngine.defaultRules());
+        MxSpawnRuleTable first = engine.getTable();
+        assertTrue(first.covers(MxSpawnRuleEvent.BLOCK_BREAK));
+
+        engine.setRules(List.of(new MxSpawnRule(MxSpawnRuleEvent.DROP_ITEM, null, null, null, null,
+                MxCancellationState.SOFT_DENY)));
+        assertFalse(engine.getTable().covers(MxSpawnRuleEvent.BLOCK_BREAK));
+        assertEquals(MxCancellationState.SOFT_DENY,
+                engine.getTable().lookup(MxSpawnRuleEvent.DROP_ITEM, MxWorldType.GAME, false, null));
+        assertTrue(first.covers(MxSpawnRuleEvent.BLOCK_BREAK), "a published table must not change");
+        assertEquals(2, reloads.get());
+    }
+
+    private MxISpawnProtectionProvider provider() {
+        return MxTestFakes.fake(MxISpawnProtectionProvider.class, "provider", Map.of(
+                "getOpenableBlocks", args -> Set.of(),
+                "getInventoryOpeningBlocks", args -> containers));
+    }
+}
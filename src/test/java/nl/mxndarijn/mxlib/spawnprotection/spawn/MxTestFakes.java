@@ -0,0 +1,46 @@
+package nl.mxndarijn.mxlib.spawnprotection.spawn;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+
+/**
+ * Builds interface fakes for the spawn protection tests. A fake answers only the methods it was
+ * given and throws {@link UnsupportedOperationException} for every other one, so a test fails
+ * loudly when the code under test starts depending on something the fixture does not model.
+ * {@code equals} and {@code hashCode} use identity and {@code toString} returns the fake's name,
+ * unless an answer for them is given.
+ */
+final class MxTestFakes {
+
+    /** Answer for one faked method, given the arguments it was called with. */
+    @FunctionalInterface
+    interface Answer {
+        Object answer(Object[] args);
+    }
+
+    private MxTestFakes() {
+    }
+
+    /**
+     * Creates a fake of {@code type}.
+     *
+     * @param type    interface to fake
+     * @param name    name returned by {@code toString}
+     * @param answers answers by method name
+     * @param <T>     faked interface
+     * @return the fake
+     */
+    static <T> T fake(Class<T> type, String name, Map<String, Answer> answers) {
+        return type.cast(Proxy.newProxyInstance(MxTestFakes.class.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> {
+                    Answer answer = answers.get(method.getName());
+                    if (answer != null) return answer.answer(args);
+                    return switch (method.getName()) {
+                        case "equals" -> proxy == args[0];
+                        case "hashCode" -> System.identityHashCode(proxy);
+                        case "toString" -> name;
+                        default -> throw new UnsupportedOperationException(name + "." + method.getName());
+                    };
+                }));
+    }
+}
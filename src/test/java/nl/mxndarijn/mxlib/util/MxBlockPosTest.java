@@ -0,0 +1,60 @@
+package nl.mxndarijn.mxlib.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that {@link MxBlockPos} packs and unpacks coordinates up to the limits of its 26/12/26-bit
+ * layout, negative ones included, and that chunk keys group blocks like Minecraft's chunks do.
+ */
+class MxBlockPosTest {
+
+    private static final int XZ_MIN = -(1 << 25);
+    private static final int XZ_MAX = (1 << 25) - 1;
+    private static final int Y_MIN = -(1 << 11);
+    private static final int Y_MAX = (1 << 11) - 1;
+
+    private static final int[] XZ = {XZ_MIN, XZ_MIN + 1, -30_000_000, -17, -16, -1, 0, 1, 15, 16, 30_000_000, XZ_MAX - 1, XZ_MAX};
+    private static final int[] Y = {Y_MIN, Y_MIN + 1, -64, -1, 0, 1, 319, Y_MAX - 1, Y_MAX};
+
+    @Test
+    void roundTripsCoordinatesAtTheLimits() {
+        Set<Long> keys = new HashSet<>();
+        for (int x : XZ) {
+            for (int y : Y) {
+                for (int z : XZ) {
+                    long key = MxBlockPos.pack(x, y, z);
+                    String position = x + "," + y + "," + z;
+                    assertEquals(x, MxBlockPos.x(key), position);
+                    assertEquals(y, MxBlockPos.y(key), position);
+                    assertEquals(z, MxBlockPos.z(key), position);
+                    assertTrue(keys.add(key), () -> "duplicate key for " + position);
+                }
+            }
+        }
+    }
+
+    @Test
+    void chunkKeysGroupBlocksByChunk() {
+        for (int x : XZ) {
+            for (int z : XZ) {
+                long chunk = MxBlockPos.chunkKey(MxBlockPos.pack(x, 64, z));
+                long expected = ((long) (x >> 4) << 32) | ((z >> 4) & 0xFFFFFFFFL);
+                assertEquals(expected, chunk, x + "," + z);
+                // the opposite corner of the same chunk, at another height
+                int cornerX = (x & ~15) + 15;
+                int cornerZ = (z & ~15) + 15;
+                assertEquals(chunk, MxBlockPos.chunkKey(MxBlockPos.pack(cornerX, Y_MIN, cornerZ)), x + "," + z);
+            }
+        }
+        assertEquals(MxBlockPos.chunkKey(MxBlockPos.pack(-16, 0, -1)), MxBlockPos.chunkKey(MxBlockPos.pack(-1, 0, -16)));
+        assertNotEquals(MxBlockPos.chunkKey(MxBlockPos.pack(-1, 0, 0)), MxBlockPos.chunkKey(MxBlockPos.pack(0, 0, 0)));
+        assertNotEquals(MxBlockPos.chunkKey(MxBlockPos.pack(0, 0, -1)), MxBlockPos.chunkKey(MxBlockPos.pack(0, 0, 0)));
+    }
+}
@@ -0,0 +1,128 @@
+package nl.mxndarijn.mxlib.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks {@link MxLongObjectMap} against {@link HashMap}: backward-shift deletion must keep every
+ * probe run reachable, also when a run wraps around the end of the table, and resizing must keep
+ * every mapping.
+ */
+class MxLongObjectMapTest {
+
+    /** Table size of a map constructed for zero entries; holds up to six entries before resizing. */
+    private static final int SMALL_CAPACITY = 8;
+
+    @Test
+    void removalKeepsProbeRunsThatWrapAroundReachable() throws ReflectiveOperationException {
+        int last = SMALL_CAPACITY - 1;
+        List<Long> homedAtLast = keysWithSlot(last, 3);
+        List<Long> homedAtFirst = keysWithSlot(0, 2);
+        long a = homedAtLast.get(0), b = homedAtLast.get(1), c = homedAtLast.get(2);
+        long d = homedAtFirst.get(0), e = homedAtFirst.get(1);
+
+        MxLongObjectMap<String> map = new MxLongObjectMap<>(0);
+        for (long key : new long[]{a, b, c, d, e}) map.put(key, "v" + key);
+        // the run starting in the last slot wraps: a, then b, c, d, e in slots 0..3
+        long[] table = keys(map);
+        assertEquals(SMALL_CAPACITY, table.length, "map must not have resized");
+        assertEquals(a, table[last]);
+        assertEquals(b, table[0]);
+        assertEquals(e, table[3]);
+
+        assertEquals("v" + a, map.remove(a));
+        assertNull(map.get(a));
+        for (long key : new long[]{b, c, d, e}) assertEquals("v" + key, map.get(key), "after removing the run head");
+
+        assertEquals("v" + c, map.remove(c));
+        for (long key : new long[]{b, d, e}) assertEquals("v" + key, map.get(key), "after removing inside the run");
+
+        assertEquals("v" + b, map.remove(b));
+        assertEquals("v" + d, map.get(d));
+        assertEquals("v" + e, map.get(e));
+        assertEquals(2, map.size());
+        assertNull(map.remove(a));
+
+        map.put(a, "again");
+        assertEquals("again", map.get(a));
+        assertEquals(3, map.size());
+    }
+
+    @Test
+    void matchesHashMapThroughResizesAndRemovals() {
+        Random random = new Random(42);
+        MxLongObjectMap<Long> map = new MxLongObjectMap<>();
+        Map<Long, Long> expected = new HashMap<>();
+        for (int round = 0; round < 200_000; round++) {
+            // a narrow key range keeps runs long and removals frequent
+            long key = MxBlockPos.pack(random.nextInt(64) - 32, random.nextInt(8), random.nextInt(64) - 32);
+            switch (random.nextInt(4)) {
+                case 0, 1 -> assertEquals(expected.put(key, (long) round), map.put(key, (long) round));
+                case 2 -> assertEquals(expected.remove(key), map.remove(key));
+                default -> assertEquals(expected.get(key), map.get(key));
+            }
+            assertEquals(expected.size(), map.size());
+        }
+        Map<Long, Long> iterated = new HashMap<>();
+        map.forEach((key, value) -> assertNull(iterated.put(key, value), "key visited twice"));
+        assertEquals(expected, iterated);
+    }
+
+    @Test
+    void resizeKeepsEveryMapping() {
+        MxLongObjectMap<Long> map = new MxLongObjectMap<>(0);
+        int count = 10_000;
+        for (long i = 0; i < count; i++) {
+            assertNull(map.put(i * 31 - 5_000, i));
+        }
+        assertEquals(count, map.size());
+        for (long i = 0; i < count; i += 2) {
+            assertEquals(Long.valueOf(i), map.remove(i * 31 - 5_000));
+        }
+        for (long i = 0; i < count; i++) {
+            if (i % 2 == 0) {
+                assertFalse(map.containsKey(i * 31 - 5_000));
+            } else {
+                assertEquals(Long.valueOf(i), map.get(i * 31 - 5_000));
+            }
+        }
+        assertEquals(count / 2, map.size());
+
+        Long existing = map.get(31 - 5_000);
+        assertSame(existing, map.putIfAbsent(31 - 5_000, -1L));
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertNull(map.get(31 - 5_000));
+    }
+
+    /**
+     * Finds keys whose home slot in a table of {@link #SMALL_CAPACITY} is {@code slot}, using the
+     * same hash as the map.
+     */
+    private static List<Long> keysWithSlot(int slot, int count) {
+        List<Long> keys = new ArrayList<>();
+        for (long key = 1; keys.size() < count; key++) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            if (((int) (h ^ (h >>> 32)) & (SMALL_CAPACITY - 1)) == slot) keys.add(key);
+        }
+        return keys;
+    }
+
+    private static long[] keys(MxLongObjectMap<?> map) throws ReflectiveOperationException {
+        Field field = MxLongObjectMap.class.getDeclaredField("keys");
+        field.setAccessible(true);
+        return (long[]) field.get(map);
+    }
+}